@@ -0,0 +1,63 @@
+package com.charging.domain.entity;
+
+import com.charging.domain.enums.ChargingStateEnum;
+import com.charging.domain.enums.TransactionEventEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transaction 엔티티 벤치마크
+ * - 누적 에너지 계산 (BigDecimal 뺄셈 + 나눗셈)
+ * - 빌더로 엔티티 생성 (@Builder.Default 컬렉션 포함 할당 비용)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransactionBenchmark {
+
+    private Transaction transaction;
+    private LocalDateTime now;
+    private BigDecimal startMeterValue;
+    private BigDecimal stopMeterValue;
+
+    @Setup
+    public void setUp() {
+        now = LocalDateTime.now();
+        startMeterValue = new BigDecimal("152340.125");
+        stopMeterValue = new BigDecimal("184721.870");
+        transaction = build();
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalEnergy() {
+        transaction.recordMeterValues(startMeterValue, stopMeterValue);
+        return transaction.getTotalEnergy();
+    }
+
+    @Benchmark
+    public Transaction builder() {
+        return build();
+    }
+
+    private Transaction build() {
+        return Transaction.builder()
+                .transactionId("TXN-0000000000001")
+                .evseId(1)
+                .stationId("STATION-001")
+                .connectorId(1)
+                .idToken("TOKEN-001")
+                .eventType(TransactionEventEnum.STARTED)
+                .chargingState(ChargingStateEnum.IDLE)
+                .startTime(now)
+                .build();
+    }
+}
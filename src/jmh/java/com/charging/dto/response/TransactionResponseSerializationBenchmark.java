@@ -0,0 +1,65 @@
+package com.charging.dto.response;
+
+import com.charging.domain.enums.ChargingStateEnum;
+import com.charging.domain.enums.TransactionEventEnum;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TransactionResponse JSON 직렬화 벤치마크
+ * Spring MVC와 같은 설정(Jackson2ObjectMapperBuilder - JavaTimeModule, ISO-8601 날짜)으로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransactionResponseSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private ObjectMapper objectMapper;
+    private TransactionResponse response;
+    private List<TransactionResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        response = response(1);
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(response(i));
+        }
+    }
+
+    @Benchmark
+    public byte[] single() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public byte[] page() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    private static TransactionResponse response(int index) {
+        LocalDateTime startTime = LocalDateTime.of(2025, 6, 1, 9, 0).plusMinutes(index);
+        return new TransactionResponse(
+                String.format("TXN-%013d", index), "STATION-001", 1, 1, "TOKEN-001",
+                TransactionEventEnum.ENDED, ChargingStateEnum.IDLE,
+                startTime, startTime.plusMinutes(45), new BigDecimal("32.382"), "Local");
+    }
+}
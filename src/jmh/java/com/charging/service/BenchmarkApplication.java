@@ -0,0 +1,73 @@
+package com.charging.service;
+
+import com.charging.ChargingDomainApplication;
+import com.charging.domain.entity.Evse;
+import com.charging.domain.entity.Station;
+import com.charging.domain.repository.StationRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+
+/**
+ * 서비스 벤치마크용 애플리케이션 컨텍스트
+ * dev 프로파일(H2 in-memory, ddl-auto)로 띄우고, 측정에 방해되는 SQL / 애플리케이션 로그와 느린 SQL 감지는 끕니다.
+ * 추가 프로파일(virtual 등)을 함께 활성화할 수 있습니다.
+ */
+final class BenchmarkApplication {
+
+    static final String STATION_ID = "BENCH-STATION";
+    static final int EVSE_COUNT = 8;
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... additionalProfiles) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ChargingDomainApplication.class)
+                .profiles("dev")
+                .profiles(additionalProfiles)
+                // 커맨드라인 인자로 넘겨 dev 프로파일 설정보다 우선 적용
+                .run(
+                        "--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--spring.jpa.properties.hibernate.use_sql_comments=false",
+                        "--spring.h2.console.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.charging=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.orm.jdbc.bind=WARN",
+                        "--charging.sql.slow-query.enabled=false");
+        addStation(context, STATION_ID);
+        return context;
+    }
+
+    /**
+     * EVSE_COUNT개의 EVSE를 가진 충전소 등록
+     */
+    static void addStation(ConfigurableApplicationContext context, String stationId) {
+        context.getBean(StationRepository.class).save(station(stationId, EVSE_COUNT));
+    }
+
+    /**
+     * evseCount개의 EVSE를 가진 충전소 (저장 전)
+     */
+    static Station station(String stationId, int evseCount) {
+        Station station = Station.builder()
+                .stationId(stationId)
+                .powerGridCapacity(new BigDecimal("1000.00"))
+                .maxPriceLimit(new BigDecimal("500.00"))
+                .algorithmMode(0)
+                .timeExtensionFactor(new BigDecimal("1.00"))
+                .maxIterationCount(100)
+                .billingPowerId(1L)
+                .build();
+        for (int evseId = 1; evseId <= evseCount; evseId++) {
+            station.addEvse(Evse.builder()
+                    .evseId(evseId)
+                    .maxPower(new BigDecimal("50.00"))
+                    .build());
+        }
+        return station;
+    }
+}
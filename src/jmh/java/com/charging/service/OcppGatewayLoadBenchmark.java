@@ -0,0 +1,284 @@
+package com.charging.service;
+
+import com.charging.domain.entity.Station;
+import com.charging.domain.repository.StationRepository;
+import com.charging.ocpp.message.EvseType;
+import com.charging.ocpp.message.IdTokenType;
+import com.charging.ocpp.message.TransactionEventRequest;
+import com.charging.ocpp.message.TransactionType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OCPP 2.0.1 WebSocket 게이트웨이 부하 벤치마크 (H2 in-memory, 실제 WebSocket)
+ * 충전소 stations개가 모두 접속한 상태에서 무작위 충전소로 CALL을 보내고 CALLRESULT까지의 처리량 / 지연 시간을 측정합니다.
+ *
+ * - heartbeat: Heartbeat 1건 (인메모리 처리만)
+ * - transactionCycle: TransactionEvent Started → Updated(Charging) → Ended (DB 기록 포함, 왕복 3회)
+ *
+ * 측정 스레드마다 서로 다른 충전소 집합을 사용하므로 한 충전소의 메시지 순서가 섞이지 않습니다.
+ * CALLERROR / 응답 시간 초과는 errors 보조 카운터로 기록됩니다.
+ *
+ * 충전소 10,000개는 서버 / 클라이언트 합쳐 약 20,000개의 소켓을 사용하므로 ulimit -n을 충분히 올려서 실행합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class OcppGatewayLoadBenchmark {
+
+    private static final String PASSWORD = "bench-basic-auth-password";
+    private static final int SAVE_CHUNK = 500;
+    private static final long RESPONSE_TIMEOUT_SECONDS = 10;
+
+    @Param({"1000", "10000"})
+    private int stations;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private ExecutorService clientExecutor;
+    private HttpClient httpClient;
+    private List<StationClient> clients;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Tomcat 기본 최대 연결 수(8192)보다 많은 충전소가 접속할 수 있도록
+        System.setProperty("server.tomcat.max-connections", String.valueOf(stations * 2));
+        context = BenchmarkApplication.start();
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        StationRepository stationRepository = context.getBean(StationRepository.class);
+        StationCredentialService stationCredentialService = context.getBean(StationCredentialService.class);
+        List<Station> chunk = new ArrayList<>(SAVE_CHUNK);
+        for (int station = 0; station < stations; station++) {
+            chunk.add(BenchmarkApplication.station(stationId(station), 1));
+            if (chunk.size() == SAVE_CHUNK || station == stations - 1) {
+                stationRepository.saveAll(chunk);
+                chunk.clear();
+            }
+        }
+        for (int station = 0; station < stations; station++) {
+            stationCredentialService.changeBasicAuthPassword(stationId(station), PASSWORD);
+        }
+
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder()
+                .executor(clientExecutor)
+                .build();
+        String baseUrl = "ws://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/ocpp/";
+
+        List<CompletableFuture<StationClient>> connecting = new ArrayList<>(stations);
+        for (int station = 0; station < stations; station++) {
+            connecting.add(StationClient.connect(httpClient, objectMapper, baseUrl, stationId(station)));
+        }
+        clients = connecting.stream().map(CompletableFuture::join).toList();
+        for (StationClient client : clients) {
+            client.call("BootNotification", Map.of(
+                    "reason", "PowerUp",
+                    "chargingStation", Map.of("model", "BENCH", "vendorName", "BENCH")));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clients.forEach(StationClient::close);
+        httpClient.close();
+        clientExecutor.close();
+        context.close();
+        System.clearProperty("server.tomcat.max-connections");
+    }
+
+    private static String stationId(int station) {
+        return "OCPP-BENCH-" + station;
+    }
+
+    /**
+     * 측정 스레드별 충전소 집합 / 실패한 CALL 카운터
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Caller {
+
+        public long errors;
+        private int threadIndex;
+        private int threadCount;
+        private long transactionSequence;
+
+        @Setup(Level.Iteration)
+        public void reset(ThreadParams threadParams) {
+            errors = 0;
+            threadIndex = threadParams.getThreadIndex();
+            threadCount = threadParams.getThreadCount();
+        }
+
+        StationClient pick(List<StationClient> clients) {
+            int slots = clients.size() / threadCount;
+            return clients.get(ThreadLocalRandom.current().nextInt(slots) * threadCount + threadIndex);
+        }
+
+        String nextTransactionId() {
+            return "OCPP-BENCH-TX-" + threadIndex + "-" + transactionSequence++;
+        }
+    }
+
+    @Benchmark
+    public JsonNode heartbeat(Caller caller) {
+        return callOrCount(caller, caller.pick(clients), "Heartbeat", Map.of());
+    }
+
+    @Benchmark
+    public JsonNode transactionCycle(Caller caller) {
+        StationClient client = caller.pick(clients);
+        String transactionId = caller.nextTransactionId();
+        callOrCount(caller, client, "TransactionEvent", transactionEvent("Started", "Authorized", 0,
+                new TransactionType(transactionId, "EVConnected", null)));
+        callOrCount(caller, client, "TransactionEvent", transactionEvent("Updated", "ChargingStateChanged", 1,
+                new TransactionType(transactionId, "Charging", null)));
+        return callOrCount(caller, client, "TransactionEvent", transactionEvent("Ended", "StopAuthorized", 2,
+                new TransactionType(transactionId, "Idle", "Local")));
+    }
+
+    private static TransactionEventRequest transactionEvent(String eventType, String triggerReason, int seqNo,
+                                                            TransactionType transactionInfo) {
+        return new TransactionEventRequest(eventType, OffsetDateTime.now(), triggerReason, seqNo, false,
+                transactionInfo, new EvseType(1, 1), new IdTokenType("BENCH-TOKEN", "Central"), null);
+    }
+
+    private static JsonNode callOrCount(Caller caller, StationClient client, String action, Object payload) {
+        try {
+            JsonNode response = client.call(action, payload);
+            if (response.get(0).intValue() != StationClient.CALL_RESULT) {
+                caller.errors++;
+            }
+            return response;
+        } catch (IllegalStateException e) {
+            caller.errors++;
+            return null;
+        }
+    }
+
+    /**
+     * 충전소 하나의 OCPP-J 클라이언트 (CALL을 보내고 같은 메시지 ID의 응답을 기다림)
+     * 한 번에 한 스레드만 CALL을 보냅니다.
+     */
+    static final class StationClient implements WebSocket.Listener {
+
+        static final int CALL = 2;
+        static final int CALL_RESULT = 3;
+
+        private final ObjectMapper objectMapper;
+        private final String stationId;
+        private final Map<String, CompletableFuture<JsonNode>> pending = new ConcurrentHashMap<>();
+        private final AtomicLong messageIds = new AtomicLong();
+        private final StringBuilder partial = new StringBuilder();
+        private WebSocket webSocket;
+
+        private StationClient(ObjectMapper objectMapper, String stationId) {
+            this.objectMapper = objectMapper;
+            this.stationId = stationId;
+        }
+
+        static CompletableFuture<StationClient> connect(HttpClient httpClient, ObjectMapper objectMapper,
+                                                        String baseUrl, String stationId) {
+            StationClient client = new StationClient(objectMapper, stationId);
+            String credentials = Base64.getEncoder()
+                    .encodeToString((stationId + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+            return httpClient.newWebSocketBuilder()
+                    .subprotocols("ocpp2.0.1")
+                    .header("Authorization", "Basic " + credentials)
+                    .buildAsync(URI.create(baseUrl + stationId), client)
+                    .thenApply(webSocket -> {
+                        client.webSocket = webSocket;
+                        return client;
+                    });
+        }
+
+        /**
+         * CALL 전송 후 CALLRESULT / CALLERROR 프레임 반환
+         *
+         * @throws IllegalStateException 전송 실패 또는 응답 시간 초과
+         */
+        JsonNode call(String action, Object payload) {
+            String messageId = Long.toString(messageIds.incrementAndGet());
+            CompletableFuture<JsonNode> response = new CompletableFuture<>();
+            pending.put(messageId, response);
+            try {
+                webSocket.sendText(objectMapper.writeValueAsString(List.of(CALL, messageId, action, payload)), true)
+                        .join();
+                return response.get(RESPONSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("CALL 대기 중 인터럽트: " + stationId, e);
+            } catch (TimeoutException | JsonProcessingException | ExecutionException | CompletionException e) {
+                throw new IllegalStateException("CALL 실패: " + stationId + " " + action, e);
+            } finally {
+                pending.remove(messageId);
+            }
+        }
+
+        @Override
+        public void onOpen(WebSocket webSocket) {
+            webSocket.request(1);
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            partial.append(data);
+            if (last) {
+                try {
+                    JsonNode frame = objectMapper.readTree(partial.toString());
+                    CompletableFuture<JsonNode> response = pending.get(frame.get(1).asText());
+                    if (response != null) {
+                        response.complete(frame);
+                    }
+                } catch (JsonProcessingException e) {
+                    // 잘못된 프레임은 응답 시간 초과로 집계됨
+                } finally {
+                    partial.setLength(0);
+                }
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        void close() {
+            webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "").join();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.charging.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스레드 모드별 REST 엔드포인트 처리량 / 지연 시간 비교 (H2 in-memory, 실제 HTTP)
+ * 같은 엔드포인트 조합을 플랫폼 스레드(기본)와 virtual 프로파일(가상 스레드 + DB 진입 제한)로 실행합니다.
+ *
+ * 한 번의 호출은 concurrency개의 클라이언트 세션을 동시에 실행하고 모두 끝날 때까지 기다립니다.
+ * 세션 하나 = 시작 → 조회 → 충전 상태 변경 → 충전소 목록 페이지 → 종료 (요청 5건)
+ * concurrency가 Tomcat 기본 최대 스레드 수(200)를 넘으면 플랫폼 스레드 모드는 요청이 accept 큐에서 대기합니다.
+ *
+ * 충전소별 실행기 직렬화가 결과를 좌우하지 않도록 세션을 STATION_COUNT개 충전소에 나눕니다.
+ * 실패한 요청 수(2xx가 아닌 응답 / 예외)는 errors 보조 카운터로 기록됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ThreadingModeBenchmark {
+
+    private static final int STATION_COUNT = 16;
+
+    @Param({"platform", "virtual"})
+    private String threading;
+
+    @Param({"100", "400"})
+    private int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private ExecutorService clientExecutor;
+    private HttpClient httpClient;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = "virtual".equals(threading) ? BenchmarkApplication.start("virtual") : BenchmarkApplication.start();
+        for (int station = 1; station < STATION_COUNT; station++) {
+            BenchmarkApplication.addStation(context, stationId(station));
+        }
+        objectMapper = context.getBean(ObjectMapper.class);
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        // 클라이언트는 두 모드 모두 가상 스레드로 실행 (서버 측 스레드 모드만 다르게)
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        clientExecutor.close();
+        context.close();
+    }
+
+    private static String stationId(int station) {
+        return station == 0 ? BenchmarkApplication.STATION_ID : BenchmarkApplication.STATION_ID + "-" + station;
+    }
+
+    /**
+     * 실패한 요청 카운터
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcome {
+
+        public long errors;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            errors = 0;
+        }
+    }
+
+    @Benchmark
+    public int endpointMix(Outcome outcome) throws InterruptedException {
+        List<Future<Integer>> sessions = new ArrayList<>(concurrency);
+        try (ExecutorService sessionExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int session = 0; session < concurrency; session++) {
+                String stationId = stationId(session % STATION_COUNT);
+                int evseId = session / STATION_COUNT % BenchmarkApplication.EVSE_COUNT + 1;
+                sessions.add(sessionExecutor.submit(() -> runSession(stationId, evseId)));
+            }
+        }
+
+        int errors = 0;
+        for (Future<Integer> session : sessions) {
+            try {
+                errors += session.get();
+            } catch (ExecutionException e) {
+                errors++;
+            }
+        }
+        outcome.errors += errors;
+        return errors;
+    }
+
+    /**
+     * @return 실패한 요청 수
+     */
+    private int runSession(String stationId, int evseId) throws IOException, InterruptedException {
+        HttpResponse<String> started = send("POST", "/api/transactions/start?evseId=" + evseId
+                + "&stationId=" + stationId + "&connectorId=1&idToken=BENCH-TOKEN");
+        if (started.statusCode() != 201) {
+            return 1;
+        }
+        String transactionId = objectMapper.readTree(started.body()).get("transactionId").asText();
+
+        int errors = 0;
+        errors += failed(send("GET", "/api/transactions/" + transactionId));
+        errors += failed(send("PATCH", "/api/transactions/" + transactionId + "/charging-state?chargingState=CHARGING"));
+        errors += failed(send("GET", "/api/transactions?stationId=" + stationId + "&size=20"));
+        errors += failed(send("POST", "/api/transactions/" + transactionId + "/stop?stopReason=Local"));
+        return errors;
+    }
+
+    private HttpResponse<String> send(String method, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int failed(HttpResponse<String> response) {
+        return response.statusCode() / 100 == 2 ? 0 : 1;
+    }
+}
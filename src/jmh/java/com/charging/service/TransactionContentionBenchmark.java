@@ -0,0 +1,150 @@
+package com.charging.service;
+
+import com.charging.domain.entity.Transaction;
+import com.charging.domain.enums.ChargingStateEnum;
+import com.charging.dto.response.TransactionResponse;
+import com.charging.exception.ConcurrentUpdateException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 트랜잭션의 충전 상태를 여러 스레드가 동시에 변경할 때의 처리량 / 지연 시간 (H2 in-memory)
+ *
+ * - activeSession: 진행 중인 세션 - 레지스트리에만 반영하고 DB 기록은 ChargingStateWriter가 모아서 처리 (기준선)
+ * - nonActiveDirect: 레지스트리에 없는 세션 (재기동 직후 등) - 매 호출이 DB에서 읽어 UPDATE 하므로
+ *   같은 행을 동시에 수정하면 낙관적 락 충돌 후 OptimisticLockRetry로 재시도
+ * - nonActiveViaStationExecutor: 같은 경로를 충전소별 실행기로 직렬화 (충돌 / 재시도 없음)
+ *
+ * Throughput과 함께 SampleTime으로 p99 지연 시간을 측정합니다.
+ * 보조 카운터
+ * - retries: 반복 구간 동안 늘어난 charging.transaction.conflict.retries (전체 스레드 합계, 첫 번째 스레드에만 기록)
+ * - exhausted: 재시도 후에도 실패한 호출 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class TransactionContentionBenchmark {
+
+    private static final ChargingStateEnum[] STATES = {ChargingStateEnum.CHARGING, ChargingStateEnum.SUSPENDED_EV};
+    private static final String RETRIES_METRIC = "charging.transaction.conflict.retries";
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private StationEventExecutor stationEventExecutor;
+    private MeterRegistry meterRegistry;
+    private String activeTransactionId;
+    private String nonActiveTransactionId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        transactionService = context.getBean(TransactionService.class);
+        stationEventExecutor = context.getBean(StationEventExecutor.class);
+        meterRegistry = context.getBean(MeterRegistry.class);
+
+        activeTransactionId = transactionService.startTransaction(
+                1, BenchmarkApplication.STATION_ID, 1, "BENCH-TOKEN").getTransactionId();
+        Transaction nonActive = transactionService.startTransaction(
+                2, BenchmarkApplication.STATION_ID, 1, "BENCH-TOKEN");
+        nonActiveTransactionId = nonActive.getTransactionId();
+        // 레지스트리에서만 빼서 DB 경로로 처리되게 함 (DB 행은 STARTED 그대로)
+        context.getBean(ActiveSessionRegistry.class).remove(nonActiveTransactionId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private double retriesSoFar() {
+        return meterRegistry.find(RETRIES_METRIC).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    /**
+     * 스레드별 호출 결과 카운터
+     * retries는 전역 카운터라 스레드별로 나눌 수 없으므로 첫 번째 스레드만 반복 구간의 증가분을 기록합니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcome {
+
+        public long exhausted;
+        public long retries;
+        private TransactionContentionBenchmark benchmark;
+        private boolean reportsRetries;
+        private double retriesBaseline;
+        private int sequence;
+
+        @Setup(Level.Iteration)
+        public void reset(TransactionContentionBenchmark benchmark, ThreadParams threadParams) {
+            this.benchmark = benchmark;
+            exhausted = 0;
+            retries = 0;
+            reportsRetries = threadParams.getThreadIndex() == 0;
+            retriesBaseline = benchmark.retriesSoFar();
+        }
+
+        ChargingStateEnum nextState() {
+            return STATES[sequence++ & 1];
+        }
+
+        void recordRetries() {
+            if (reportsRetries) {
+                retries = (long) (benchmark.retriesSoFar() - retriesBaseline);
+            }
+        }
+    }
+
+    @Benchmark
+    public TransactionResponse activeSession(Outcome outcome) {
+        return update(activeTransactionId, outcome);
+    }
+
+    @Benchmark
+    public TransactionResponse nonActiveDirect(Outcome outcome) {
+        return update(nonActiveTransactionId, outcome);
+    }
+
+    @Benchmark
+    public TransactionResponse nonActiveViaStationExecutor(Outcome outcome) {
+        ChargingStateEnum state = outcome.nextState();
+        try {
+            return stationEventExecutor.execute(BenchmarkApplication.STATION_ID,
+                    () -> transactionService.updateChargingState(nonActiveTransactionId, state));
+        } catch (ConcurrentUpdateException e) {
+            outcome.exhausted++;
+            return null;
+        } finally {
+            outcome.recordRetries();
+        }
+    }
+
+    private TransactionResponse update(String transactionId, Outcome outcome) {
+        try {
+            return transactionService.updateChargingState(transactionId, outcome.nextState());
+        } catch (ConcurrentUpdateException e) {
+            outcome.exhausted++;
+            return null;
+        } finally {
+            outcome.recordRetries();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.charging.service;
+
+import com.charging.domain.entity.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TransactionService 시작 / 종료 벤치마크 (H2 in-memory)
+ * 한 번의 호출에 시작과 종료를 함께 수행하여 활성 세션 수가 측정 중에 늘어나지 않게 합니다.
+ * 재시도, 커밋 후 레지스트리 / 스마트 충전 반영까지 포함한 서비스 계층 전체 비용입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        transactionService = context.getBean(TransactionService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Transaction startAndStop() {
+        int evseId = ThreadLocalRandom.current().nextInt(BenchmarkApplication.EVSE_COUNT) + 1;
+        Transaction started = transactionService.startTransaction(
+                evseId, BenchmarkApplication.STATION_ID, 1, "BENCH-TOKEN");
+        return transactionService.stopTransaction(started.getTransactionId(), "Local");
+    }
+}
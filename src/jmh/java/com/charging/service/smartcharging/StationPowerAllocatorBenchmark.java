@@ -0,0 +1,69 @@
+package com.charging.service.smartcharging;
+
+import com.charging.domain.enums.AlgorithmModeEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 충전소 전력 분배 증분 재계산 벤치마크
+ * 커넥터 100개 이상이 충전 중인 충전소에서 세션 하나가 추가 / 제거될 때의 재계산 비용을 알고리즘별로 측정합니다.
+ * 목표: 연산당 1ms 미만 (p99 포함 - SampleTime 결과 참고)
+ *
+ * - addAndRemove: 가장 최근 세션 추가 후 제거 (배열 끝 - 재계산 2회)
+ * - rotateOldest: 가장 오래된 세션 제거 후 새 세션 추가 (배열 앞 - 제거 시 뒤쪽 세션을 모두 당기는 최악의 경우, 재계산 2회)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StationPowerAllocatorBenchmark {
+
+    @Param({"100", "250", "500"})
+    private int sessions;
+
+    @Param({"EQUAL_SHARE", "PROPORTIONAL", "FIRST_COME_FIRST_SERVED"})
+    private AlgorithmModeEnum algorithmMode;
+
+    private StationPowerAllocator allocator;
+    private long sequence;
+    private long oldest;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // 세션 최대 전력 합(세션당 평균 약 12kW)이 수용량의 약 2배 - 분배가 실제로 일어나도록
+        allocator = new StationPowerAllocator("BENCH-STATION", sessions * 6.0, algorithmMode, 100);
+        for (sequence = 0; sequence < sessions; sequence++) {
+            addSession(sequence);
+        }
+        oldest = 0;
+    }
+
+    @Benchmark
+    public StationAllocation addAndRemove() {
+        String transactionId = "TX-NEW";
+        allocator.addSession(transactionId, 1, 1, 1.4, 22.0);
+        allocator.removeSession(transactionId);
+        return allocator.getSnapshot();
+    }
+
+    @Benchmark
+    public StationAllocation rotateOldest() {
+        allocator.removeSession("TX-" + oldest++);
+        addSession(sequence++);
+        return allocator.getSnapshot();
+    }
+
+    private void addSession(long index) {
+        // 완속 (7kW) / 급속 (22kW) 커넥터를 섞어 최대 전력이 서로 다르도록
+        double maxPowerKw = index % 3 == 0 ? 22.0 : 7.4;
+        allocator.addSession("TX-" + index, (int) (index / 2) + 1, (int) (index % 2) + 1, 1.4, maxPowerKw);
+    }
+}
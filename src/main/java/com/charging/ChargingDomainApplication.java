@@ -2,13 +2,19 @@ package com.charging;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * OCPP 2.0 충전기 도메인 애플리케이션
  * JPA 학습을 위한 Spring Boot 애플리케이션
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan(basePackages = "com.charging.config")
+@EnableCaching
+@EnableScheduling
 @EnableJpaRepositories(basePackages = "com.charging.domain.repository")
 public class ChargingDomainApplication {
 
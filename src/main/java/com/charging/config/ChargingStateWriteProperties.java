@@ -0,0 +1,39 @@
+package com.charging.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 트랜잭션 충전 상태 write-behind 설정
+ * charging.charging-state.* 프로퍼티와 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "charging.charging-state")
+public class ChargingStateWriteProperties {
+
+    /**
+     * 상태 변경을 모아서 DB에 기록하는 주기
+     * 같은 트랜잭션의 변경은 주기 안에서 마지막 상태 하나로 합쳐집니다 (이력은 모두 기록).
+     */
+    private Duration flushInterval = Duration.ofMillis(500);
+
+    /**
+     * 한 번에 기록하는 최대 트랜잭션 수 (JDBC 배치 크기)
+     */
+    private int batchSize = 500;
+
+    /**
+     * 기록 대기 중인 상태 변경 이력 최대 개수 (가득 차면 새 이력은 버리고 메트릭으로 집계)
+     */
+    private int historyCapacity = 100_000;
+
+    /**
+     * 이력 배치 하나의 최대 기록 시도 횟수
+     * 넘으면 배치를 한 건씩 기록하고, 그래도 실패하는 이력은 로그를 남기고 버립니다.
+     */
+    private int historyMaxAttempts = 3;
+}
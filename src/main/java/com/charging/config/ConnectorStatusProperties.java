@@ -0,0 +1,28 @@
+package com.charging.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 커넥터 상태 write-behind 설정
+ * charging.connector-status.* 프로퍼티와 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "charging.connector-status")
+public class ConnectorStatusProperties {
+
+    /**
+     * 상태 변경을 모아서 DB에 기록하는 주기
+     * 같은 커넥터의 변경은 주기 안에서 마지막 상태 하나로 합쳐집니다.
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * 한 번에 기록하는 최대 변경 수 (JDBC 배치 크기)
+     */
+    private int batchSize = 500;
+}
@@ -0,0 +1,28 @@
+package com.charging.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 대용량 내보내기 설정
+ * charging.export.* 프로퍼티와 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "charging.export")
+public class ExportProperties {
+
+    /**
+     * 동시에 실행할 수 있는 최대 내보내기 수
+     * 내보내기는 끝날 때까지 커넥션 하나를 점유하므로 커넥션 풀(maximum-pool-size)보다 충분히 작게 둡니다.
+     */
+    private int maxConcurrent = 2;
+
+    /**
+     * 동시 실행 수를 넘어 거절할 때 응답하는 Retry-After
+     */
+    private Duration retryAfter = Duration.ofSeconds(30);
+}
@@ -0,0 +1,37 @@
+package com.charging.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 현재 스레드에서 Hibernate가 준비한 SQL 문 수를 세는 StatementInspector
+ * SQL은 바꾸지 않고 그대로 반환합니다.
+ *
+ * 요청 단위 집계는 HibernateStatementMetricsFilter가 요청 시작 시 reset, 종료 시 get으로 수행합니다.
+ * 다른 스레드(StationEventExecutor)로 넘긴 작업은 그 스레드에서 센 수를 add로 호출한 스레드에 더합니다.
+ * JdbcTemplate으로 직접 실행하는 SQL(미터 값 배치 INSERT 등)은 포함되지 않습니다.
+ */
+public class HibernateStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    /**
+     * 다른 스레드에서 실행된 SQL 수를 현재 스레드에 더함
+     */
+    public static void add(int count) {
+        COUNT.get()[0] += count;
+    }
+
+    public static int get() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,46 @@
+package com.charging.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청당 Hibernate SQL 문 수 기록 (charging.http.db.statements, uri 패턴 / method 태그)
+ * N+1 같은 쿼리 수 증가를 요청 단위로 확인할 수 있습니다.
+ *
+ * 요청 스레드에서 실행된 SQL과, StationEventExecutor.execute로 충전소 워커에 넘겨 실행한 SQL을 셉니다
+ * (StreamingResponseBody 등 비동기 처리 구간 제외).
+ */
+public class HibernateStatementMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    public HibernateStatementMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        HibernateStatementCounter.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("charging.http.db.statements")
+                    .description("요청당 Hibernate SQL 문 수")
+                    .tags("uri", pattern != null ? pattern.toString() : UNKNOWN_URI, "method", request.getMethod())
+                    .register(meterRegistry)
+                    .record(HibernateStatementCounter.get());
+        }
+    }
+}
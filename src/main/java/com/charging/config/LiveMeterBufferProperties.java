@@ -0,0 +1,21 @@
+package com.charging.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 진행 중인 세션의 최근 측정값 버퍼 설정
+ * charging.meter-value.live.* 프로퍼티와 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "charging.meter-value.live")
+public class LiveMeterBufferProperties {
+
+    /**
+     * 트랜잭션 / 측정값 종류별로 보관하는 최근 샘플 수
+     * 가득 차면 가장 오래된 샘플부터 덮어씁니다 (30초 주기 기준 120개 = 1시간).
+     */
+    private int capacity = 120;
+}
@@ -0,0 +1,48 @@
+package com.charging.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 미터 값 수집 파이프라인 설정
+ * charging.meter-value.ingestion.* 프로퍼티와 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "charging.meter-value.ingestion")
+public class MeterValueIngestionProperties {
+
+    /**
+     * 메모리 버퍼(큐) 최대 크기
+     * 가득 차면 신규 요청은 backpressure로 거절됩니다.
+     */
+    private int queueCapacity = 50_000;
+
+    /**
+     * 한 번에 flush하는 최대 샘플 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 배치가 다 차지 않아도 flush하는 최대 대기 시간
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * 큐가 가득 찼을 때 빈 자리를 기다리는 최대 시간
+     */
+    private Duration offerTimeout = Duration.ofMillis(100);
+
+    /**
+     * 배치 기록 최대 시도 횟수 (모두 실패하면 배치를 버림)
+     */
+    private int writeMaxAttempts = 3;
+
+    /**
+     * 배치 기록 재시도 기본 대기 시간 (시도마다 2배)
+     */
+    private Duration writeRetryBackoff = Duration.ofMillis(500);
+}
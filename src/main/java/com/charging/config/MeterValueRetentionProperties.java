@@ -0,0 +1,35 @@
+package com.charging.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 미터 값 집계 / 보존 기간 설정
+ * charging.meter-value.retention.* 프로퍼티와 매핑됩니다.
+ *
+ * 실행 주기(rollup-interval, purge-cron)는 MeterValueRollupService의 @Scheduled에서 직접 읽습니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "charging.meter-value.retention")
+public class MeterValueRetentionProperties {
+
+    /**
+     * 원본 METER_VALUE 보존 기간 (일 단위로 삭제되며, 집계되지 않은 구간은 삭제하지 않음)
+     */
+    private Duration rawRetention = Duration.ofDays(30);
+
+    /**
+     * 집계 대기 시간
+     * 구간이 끝난 후 이 시간이 지나야 집계합니다 (늦게 도착하는 샘플 수용).
+     */
+    private Duration lateArrivalGrace = Duration.ofMinutes(5);
+
+    /**
+     * 1회 실행에서 집계하는 최대 15분 구간 수 (재기동 후 밀린 구간을 나눠서 처리)
+     */
+    private int maxWindowsPerRun = 96;
+}
@@ -0,0 +1,71 @@
+package com.charging.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * 메트릭 설정 (actuator /actuator/metrics, /actuator/prometheus)
+ *
+ * - charging.http.db.statements: 요청당 Hibernate SQL 문 수
+ * - charging.db.pool.saturation: 커넥션 풀 사용률 (active / max, 1에 가까우면 커넥션 대기 발생)
+ *   (풀 상세 지표는 Spring Boot가 hikaricp.connections.* 로 함께 기록)
+ *
+ * 트랜잭션 처리 / 충전소 실행기 / 미터 값 수집 메트릭은 각 컴포넌트에서 등록합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+
+    /**
+     * Hibernate SQL 수 집계용 StatementInspector 등록
+     */
+    @Bean
+    HibernatePropertiesCustomizer hibernateStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new HibernateStatementCounter());
+    }
+
+    @Bean
+    FilterRegistrationBean<HibernateStatementMetricsFilter> hibernateStatementMetricsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<HibernateStatementMetricsFilter> registration =
+                new FilterRegistrationBean<>(new HibernateStatementMetricsFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    /**
+     * 커넥션 풀 사용률 (가상 스레드 모드의 진입 제한 DataSource로 감싸져 있어도 Hikari를 찾아서 사용)
+     */
+    @Bean
+    MeterBinder connectionPoolSaturationMetrics(DataSource dataSource) {
+        return registry -> {
+            HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+            if (hikari == null) {
+                return;
+            }
+            Gauge.builder("charging.db.pool.saturation", hikari, MetricsConfig::saturation)
+                    .description("커넥션 풀 사용률 (active / max)")
+                    .tag("pool", String.valueOf(hikari.getPoolName()))
+                    .register(registry);
+        };
+    }
+
+    private static double saturation(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        int max = hikari.getMaximumPoolSize();
+        if (pool == null || max <= 0) {
+            return 0;
+        }
+        return (double) pool.getActiveConnections() / max;
+    }
+}
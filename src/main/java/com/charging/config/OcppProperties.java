@@ -0,0 +1,48 @@
+package com.charging.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * OCPP 2.0.1 WebSocket 게이트웨이 설정
+ * charging.ocpp.* 프로퍼티와 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "charging.ocpp")
+public class OcppProperties {
+
+    /**
+     * WebSocket 엔드포인트 경로 (마지막 경로 세그먼트가 충전소 ID)
+     */
+    private String path = "/ocpp";
+
+    /**
+     * BootNotification 응답으로 내려주는 Heartbeat 주기
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(300);
+
+    /**
+     * 메시지가 없을 때 세션을 끊는 시간 (Heartbeat 주기보다 충분히 길게)
+     */
+    private Duration idleTimeout = Duration.ofSeconds(900);
+
+    /**
+     * 수신 텍스트 메시지 최대 크기
+     */
+    private DataSize maxTextMessageSize = DataSize.ofKilobytes(64);
+
+    /**
+     * 세션당 송신 대기 최대 시간 (느린 충전소가 송신 스레드를 붙잡지 않도록)
+     */
+    private Duration sendTimeLimit = Duration.ofSeconds(10);
+
+    /**
+     * 세션당 송신 버퍼 최대 크기
+     */
+    private DataSize sendBufferSizeLimit = DataSize.ofKilobytes(512);
+}
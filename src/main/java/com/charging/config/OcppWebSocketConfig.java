@@ -0,0 +1,114 @@
+package com.charging.config;
+
+import com.charging.ocpp.OcppWebSocketHandler;
+import com.charging.service.StationCredentialService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * OCPP 2.0.1 WebSocket 게이트웨이 설정
+ *
+ * 충전소는 ws://{host}/ocpp/{stationId} 로 접속하며 (서브프로토콜 ocpp2.0.1),
+ * 핸드셰이크는 OCPP Security Profile 1 (HTTP Basic, 사용자 이름 = 충전소 ID)로 인증합니다.
+ * 등록되지 않은 충전소, 비밀번호가 설정되지 않은 충전소, 인증 실패는 모두 401로 거절합니다.
+ *
+ * 충전소는 브라우저가 아니므로 교차 출처 접속은 허용하지 않습니다 (Origin 헤더가 없는 요청만 통과).
+ */
+@Slf4j
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class OcppWebSocketConfig implements WebSocketConfigurer {
+
+    private final OcppWebSocketHandler ocppWebSocketHandler;
+    private final StationCredentialService stationCredentialService;
+    private final OcppProperties properties;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(ocppWebSocketHandler, properties.getPath() + "/*")
+                .addInterceptors(new StationHandshakeInterceptor());
+    }
+
+    /**
+     * 세션별 수신 버퍼 크기 / 유휴 타임아웃 설정 (Tomcat WebSocket 컨테이너)
+     */
+    @Bean
+    public ServletServerContainerFactoryBean webSocketContainer() {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxTextMessageBufferSize((int) properties.getMaxTextMessageSize().toBytes());
+        container.setMaxSessionIdleTimeout(properties.getIdleTimeout().toMillis());
+        return container;
+    }
+
+    /**
+     * 접속 경로의 충전소 ID로 Basic 인증 후 세션 속성으로 전달
+     */
+    private class StationHandshakeInterceptor implements HandshakeInterceptor {
+
+        private static final String BASIC_PREFIX = "Basic ";
+
+        @Override
+        public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                       WebSocketHandler wsHandler, Map<String, Object> attributes) {
+            String path = request.getURI().getPath();
+            String stationId = path.substring(path.lastIndexOf('/') + 1);
+
+            String password = basicPassword(request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION), stationId);
+            if (stationId.isBlank() || password == null
+                    || !stationCredentialService.authenticate(stationId, password)) {
+                log.warn("OCPP 접속 거절 - 인증 실패: stationId={}", stationId);
+                response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Basic realm=\"OCPP\"");
+                response.setStatusCode(HttpStatus.UNAUTHORIZED);
+                return false;
+            }
+
+            attributes.put(OcppWebSocketHandler.STATION_ID_ATTRIBUTE, stationId);
+            return true;
+        }
+
+        /**
+         * Authorization: Basic base64(stationId:password) 의 비밀번호
+         *
+         * @return 헤더가 없거나 형식이 잘못되었거나 사용자 이름이 접속 경로의 충전소 ID와 다르면 null
+         */
+        private String basicPassword(String authorization, String stationId) {
+            if (authorization == null || !authorization.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+                return null;
+            }
+            String credentials;
+            try {
+                credentials = new String(Base64.getDecoder().decode(authorization.substring(BASIC_PREFIX.length()).trim()),
+                        StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+            int separator = credentials.indexOf(':');
+            if (separator < 0 || !credentials.substring(0, separator).equals(stationId)) {
+                return null;
+            }
+            return credentials.substring(separator + 1);
+        }
+
+        @Override
+        public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Exception exception) {
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.charging.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 충전소 일괄 등록 설정
+ * charging.provisioning.* 프로퍼티와 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "charging.provisioning")
+public class ProvisioningProperties {
+
+    /**
+     * DB 트랜잭션 하나에 기록하는 충전소 수
+     * 충전소 / EVSE / 커넥터를 각각 하나의 JDBC 배치로 기록합니다.
+     */
+    private int chunkSize = 100;
+
+    /**
+     * 요청 하나에 담을 수 있는 최대 충전소 수
+     */
+    private int maxStations = 5000;
+
+    /**
+     * 응답에 담는 최대 검증 오류 수
+     */
+    private int maxReportedErrors = 100;
+}
@@ -0,0 +1,67 @@
+package com.charging.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * 느린 SQL 로그 설정 (charging.sql.slow-query.enabled=false 이면 적용하지 않음)
+ *
+ * 애플리케이션 DataSource를 SlowQueryDataSource로 감싸 임계값 이상 걸린 SQL만 비동기로 기록하고,
+ * 가장 느린 SQL 상위 N개를 /actuator/slowqueries 로 제공합니다.
+ * 가상 스레드 모드의 진입 제한 DataSource보다 바깥에서 감싸므로 측정 시간에 permit 대기는 포함되지 않습니다.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "charging.sql.slow-query", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    @Bean
+    SlowQueryLog slowQueryLog(SlowQueryProperties properties, MeterRegistry meterRegistry) {
+        return new SlowQueryLog(properties, meterRegistry);
+    }
+
+    @Bean
+    SlowQueryEndpoint slowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        return new SlowQueryEndpoint(slowQueryLog);
+    }
+
+    @Bean
+    static SlowQueryDataSourcePostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new SlowQueryDataSourcePostProcessor(slowQueryLog);
+    }
+
+    /**
+     * DataSource를 SlowQueryDataSource로 감쌈
+     * 다른 DataSource 래퍼(진입 제한 등)보다 나중에 적용되도록 가장 낮은 우선순위를 가집니다.
+     */
+    static class SlowQueryDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<SlowQueryLog> slowQueryLog;
+
+        SlowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+            this.slowQueryLog = slowQueryLog;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof SlowQueryDataSource)) {
+                log.info("느린 SQL 감지 적용: dataSource={}", beanName);
+                return new SlowQueryDataSource(dataSource, slowQueryLog.getObject());
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.charging.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 느린 SQL 감지 DataSource
+ *
+ * 커넥션 / Statement 프록시로 execute* 호출 시간을 재고, 임계값 이상이면 SlowQueryLog에 SQL과 바인딩 파라미터를 넘깁니다.
+ * show-sql / 바인딩 TRACE 로그와 달리 모든 SQL을 포맷하거나 동기로 로그하지 않습니다.
+ * (PreparedStatement의 set* 값은 인덱스 배열에 참조만 보관하고, 문자열 변환은 느린 SQL일 때만 수행)
+ */
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    private static final Class<?>[] CONNECTION_TYPES = {Connection.class};
+    private static final Class<?>[] STATEMENT_TYPES = {Statement.class};
+    private static final Class<?>[] PREPARED_STATEMENT_TYPES = {PreparedStatement.class};
+    private static final Class<?>[] CALLABLE_STATEMENT_TYPES = {CallableStatement.class};
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryDataSource(DataSource targetDataSource, SlowQueryLog slowQueryLog) {
+        super(targetDataSource);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> Proxy.newProxyInstance(Statement.class.getClassLoader(), STATEMENT_TYPES,
+                        new StatementHandler((Statement) result, null));
+                case "prepareStatement" -> Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                        PREPARED_STATEMENT_TYPES, new StatementHandler((Statement) result, (String) args[0]));
+                case "prepareCall" -> Proxy.newProxyInstance(CallableStatement.class.getClassLoader(),
+                        CALLABLE_STATEMENT_TYPES, new StatementHandler((Statement) result, (String) args[0]));
+                default -> result;
+            };
+        };
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), CONNECTION_TYPES, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * Statement 프록시 - 바인딩 파라미터 보관 + 실행 시간 측정
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final List<Object> parameters = new ArrayList<>();
+        private int batchSize;
+
+        StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if ("setNull".equals(name) && args[0] instanceof Integer index) {
+                bind(index, null);
+            } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, args[1]);
+            } else if ("clearParameters".equals(name)) {
+                parameters.clear();
+            } else if ("addBatch".equals(name)) {
+                batchSize++;
+            } else if ("clearBatch".equals(name)) {
+                batchSize = 0;
+            }
+            return SlowQueryDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            long startedAt = System.nanoTime();
+            try {
+                return SlowQueryDataSource.invoke(target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - startedAt;
+                if (slowQueryLog.isSlow(elapsed)) {
+                    String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                    slowQueryLog.record(sql != null ? sql : "(statement batch)", parameters, elapsed, batchSize);
+                }
+                if (method.getName().contains("Batch")) {
+                    batchSize = 0;
+                }
+            }
+        }
+
+        /**
+         * JDBC 파라미터 인덱스는 1부터 시작
+         */
+        private void bind(int index, Object value) {
+            while (parameters.size() < index) {
+                parameters.add(null);
+            }
+            parameters.set(index - 1, value);
+        }
+    }
+}
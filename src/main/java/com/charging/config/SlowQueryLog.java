@@ -0,0 +1,141 @@
+package com.charging.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 느린 SQL 기록기
+ *
+ * - 임계값 이상 걸린 SQL을 바인딩 파라미터와 함께 별도 스레드에서 비동기로 로그 (sampleRate 비율만)
+ * - 가장 느린 SQL 상위 N개를 메모리에 보관 (/actuator/slowqueries)
+ * - 메트릭: charging.sql.slow (느린 SQL 수), charging.sql.slow.log.dropped (대기열이 가득 차서 버린 로그 수)
+ *
+ * 임계값 미만의 SQL은 시간 비교 외에 아무 비용도 들지 않습니다.
+ */
+@Slf4j
+public class SlowQueryLog implements DisposableBean {
+
+    private static final Comparator<SlowQuery> BY_DURATION = Comparator.comparingLong(SlowQuery::durationMicros);
+
+    private final SlowQueryProperties properties;
+    private final long thresholdNanos;
+    private final ThreadPoolExecutor logWriter;
+    private final Counter slowCounter;
+    private final Counter droppedCounter;
+
+    /**
+     * 가장 느린 SQL 상위 N개 (min-heap - 가장 빠른 항목이 head)
+     */
+    private final PriorityQueue<SlowQuery> slowest = new PriorityQueue<>(BY_DURATION);
+
+    public SlowQueryLog(SlowQueryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.thresholdNanos = properties.getThreshold().toNanos();
+        this.slowCounter = Counter.builder("charging.sql.slow")
+                .description("임계값 이상 걸린 SQL 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("charging.sql.slow.log.dropped")
+                .description("로그 대기열이 가득 차서 버린 느린 SQL 로그 수")
+                .register(meterRegistry);
+        Counter dropped = this.droppedCounter;
+        this.logWriter = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getLogQueueCapacity()),
+                Thread.ofPlatform().daemon().name("slow-query-log").factory(),
+                (task, executor) -> dropped.increment());
+    }
+
+    /**
+     * 느린 SQL 기록 대상인지 여부
+     */
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    /**
+     * 느린 SQL 기록 (isSlow인 경우에만 호출)
+     *
+     * @param parameters 바인딩 파라미터 (인덱스 순, 없으면 빈 목록)
+     * @param batchSize  JDBC 배치 건수 (배치가 아니면 0)
+     */
+    public void record(String sql, List<Object> parameters, long elapsedNanos, int batchSize) {
+        SlowQuery query = new SlowQuery(sql, formatParameters(parameters), TimeUnit.NANOSECONDS.toMicros(elapsedNanos),
+                batchSize, LocalDateTime.now(), Thread.currentThread().getName());
+        slowCounter.increment();
+        addToSlowest(query);
+
+        if (properties.getSampleRate() < 1.0 && ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate()) {
+            return;
+        }
+        logWriter.execute(() -> log.warn("느린 SQL: {}ms, batch={}, thread={}, sql={}, params={}",
+                query.durationMicros() / 1000.0, query.batchSize(), query.thread(), query.sql(), query.parameters()));
+    }
+
+    /**
+     * 가장 느린 SQL 목록 (느린 순)
+     */
+    public synchronized List<SlowQuery> getSlowest() {
+        List<SlowQuery> result = new ArrayList<>(slowest);
+        result.sort(BY_DURATION.reversed());
+        return result;
+    }
+
+    public synchronized void reset() {
+        slowest.clear();
+    }
+
+    @Override
+    public void destroy() {
+        logWriter.shutdown();
+    }
+
+    private synchronized void addToSlowest(SlowQuery query) {
+        if (slowest.size() < properties.getTopN()) {
+            slowest.add(query);
+        } else if (!slowest.isEmpty() && query.durationMicros() > slowest.peek().durationMicros()) {
+            slowest.poll();
+            slowest.add(query);
+        }
+    }
+
+    private String formatParameters(List<Object> parameters) {
+        if (parameters.isEmpty()) {
+            return "[]";
+        }
+        int maxLength = properties.getMaxParameterLength();
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            String value = String.valueOf(parameters.get(i));
+            builder.append(value.length() > maxLength ? value.substring(0, maxLength) + "..." : value);
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * 느린 SQL 한 건
+     *
+     * @param sql            SQL
+     * @param parameters     바인딩 파라미터 (마지막 배치 항목 기준)
+     * @param durationMicros 실행 시간 (마이크로초)
+     * @param batchSize      JDBC 배치 건수 (배치가 아니면 0)
+     * @param executedAt     실행 완료 시간
+     * @param thread         실행 스레드
+     */
+    public record SlowQuery(String sql, String parameters, long durationMicros, int batchSize,
+                            LocalDateTime executedAt, String thread) {
+    }
+}
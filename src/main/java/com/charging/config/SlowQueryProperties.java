@@ -0,0 +1,48 @@
+package com.charging.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 느린 SQL 로그 설정
+ * charging.sql.slow-query.* 프로퍼티와 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "charging.sql.slow-query")
+public class SlowQueryProperties {
+
+    /**
+     * 느린 SQL 감지 사용 여부 (false면 DataSource를 감싸지 않음)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 이 시간 이상 걸린 SQL만 기록
+     */
+    private Duration threshold = Duration.ofMillis(200);
+
+    /**
+     * 느린 SQL 중 로그로 남기는 비율 (0.0 ~ 1.0)
+     * 상위 N개 보고서와 메트릭에는 샘플링과 관계없이 모두 반영됩니다.
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * 보관하는 가장 느린 SQL 수 (/actuator/slowqueries)
+     */
+    private int topN = 50;
+
+    /**
+     * 비동기 로그 대기열 크기 - 가득 차면 로그를 버림 (요청 스레드를 막지 않음)
+     */
+    private int logQueueCapacity = 1_000;
+
+    /**
+     * 바인딩 파라미터 값 최대 길이 (초과분은 잘라냄)
+     */
+    private int maxParameterLength = 200;
+}
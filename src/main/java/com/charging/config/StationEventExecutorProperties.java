@@ -0,0 +1,34 @@
+package com.charging.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 충전소별 이벤트 실행기 설정
+ * charging.station-executor.* 프로퍼티와 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "charging.station-executor")
+public class StationEventExecutorProperties {
+
+    /**
+     * 플랫폼 스레드 모드의 워커 수 (가상 스레드 모드에서는 사용하지 않음)
+     * 워커는 DB 응답을 기다리는 동안에도 점유되므로 커넥션 풀(maximum-pool-size)보다 크게 잡아
+     * DB를 쓰지 않는 이벤트(Heartbeat 등)가 실행될 여유를 둡니다.
+     */
+    private int workers = 32;
+
+    /**
+     * 충전소당 대기 이벤트 최대 개수 (가득 차면 거절)
+     */
+    private int queueCapacity = 1_000;
+
+    /**
+     * 종료 시 남은 이벤트 실행을 기다리는 최대 시간 (넘으면 남은 이벤트를 버리고 워커를 인터럽트)
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,30 @@
+package com.charging.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 트랜잭션 이벤트 로그 / 스냅샷 설정
+ * charging.transaction-event.* 프로퍼티와 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "charging.transaction-event")
+public class TransactionEventProperties {
+
+    /**
+     * 진행 중인 세션 스냅샷 저장 주기
+     * 길수록 재기동 시 재생할 이벤트가 많아집니다.
+     */
+    private Duration snapshotInterval = Duration.ofMinutes(5);
+
+    /**
+     * 스냅샷 시간보다 이만큼 앞선 이벤트부터 재생
+     * 스냅샷을 찍는 동안 커밋된 이벤트와 늦게 기록되는 충전 상태 이벤트(charging.charging-state.flush-interval)를
+     * 포함해야 하므로 충분히 길게 잡습니다. 재생은 멱등이라 겹치는 구간은 문제가 없습니다.
+     */
+    private Duration replayMargin = Duration.ofMinutes(1);
+}
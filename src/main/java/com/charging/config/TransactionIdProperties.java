@@ -0,0 +1,21 @@
+package com.charging.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 트랜잭션 ID 생성 설정
+ * charging.transaction-id.* 프로퍼티와 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "charging.transaction-id")
+public class TransactionIdProperties {
+
+    /**
+     * 노드 ID (0 ~ 1023)
+     * 여러 인스턴스를 띄우는 경우 인스턴스마다 다른 값을 지정해야 ID가 충돌하지 않습니다.
+     */
+    private int nodeId = 0;
+}
@@ -0,0 +1,28 @@
+package com.charging.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 트랜잭션 상태 변경 충돌 재시도 설정
+ * charging.transaction-retry.* 프로퍼티와 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "charging.transaction-retry")
+public class TransactionRetryProperties {
+
+    /**
+     * 최대 시도 횟수 (첫 시도 포함)
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * 재시도 전 기본 대기 시간
+     * 시도마다 두 배로 늘어나며, 같은 행을 다시 동시에 갱신하지 않도록 임의 지연(jitter)이 더해집니다.
+     */
+    private Duration backoff = Duration.ofMillis(10);
+}
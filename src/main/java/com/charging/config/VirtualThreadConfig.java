@@ -0,0 +1,55 @@
+package com.charging.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 모드 설정 (spring.threads.virtual.enabled=true 일 때만 적용)
+ *
+ * 웹 요청 처리(Tomcat), @Async/@Scheduled 실행기는 Spring Boot가 가상 스레드로 전환하고,
+ * 여기서는 DB 커넥션 풀 앞에 진입 제한(AdmissionControlledDataSource)을 둡니다.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * Hikari DataSource를 풀 크기만큼의 permit을 가진 진입 제한 DataSource로 감쌈
+     * 대기 시간은 Hikari connection-timeout과 같습니다.
+     */
+    @Bean
+    static AdmissionControlledDataSourcePostProcessor admissionControlledDataSourcePostProcessor() {
+        return new AdmissionControlledDataSourcePostProcessor();
+    }
+
+    /**
+     * Hikari를 직접 감싸야 하므로 다른 DataSource 래퍼(느린 SQL 감지 등)보다 먼저 적용
+     */
+    static class AdmissionControlledDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari) {
+                log.info("DB 진입 제한 적용: permits={}, acquireTimeout={}ms",
+                        hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+                return new AdmissionControlledDataSource(hikari, hikari.getMaximumPoolSize(),
+                        Duration.ofMillis(hikari.getConnectionTimeout()));
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
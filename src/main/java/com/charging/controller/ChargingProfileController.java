@@ -0,0 +1,45 @@
+package com.charging.controller;
+
+import com.charging.dto.response.CompositeScheduleResponse;
+import com.charging.service.smartcharging.CompositeSchedule;
+import com.charging.service.smartcharging.CompositeScheduleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 충전 프로파일 REST API Controller
+ * OCPP 2.0.1 스마트 충전 프로파일 API
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/charging-profiles")
+@RequiredArgsConstructor
+public class ChargingProfileController {
+
+    private final CompositeScheduleService compositeScheduleService;
+
+    /**
+     * 합성 스케줄 조회 (GetCompositeSchedule)
+     * duration(초)은 1초 ~ 7일이며, 범위를 벗어나면 400을 응답합니다.
+     *
+     * GET /api/charging-profiles/composite-schedule
+     */
+    @GetMapping("/composite-schedule")
+    public ResponseEntity<CompositeScheduleResponse> getCompositeSchedule(
+            @RequestParam String stationId,
+            @RequestParam Integer evseId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false, defaultValue = "86400") Integer duration) {
+
+        LocalDateTime scheduleStart = from != null ? from : LocalDateTime.now();
+        CompositeSchedule schedule = compositeScheduleService.getCompositeSchedule(
+                stationId, evseId, scheduleStart, duration);
+
+        return ResponseEntity.ok(CompositeScheduleResponse.of(stationId, evseId, schedule));
+    }
+}
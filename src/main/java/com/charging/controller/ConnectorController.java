@@ -0,0 +1,52 @@
+package com.charging.controller;
+
+import com.charging.domain.enums.ConnectorStatusEnum;
+import com.charging.domain.model.ConnectorTopology;
+import com.charging.service.ConnectorService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 커넥터 REST API Controller
+ * 커넥터 상태 조회 API (메모리 인덱스에서 응답)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/stations/{stationId}/connectors")
+@RequiredArgsConstructor
+public class ConnectorController {
+
+    private final ConnectorService connectorService;
+
+    /**
+     * 사용 가능한 커넥터 조회
+     * 최대 전력이 minPower 이상인 커넥터 중 최대 전력이 가장 작은 커넥터를 반환합니다.
+     *
+     * GET /api/stations/{stationId}/connectors/available?minPower=50
+     */
+    @GetMapping("/available")
+    public ResponseEntity<ConnectorTopology> getAvailableConnector(
+            @PathVariable String stationId,
+            @RequestParam(required = false) BigDecimal minPower) {
+
+        return ResponseEntity.ok(connectorService.findAvailableConnector(stationId, minPower));
+    }
+
+    /**
+     * 상태별 커넥터 목록 조회 (최대 전력 오름차순)
+     *
+     * GET /api/stations/{stationId}/connectors?status=FAULTED
+     */
+    @GetMapping
+    public ResponseEntity<List<ConnectorTopology>> getConnectorsByStatus(
+            @PathVariable String stationId,
+            @RequestParam ConnectorStatusEnum status) {
+
+        return ResponseEntity.ok(connectorService.findByStatus(stationId, status));
+    }
+}
@@ -0,0 +1,115 @@
+package com.charging.controller;
+
+import com.charging.config.ExportProperties;
+import com.charging.dto.request.ExportFormat;
+import com.charging.exception.ChargingException;
+import com.charging.exception.ExportRejectedException;
+import com.charging.service.ExportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 대용량 내보내기 REST API Controller
+ * 정산용 트랜잭션 / 미터 값을 CSV 또는 NDJSON으로 응답 스트림에 바로 기록합니다.
+ *
+ * 조회와 기록은 응답 스트림을 쓰는 비동기 스레드에서 실행되므로
+ * 요청 스레드나 힙에 결과 전체가 올라가지 않습니다.
+ *
+ * 내보내기는 끝날 때까지 커넥션 하나를 점유하므로 동시 실행 수를 charging.export.max-concurrent로 제한합니다.
+ * 넘치는 요청은 응답 스트림을 열기 전에 503 + Retry-After로 거절하여 OCPP / REST 요청의 커넥션을 남겨 둡니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/exports")
+public class ExportController {
+
+    private static final DateTimeFormatter FILE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    private final ExportService exportService;
+    private final ExportProperties properties;
+    private final Semaphore permits;
+
+    public ExportController(ExportService exportService, ExportProperties properties) {
+        this.exportService = exportService;
+        this.properties = properties;
+        this.permits = new Semaphore(properties.getMaxConcurrent());
+    }
+
+    /**
+     * 트랜잭션 내보내기 (시작 시간 기준 [from, to))
+     *
+     * GET /api/exports/transactions?from=2025-01-01T00:00:00&to=2025-02-01T00:00:00&format=CSV
+     */
+    @GetMapping("/transactions")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+
+        validateRange(from, to);
+        StreamingResponseBody body = out -> exportService.exportTransactions(from, to, format, out);
+
+        return stream("transactions", from, to, format, body);
+    }
+
+    /**
+     * 미터 값 내보내기 (측정 시간 기준 [from, to))
+     *
+     * GET /api/exports/meter-values?from=2025-01-01T00:00:00&to=2025-01-02T00:00:00&format=NDJSON
+     */
+    @GetMapping("/meter-values")
+    public ResponseEntity<StreamingResponseBody> exportMeterValues(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+
+        validateRange(from, to);
+        StreamingResponseBody body = out -> exportService.exportMeterValues(from, to, format, out);
+
+        return stream("meter-values", from, to, format, body);
+    }
+
+    /**
+     * 실행 허가를 얻은 후 응답 스트림 반환 (허가는 스트림 기록이 끝나면 반납)
+     *
+     * @throws ExportRejectedException 동시 실행 중인 내보내기가 최대 수에 도달한 경우
+     */
+    private ResponseEntity<StreamingResponseBody> stream(String name, LocalDateTime from, LocalDateTime to,
+                                                         ExportFormat format, StreamingResponseBody export) {
+        if (!permits.tryAcquire()) {
+            throw new ExportRejectedException(String.format(
+                    "동시에 실행 중인 내보내기가 너무 많습니다. (최대: %d)", properties.getMaxConcurrent()),
+                    properties.getRetryAfter().toSeconds());
+        }
+        StreamingResponseBody body = out -> {
+            try {
+                export.writeTo(out);
+            } finally {
+                permits.release();
+            }
+        };
+
+        String fileName = String.format("%s_%s_%s.%s", name,
+                FILE_NAME_FORMAT.format(from), FILE_NAME_FORMAT.format(to), format.getExtension());
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    private static void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new ChargingException("from은 to보다 이전이어야 합니다.");
+        }
+    }
+}
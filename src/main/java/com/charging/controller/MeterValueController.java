@@ -0,0 +1,156 @@
+package com.charging.controller;
+
+import com.charging.domain.enums.MeasurandEnum;
+import com.charging.domain.model.LiveSample;
+import com.charging.domain.model.MeterValueSample;
+import com.charging.dto.request.MeterValuesRequest;
+import com.charging.dto.request.SampledValueRequest;
+import com.charging.dto.response.KeysetPage;
+import com.charging.dto.response.MeterValueIngestionResponse;
+import com.charging.exception.ResourceNotFoundException;
+import com.charging.service.EnergyAccountant;
+import com.charging.service.EnergyAccountant.EnergyReading;
+import com.charging.service.LiveMeterBuffer;
+import com.charging.service.MeterValueIngestionService;
+import com.charging.service.MeterValueQueryService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미터 값 수집 REST API Controller
+ * OCPP 2.0.1 MeterValues / TransactionEvent 측정값 수집 API
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/meter-values")
+@RequiredArgsConstructor
+public class MeterValueController {
+
+    private final MeterValueIngestionService meterValueIngestionService;
+    private final LiveMeterBuffer liveMeterBuffer;
+    private final EnergyAccountant energyAccountant;
+    private final MeterValueQueryService meterValueQueryService;
+
+    /**
+     * 미터 값 수집 (여러 트랜잭션 일괄)
+     * 버퍼에 적재만 하고 바로 응답하며, DB 기록은 비동기 배치로 처리됩니다.
+     *
+     * POST /api/meter-values
+     */
+    @PostMapping
+    public ResponseEntity<MeterValueIngestionResponse> ingest(
+            @RequestBody List<@Valid MeterValuesRequest> requests) {
+
+        List<MeterValueSample> samples = new ArrayList<>();
+        for (MeterValuesRequest request : requests) {
+            for (SampledValueRequest sampledValue : request.sampledValues()) {
+                samples.add(new MeterValueSample(
+                        request.transactionId(),
+                        sampledValue.timestamp(),
+                        sampledValue.measurand(),
+                        sampledValue.value(),
+                        sampledValue.unit(),
+                        sampledValue.phase(),
+                        sampledValue.location()));
+            }
+        }
+
+        int accepted = meterValueIngestionService.enqueue(samples);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new MeterValueIngestionResponse(accepted));
+    }
+
+    /**
+     * 기간 내 측정값 종류의 미터 값 조회 (측정 시간순 키셋 페이지, [from, to))
+     * 다음 페이지는 응답의 nextCursor를 cursor로 넘겨 조회합니다.
+     *
+     * GET /api/meter-values?measurand=POWER_ACTIVE_IMPORT&from=2025-01-01T00:00:00&to=2025-01-02T00:00:00
+     */
+    @GetMapping
+    public ResponseEntity<KeysetPage<MeterValueSample>> findByMeasurand(
+            @RequestParam MeasurandEnum measurand,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+
+        KeysetPage<MeterValueSample> page = meterValueQueryService.findByMeasurand(measurand, from, to, cursor, size);
+
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * 트랜잭션의 저장된 미터 값 조회 (측정 시간순 키셋 페이지, measurand 생략 시 모든 종류)
+     *
+     * GET /api/meter-values/transactions/{transactionId}?measurand=ENERGY_ACTIVE_IMPORT_REGISTER&size=100
+     */
+    @GetMapping("/transactions/{transactionId}")
+    public ResponseEntity<KeysetPage<MeterValueSample>> findByTransaction(
+            @PathVariable String transactionId,
+            @RequestParam(required = false) MeasurandEnum measurand,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+
+        KeysetPage<MeterValueSample> page = meterValueQueryService.findByTransaction(
+                transactionId, measurand, cursor, size);
+
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * 진행 중인 세션의 최신 측정값 (메모리 버퍼 - DB 조회 없음)
+     *
+     * GET /api/meter-values/live/{transactionId}/latest
+     */
+    @GetMapping("/live/{transactionId}/latest")
+    public ResponseEntity<LiveSample> getLatest(
+            @PathVariable String transactionId,
+            @RequestParam(defaultValue = "ENERGY_ACTIVE_IMPORT_REGISTER") MeasurandEnum measurand) {
+
+        LiveSample sample = liveMeterBuffer.findLatest(transactionId, measurand)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format(
+                        "최근 측정값이 없습니다. (transactionId: %s, measurand: %s)", transactionId, measurand)));
+
+        return ResponseEntity.ok(sample);
+    }
+
+    /**
+     * 진행 중인 세션의 최근 N분 측정값 (메모리 버퍼 - DB 조회 없음, 측정 시간순)
+     *
+     * GET /api/meter-values/live/{transactionId}
+     */
+    @GetMapping("/live/{transactionId}")
+    public ResponseEntity<List<LiveSample>> getRecent(
+            @PathVariable String transactionId,
+            @RequestParam(defaultValue = "ENERGY_ACTIVE_IMPORT_REGISTER") MeasurandEnum measurand,
+            @RequestParam(defaultValue = "5") int minutes) {
+
+        List<LiveSample> samples = liveMeterBuffer.findRecent(transactionId, measurand, Duration.ofMinutes(minutes));
+
+        return ResponseEntity.ok(samples);
+    }
+
+    /**
+     * 진행 중인 세션의 현재까지 누적 에너지 (수집 시 갱신된 값 - DB 조회 없음)
+     *
+     * GET /api/meter-values/live/{transactionId}/energy
+     */
+    @GetMapping("/live/{transactionId}/energy")
+    public ResponseEntity<EnergyReading> getEnergy(@PathVariable String transactionId) {
+        EnergyReading reading = energyAccountant.find(transactionId)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format(
+                        "누적 에너지 정보가 없습니다. (transactionId: %s)", transactionId)));
+
+        return ResponseEntity.ok(reading);
+    }
+}
@@ -0,0 +1,85 @@
+package com.charging.controller;
+
+import com.charging.dto.request.BasicAuthPasswordRequest;
+import com.charging.dto.request.StationProvisionRequest;
+import com.charging.service.StationCredentialService;
+import com.charging.service.StationProvisioningService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * 충전소 일괄 등록 REST API Controller
+ * 충전소 / EVSE / 커넥터 수백~수천 건을 JSON 또는 CSV로 한 번에 등록합니다.
+ *
+ * 검증은 요청 스레드에서 끝내고 (실패 시 400, 아무것도 기록하지 않음),
+ * 기록은 응답 스트림을 쓰는 비동기 스레드에서 청크 단위로 진행하며 진행 상황을 NDJSON으로 응답합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/provisioning")
+@RequiredArgsConstructor
+public class ProvisioningController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final StationProvisioningService stationProvisioningService;
+    private final StationCredentialService stationCredentialService;
+
+    /**
+     * 충전소 일괄 등록 (JSON)
+     *
+     * POST /api/provisioning/stations
+     * Content-Type: application/json
+     * [{"stationId": "ST-001", ..., "evses": [{"evseId": 1, "maxPower": 100, "connectors": [...]}]}]
+     */
+    @PostMapping(value = "/stations", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> provisionJson(@RequestBody List<StationProvisionRequest> stations) {
+        return provision(stations);
+    }
+
+    /**
+     * 충전소 일괄 등록 (CSV, 한 행 = 커넥터 하나)
+     *
+     * POST /api/provisioning/stations
+     * Content-Type: text/csv
+     * stationId,powerGridCapacity,maxPriceLimit,algorithmMode,timeExtensionFactor,maxIterationCount,billingPowerId,
+     * evseId,evseMaxPower,connectorId,connectorMaxPower,connectorMinPower
+     */
+    @PostMapping(value = "/stations", consumes = "text/csv")
+    public ResponseEntity<StreamingResponseBody> provisionCsv(@RequestBody String csv) {
+        return provision(stationProvisioningService.parseCsv(csv));
+    }
+
+    /**
+     * 충전소 OCPP Basic 인증 비밀번호 설정 (Security Profile 1)
+     * 설정하기 전까지 충전소의 OCPP WebSocket 접속은 401로 거절됩니다.
+     *
+     * PUT /api/provisioning/stations/{stationId}/basic-auth-password
+     * {"password": "..."}
+     */
+    @PutMapping("/stations/{stationId}/basic-auth-password")
+    public ResponseEntity<Void> changeBasicAuthPassword(
+            @PathVariable String stationId,
+            @RequestBody BasicAuthPasswordRequest request) {
+
+        stationCredentialService.changeBasicAuthPassword(stationId, request.password());
+
+        return ResponseEntity.noContent().build();
+    }
+
+    private ResponseEntity<StreamingResponseBody> provision(List<StationProvisionRequest> stations) {
+        stationProvisioningService.validate(stations);
+        log.info("충전소 일괄 등록 시작: stations={}", stations.size());
+
+        StreamingResponseBody body = out -> stationProvisioningService.provision(stations, out);
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(body);
+    }
+}
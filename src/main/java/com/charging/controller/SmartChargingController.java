@@ -0,0 +1,34 @@
+package com.charging.controller;
+
+import com.charging.service.smartcharging.SmartChargingService;
+import com.charging.service.smartcharging.StationAllocation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 스마트충전 REST API Controller
+ * 충전소 전력 분배 결과 조회 API
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/smart-charging")
+@RequiredArgsConstructor
+public class SmartChargingController {
+
+    private final SmartChargingService smartChargingService;
+
+    /**
+     * 충전소 전력 분배 결과 조회
+     *
+     * GET /api/smart-charging/{stationId}/allocation
+     */
+    @GetMapping("/{stationId}/allocation")
+    public ResponseEntity<StationAllocation> getAllocation(@PathVariable String stationId) {
+
+        StationAllocation allocation = smartChargingService.getAllocation(stationId);
+
+        return ResponseEntity.ok(allocation);
+    }
+}
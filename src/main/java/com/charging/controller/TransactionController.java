@@ -2,18 +2,28 @@ package com.charging.controller;
 
 import com.charging.domain.entity.Transaction;
 import com.charging.domain.enums.ChargingStateEnum;
+import com.charging.domain.enums.TransactionEventEnum;
+import com.charging.domain.model.ActiveSession;
+import com.charging.domain.model.TransactionEvent;
+import com.charging.dto.response.KeysetPage;
+import com.charging.dto.response.TransactionResponse;
+import com.charging.service.StationEventExecutor;
 import com.charging.service.TransactionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * 트랜잭션 REST API Controller
  * OCPP 2.0.1 트랜잭션 관리 API
+ *
+ * 상태를 변경하는 요청은 StationEventExecutor에서 충전소 단위로 순서대로 실행됩니다.
  */
 @Slf4j
 @RestController
@@ -22,6 +32,7 @@ import java.util.List;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final StationEventExecutor stationEventExecutor;
 
     /**
      * 트랜잭션 시작
@@ -29,16 +40,16 @@ public class TransactionController {
      * POST /api/transactions/start
      */
     @PostMapping("/start")
-    public ResponseEntity<Transaction> startTransaction(
+    public ResponseEntity<TransactionResponse> startTransaction(
             @RequestParam Integer evseId,
             @RequestParam String stationId,
             @RequestParam Integer connectorId,
             @RequestParam String idToken) {
 
-        Transaction transaction = transactionService.startTransaction(
-                evseId, stationId, connectorId, idToken);
+        Transaction transaction = stationEventExecutor.execute(stationId,
+                () -> transactionService.startTransaction(evseId, stationId, connectorId, idToken));
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(transaction);
+        return ResponseEntity.status(HttpStatus.CREATED).body(TransactionResponse.from(transaction));
     }
 
     /**
@@ -47,13 +58,14 @@ public class TransactionController {
      * POST /api/transactions/{transactionId}/stop
      */
     @PostMapping("/{transactionId}/stop")
-    public ResponseEntity<Transaction> stopTransaction(
+    public ResponseEntity<TransactionResponse> stopTransaction(
             @PathVariable String transactionId,
             @RequestParam(required = false, defaultValue = "Normal") String stopReason) {
 
-        Transaction transaction = transactionService.stopTransaction(transactionId, stopReason);
+        Transaction transaction = stationEventExecutor.execute(transactionService.getStationId(transactionId),
+                () -> transactionService.stopTransaction(transactionId, stopReason));
 
-        return ResponseEntity.ok(transaction);
+        return ResponseEntity.ok(TransactionResponse.from(transaction));
     }
 
     /**
@@ -62,26 +74,112 @@ public class TransactionController {
      * PATCH /api/transactions/{transactionId}/charging-state
      */
     @PatchMapping("/{transactionId}/charging-state")
-    public ResponseEntity<Transaction> updateChargingState(
+    public ResponseEntity<TransactionResponse> updateChargingState(
             @PathVariable String transactionId,
             @RequestParam ChargingStateEnum chargingState) {
 
-        Transaction transaction = transactionService.updateChargingState(transactionId, chargingState);
+        TransactionResponse transaction = stationEventExecutor.execute(transactionService.getStationId(transactionId),
+                () -> transactionService.updateChargingState(transactionId, chargingState));
+
+        return ResponseEntity.ok(transaction);
+    }
+
+    /**
+     * 트랜잭션 목록 조회 (최신순 키셋 페이지)
+     * stationId / idToken / eventType / chargingState 중 하나를 지정하고 (stationId에는 evseId 또는 기간 추가 가능),
+     * 다음 페이지는 같은 조건에 응답의 nextCursor를 cursor로 넘겨 조회합니다.
+     *
+     * GET /api/transactions?stationId=ST-001&size=50
+     * GET /api/transactions?stationId=ST-001&evseId=1&size=50
+     * GET /api/transactions?stationId=ST-001&from=2026-01-01T00:00:00&to=2026-02-01T00:00:00
+     * GET /api/transactions?stationId=ST-001&size=50&cursor={nextCursor}
+     */
+    @GetMapping
+    public ResponseEntity<KeysetPage<TransactionResponse>> findTransactions(
+            @RequestParam(required = false) String stationId,
+            @RequestParam(required = false) Integer evseId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String idToken,
+            @RequestParam(required = false) TransactionEventEnum eventType,
+            @RequestParam(required = false) ChargingStateEnum chargingState,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+
+        KeysetPage<TransactionResponse> page = transactionService.findTransactions(
+                stationId, evseId, from, to, idToken, eventType, chargingState, cursor, size);
+
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * 트랜잭션 조회
+     *
+     * GET /api/transactions/{transactionId}
+     */
+    @GetMapping("/{transactionId}")
+    public ResponseEntity<TransactionResponse> getTransaction(
+            @PathVariable String transactionId) {
+
+        TransactionResponse transaction = transactionService.getTransaction(transactionId);
 
         return ResponseEntity.ok(transaction);
     }
 
+    /**
+     * 트랜잭션 이벤트 이력 조회 (시작 / 상태 변경 / 종료)
+     *
+     * GET /api/transactions/{transactionId}/events
+     */
+    @GetMapping("/{transactionId}/events")
+    public ResponseEntity<List<TransactionEvent>> getTransactionEvents(
+            @PathVariable String transactionId) {
+
+        List<TransactionEvent> events = transactionService.getTransactionEvents(transactionId);
+
+        return ResponseEntity.ok(events);
+    }
+
     /**
      * 활성 트랜잭션 조회
      *
      * GET /api/transactions/active
      */
     @GetMapping("/active")
-    public ResponseEntity<List<Transaction>> getActiveTransactions(
+    public ResponseEntity<List<ActiveSession>> getActiveTransactions(
             @RequestParam String stationId) {
 
-        List<Transaction> transactions = transactionService.getActiveTransactions(stationId);
+        List<ActiveSession> sessions = transactionService.getActiveTransactions(stationId);
+
+        return ResponseEntity.ok(sessions);
+    }
+
+    /**
+     * EVSE의 활성 트랜잭션 조회
+     *
+     * GET /api/transactions/active/evse
+     */
+    @GetMapping("/active/evse")
+    public ResponseEntity<ActiveSession> getActiveTransaction(
+            @RequestParam String stationId,
+            @RequestParam Integer evseId) {
+
+        ActiveSession session = transactionService.getActiveTransaction(stationId, evseId);
+
+        return ResponseEntity.ok(session);
+    }
+
+    /**
+     * ID Token의 활성 트랜잭션 조회
+     *
+     * GET /api/transactions/active/id-token/{idToken}
+     */
+    @GetMapping("/active/id-token/{idToken}")
+    public ResponseEntity<List<ActiveSession>> getActiveTransactionsByIdToken(
+            @PathVariable String idToken) {
+
+        List<ActiveSession> sessions = transactionService.getActiveTransactionsByIdToken(idToken);
 
-        return ResponseEntity.ok(transactions);
+        return ResponseEntity.ok(sessions);
     }
 }
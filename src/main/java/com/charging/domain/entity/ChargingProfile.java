@@ -2,17 +2,21 @@ package com.charging.domain.entity;
 
 import com.charging.domain.enums.ChargingProfileKindEnum;
 import com.charging.domain.enums.ChargingProfilePurposeEnum;
+import com.charging.domain.listener.ChargingProfileChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 충전 프로파일 엔티티
  * OCPP 2.0.1 기반 스마트 충전 프로파일 정보를 관리합니다.
  */
 @Entity
+@EntityListeners(ChargingProfileChangeListener.class)
 @Table(name = "CHARGING_PROFILE")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -24,7 +28,8 @@ public class ChargingProfile extends BaseEntity {
      * ID (Primary Key)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "charging_profile_seq")
+    @SequenceGenerator(name = "charging_profile_seq", sequenceName = "CHARGING_PROFILE_SEQ", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -115,6 +120,23 @@ public class ChargingProfile extends BaseEntity {
     @Builder.Default
     private Boolean isActive = true;
 
+    /**
+     * 충전 스케줄 구간 목록 (startPeriod 오름차순)
+     * 1:N 관계
+     */
+    @OneToMany(mappedBy = "chargingProfile", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("startPeriod ASC")
+    @Builder.Default
+    private List<ChargingSchedulePeriod> schedulePeriods = new ArrayList<>();
+
+    /**
+     * 스케줄 구간 추가 헬퍼 메서드
+     */
+    public void addSchedulePeriod(ChargingSchedulePeriod schedulePeriod) {
+        schedulePeriods.add(schedulePeriod);
+        schedulePeriod.setChargingProfile(this);
+    }
+
     /**
      * 프로파일 활성화/비활성화
      */
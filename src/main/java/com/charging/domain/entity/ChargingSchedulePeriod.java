@@ -0,0 +1,64 @@
+package com.charging.domain.entity;
+
+import com.charging.domain.listener.ChargingProfileChangeListener;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * 충전 스케줄 구간 엔티티
+ * OCPP 2.0.1 ChargingSchedulePeriod - 스케줄 시작 시점 기준 구간별 전력 제한값을 관리합니다.
+ */
+@Entity
+@EntityListeners(ChargingProfileChangeListener.class)
+@Table(name = "CHARGING_SCHEDULE_PERIOD")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ChargingSchedulePeriod extends BaseEntity {
+
+    /**
+     * ID (Primary Key)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "charging_schedule_period_seq")
+    @SequenceGenerator(name = "charging_schedule_period_seq", sequenceName = "CHARGING_SCHEDULE_PERIOD_SEQ",
+            allocationSize = 50)
+    @Column(name = "id")
+    private Long id;
+
+    /**
+     * 구간 시작 (스케줄 시작 기준 초)
+     */
+    @Column(name = "start_period", nullable = false)
+    private Integer startPeriod;
+
+    /**
+     * 전력 제한값 (chargingRateUnit 단위)
+     */
+    @Column(name = "limit_value", precision = 10, scale = 2, nullable = false)
+    private BigDecimal limit;
+
+    /**
+     * 사용 상(phase) 수
+     */
+    @Column(name = "number_phases")
+    private Integer numberPhases;
+
+    /**
+     * 소속 충전 프로파일
+     * N:1 관계
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "charging_profile_id", nullable = false)
+    private ChargingProfile chargingProfile;
+
+    /**
+     * 충전 프로파일 설정 헬퍼 메서드
+     */
+    void setChargingProfile(ChargingProfile chargingProfile) {
+        this.chargingProfile = chargingProfile;
+    }
+}
@@ -1,6 +1,8 @@
 package com.charging.domain.entity;
 
 import com.charging.domain.enums.ConnectorStatusEnum;
+import com.charging.exception.InvalidStatusTransitionException;
+import com.charging.domain.listener.TopologyCacheInvalidator;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,6 +16,7 @@ import java.math.BigDecimal;
  * ChargingStation > EVSE > Connector
  */
 @Entity
+@EntityListeners(TopologyCacheInvalidator.class)
 @Table(
     name = "CONNECTOR",
     uniqueConstraints = {
@@ -33,7 +36,8 @@ public class Connector extends BaseEntity {
      * ID (Primary Key)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "connector_seq")
+    @SequenceGenerator(name = "connector_seq", sequenceName = "CONNECTOR_SEQ", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -53,7 +57,7 @@ public class Connector extends BaseEntity {
     /**
      * 충전소 ID (FK 역할 - 문자열)
      */
-    @Column(name = "station_id", length = 50, nullable = false)
+    @Column(name = "station_id", length = 50, nullable = false, insertable = false, updatable = false)
     private String stationId;
 
     /**
@@ -77,6 +81,13 @@ public class Connector extends BaseEntity {
     @Builder.Default
     private ConnectorStatusEnum status = ConnectorStatusEnum.AVAILABLE;
 
+    /**
+     * 버전 (낙관적 락 - 동시 수정 시 나중에 커밋하는 쪽이 충돌로 실패)
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /**
      * 소속 EVSE
      * N:1 관계 - 여러 커넥터가 하나의 EVSE에 속함
@@ -97,9 +108,15 @@ public class Connector extends BaseEntity {
     }
 
     /**
-     * 커넥터 상태 변경
+     * 커넥터 상태 변경 (ConnectorStatusEnum 전이 규칙 검증)
+     *
+     * @throws InvalidStatusTransitionException 허용되지 않는 전이인 경우
      */
     public void updateStatus(ConnectorStatusEnum newStatus) {
+        if (!status.canTransitionTo(newStatus)) {
+            throw new InvalidStatusTransitionException(String.format(
+                    "커넥터 상태를 변경할 수 없습니다. (%s -> %s)", status, newStatus));
+        }
         this.status = newStatus;
     }
 }
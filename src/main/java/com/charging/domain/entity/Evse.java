@@ -1,6 +1,7 @@
 package com.charging.domain.entity;
 
 import com.charging.domain.enums.OperationalStatusEnum;
+import com.charging.domain.listener.TopologyCacheInvalidator;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -16,6 +17,7 @@ import java.util.List;
  * ChargingStation > EVSE > Connector
  */
 @Entity
+@EntityListeners(TopologyCacheInvalidator.class)
 @Table(
     name = "EVSE",
     uniqueConstraints = {
@@ -35,7 +37,8 @@ public class Evse extends BaseEntity {
      * ID (Primary Key)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "evse_seq")
+    @SequenceGenerator(name = "evse_seq", sequenceName = "EVSE_SEQ", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -83,8 +86,9 @@ public class Evse extends BaseEntity {
     private List<Connector> connectors = new ArrayList<>();
 
     /**
-     * EVSE에서 발생한 트랜잭션 목록
+     * EVSE에서 발생한 트랜잭션 목록 (조회 전용)
      * 1:N 관계 - 하나의 EVSE는 여러 트랜잭션을 가질 수 있음
+     * 트랜잭션은 evseId/stationId 컬럼으로 저장하므로 이 컬렉션에 추가하지 않습니다 (충전 이력 전체를 로딩함).
      */
     @OneToMany(mappedBy = "evse", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
@@ -114,12 +118,4 @@ public class Evse extends BaseEntity {
         connectors.remove(connector);
         connector.setEvse(null);
     }
-
-    /**
-     * 트랜잭션 추가 헬퍼 메서드
-     */
-    public void addTransaction(Transaction transaction) {
-        transactions.add(transaction);
-        transaction.setEvse(this);
-    }
 }
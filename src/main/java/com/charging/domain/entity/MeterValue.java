@@ -12,7 +12,14 @@ import java.time.LocalDateTime;
  * OCPP 2.0.1 기반 측정값 정보를 관리합니다.
  */
 @Entity
-@Table(name = "METER_VALUE")
+@Table(
+    name = "METER_VALUE",
+    indexes = {
+        // 키셋 페이지 조회용 (Oracle은 schema.sql의 LOCAL 인덱스)
+        @Index(name = "idx_meter_value_transaction", columnList = "transaction_id, timestamp, id"),
+        @Index(name = "idx_meter_value_measurand", columnList = "measurand, timestamp, id")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -23,7 +30,8 @@ public class MeterValue extends BaseEntity {
      * ID (Primary Key)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meter_value_seq")
+    @SequenceGenerator(name = "meter_value_seq", sequenceName = "METER_VALUE_SEQ", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -0,0 +1,106 @@
+package com.charging.domain.entity;
+
+import com.charging.domain.enums.MeasurandEnum;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 미터 값 집계 엔티티
+ * 트랜잭션 / 측정값 종류 / 위상별로 1분, 15분 구간의 원본 측정값을 요약합니다.
+ * 원본 METER_VALUE가 보존 기간 후 삭제되어도 집계는 유지됩니다.
+ */
+@Entity
+@Table(
+    name = "METER_VALUE_ROLLUP",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_meter_value_rollup",
+            columnNames = {"transaction_id", "measurand", "phase", "bucket_minutes", "bucket_start"}
+        )
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MeterValueRollup extends BaseEntity {
+
+    /**
+     * ID (Primary Key)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meter_value_rollup_seq")
+    @SequenceGenerator(name = "meter_value_rollup_seq", sequenceName = "METER_VALUE_ROLLUP_SEQ", allocationSize = 50)
+    @Column(name = "id")
+    private Long id;
+
+    /**
+     * 트랜잭션 ID (TRANSACTION.id)
+     */
+    @Column(name = "transaction_id", nullable = false)
+    private Long transactionIdFk;
+
+    /**
+     * 측정값 종류
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "measurand", nullable = false)
+    private MeasurandEnum measurand;
+
+    /**
+     * Phase (전기 위상)
+     */
+    @Column(name = "phase", length = 10)
+    private String phase;
+
+    /**
+     * 구간 길이 (분) - 1 또는 15
+     */
+    @Column(name = "bucket_minutes", nullable = false)
+    private Integer bucketMinutes;
+
+    /**
+     * 구간 시작 시간 (포함)
+     */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    /**
+     * 구간 내 샘플 수
+     */
+    @Column(name = "sample_count", nullable = false)
+    private Integer sampleCount;
+
+    /**
+     * 최소값
+     */
+    @Column(name = "min_value", precision = 15, scale = 3, nullable = false)
+    private BigDecimal minValue;
+
+    /**
+     * 최대값
+     */
+    @Column(name = "max_value", precision = 15, scale = 3, nullable = false)
+    private BigDecimal maxValue;
+
+    /**
+     * 평균값
+     */
+    @Column(name = "avg_value", precision = 15, scale = 3, nullable = false)
+    private BigDecimal avgValue;
+
+    /**
+     * 구간 첫 측정값 (누적 에너지처럼 증가하는 값은 last - first가 구간 사용량)
+     */
+    @Column(name = "first_value", precision = 15, scale = 3, nullable = false)
+    private BigDecimal firstValue;
+
+    /**
+     * 구간 마지막 측정값
+     */
+    @Column(name = "last_value", precision = 15, scale = 3, nullable = false)
+    private BigDecimal lastValue;
+}
@@ -1,5 +1,6 @@
 package com.charging.domain.entity;
 
+import com.charging.domain.listener.TopologyCacheInvalidator;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -15,6 +16,7 @@ import java.util.List;
  * ChargingStation > EVSE > Connector
  */
 @Entity
+@EntityListeners(TopologyCacheInvalidator.class)
 @Table(name = "STATION")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -24,10 +26,11 @@ public class Station extends BaseEntity {
 
     /**
      * ID (Primary Key)
-     * Oracle IDENTITY 컬럼으로 자동 생성
+     * STATION_SEQ 시퀀스 + pooled-lo 옵티마이저로 생성 (JDBC 배치 INSERT 가능)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "station_seq")
+    @SequenceGenerator(name = "station_seq", sequenceName = "STATION_SEQ", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -73,6 +76,13 @@ public class Station extends BaseEntity {
     @Column(name = "billing_power_id", nullable = false)
     private Long billingPowerId;
 
+    /**
+     * OCPP Security Profile 1 (HTTP Basic) 비밀번호 해시 (SHA-256 hex)
+     * 설정되지 않은 충전소는 OCPP WebSocket 접속이 거절됩니다.
+     */
+    @Column(name = "basic_auth_password_hash", length = 64)
+    private String basicAuthPasswordHash;
+
     /**
      * 충전소에 속한 EVSE 목록
      * 1:N 관계 - 하나의 충전소는 여러 EVSE를 가질 수 있음
@@ -90,6 +100,13 @@ public class Station extends BaseEntity {
         evse.setStation(this);
     }
 
+    /**
+     * OCPP Basic 인증 비밀번호 해시 변경
+     */
+    public void changeBasicAuthPasswordHash(String basicAuthPasswordHash) {
+        this.basicAuthPasswordHash = basicAuthPasswordHash;
+    }
+
     /**
      * EVSE 제거 헬퍼 메서드
      */
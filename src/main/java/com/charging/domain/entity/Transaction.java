@@ -6,6 +6,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -15,7 +16,15 @@ import java.util.List;
  * OCPP 2.0.1 기반 충전 트랜잭션 정보를 관리합니다.
  */
 @Entity
-@Table(name = "TRANSACTION")
+@Table(
+    name = "TRANSACTION",
+    indexes = {
+        // 키셋 페이지 조회용 (TransactionRepository.findPageBy*)
+        @Index(name = "idx_transaction_station_start", columnList = "station_id, start_time, id"),
+        @Index(name = "idx_transaction_id_token_start", columnList = "id_token, start_time, id"),
+        @Index(name = "idx_transaction_start", columnList = "start_time, id")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -26,7 +35,8 @@ public class Transaction extends BaseEntity {
      * ID (Primary Key)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+    @SequenceGenerator(name = "transaction_seq", sequenceName = "TRANSACTION_SEQ", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -39,7 +49,7 @@ public class Transaction extends BaseEntity {
     /**
      * EVSE ID (FK 역할)
      */
-    @Column(name = "evse_id", nullable = false, insertable = false, updatable = false)
+    @Column(name = "evse_id", nullable = false)
     private Integer evseId;
 
     /**
@@ -110,14 +120,23 @@ public class Transaction extends BaseEntity {
     @Column(name = "stop_reason", length = 100)
     private String stopReason;
 
+    /**
+     * 버전 (낙관적 락 - 동시 수정 시 나중에 커밋하는 쪽이 충돌로 실패)
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /**
      * 소속 EVSE
-     * N:1 관계
+     * N:1 관계 (읽기 전용 - FK 값은 evseId/stationId 컬럼으로 기록하므로 EVSE 엔티티 없이 저장 가능)
      */
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumns({
-        @JoinColumn(name = "evse_id", referencedColumnName = "evse_id", nullable = false),
-        @JoinColumn(name = "station_id", referencedColumnName = "station_id", nullable = false)
+        @JoinColumn(name = "evse_id", referencedColumnName = "evse_id", nullable = false,
+                insertable = false, updatable = false),
+        @JoinColumn(name = "station_id", referencedColumnName = "station_id", nullable = false,
+                insertable = false, updatable = false)
     })
     private Evse evse;
 
@@ -129,13 +148,6 @@ public class Transaction extends BaseEntity {
     @Builder.Default
     private List<MeterValue> meterValues = new ArrayList<>();
 
-    /**
-     * EVSE 설정 헬퍼 메서드
-     */
-    void setEvse(Evse evse) {
-        this.evse = evse;
-    }
-
     /**
      * 미터 값 추가 헬퍼 메서드
      */
@@ -171,13 +183,29 @@ public class Transaction extends BaseEntity {
         this.eventType = TransactionEventEnum.UPDATED;
     }
 
+    /**
+     * 시작 / 종료 미터 값 기록 (Wh) 후 누적 에너지 계산
+     */
+    public void recordMeterValues(BigDecimal startMeterValue, BigDecimal stopMeterValue) {
+        this.startMeterValue = startMeterValue;
+        this.stopMeterValue = stopMeterValue;
+        calculateTotalEnergy();
+    }
+
+    /**
+     * 누적 에너지 직접 기록 (kWh - 미터 레지스터 없이 전력 적분으로 계산한 경우)
+     */
+    public void recordTotalEnergy(BigDecimal totalEnergy) {
+        this.totalEnergy = totalEnergy;
+    }
+
     /**
      * 누적 에너지 계산
      */
     public void calculateTotalEnergy() {
         if (startMeterValue != null && stopMeterValue != null) {
             this.totalEnergy = stopMeterValue.subtract(startMeterValue)
-                .divide(new BigDecimal("1000"), 3, BigDecimal.ROUND_HALF_UP); // Wh to kWh
+                .divide(new BigDecimal("1000"), 3, RoundingMode.HALF_UP); // Wh to kWh
         }
     }
 }
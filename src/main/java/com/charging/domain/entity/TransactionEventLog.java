@@ -0,0 +1,94 @@
+package com.charging.domain.entity;
+
+import com.charging.domain.enums.ChargingStateEnum;
+import com.charging.domain.enums.TransactionEventEnum;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 이벤트 로그 엔티티 (append-only)
+ * TRANSACTION 행은 현재 상태만 가지므로, 시작 / 상태 변경 / 종료마다 이벤트를 한 행씩 추가합니다.
+ * 기록은 TransactionEventLogRepository의 JDBC INSERT로 하며, 수정 / 삭제하지 않습니다.
+ * 재기동 시 스냅샷(TRANSACTION_SNAPSHOT) 이후의 이벤트를 재생해 진행 중인 세션을 복원합니다.
+ */
+@Entity
+@Table(
+    name = "TRANSACTION_EVENT_LOG",
+    indexes = {
+        @Index(name = "idx_transaction_event_log_tx", columnList = "transaction_id, occurred_at"),
+        @Index(name = "idx_transaction_event_log_time", columnList = "occurred_at")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TransactionEventLog extends BaseEntity {
+
+    /**
+     * ID (Primary Key)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_event_log_seq")
+    @SequenceGenerator(name = "transaction_event_log_seq", sequenceName = "TRANSACTION_EVENT_LOG_SEQ", allocationSize = 50)
+    @Column(name = "id")
+    private Long id;
+
+    /**
+     * 트랜잭션 ID (OCPP 표준)
+     */
+    @Column(name = "transaction_id", length = 50, nullable = false)
+    private String transactionId;
+
+    /**
+     * 트랜잭션 이벤트 유형
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private TransactionEventEnum eventType;
+
+    /**
+     * 충전 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "charging_state")
+    private ChargingStateEnum chargingState;
+
+    /**
+     * 충전소 ID (STARTED)
+     */
+    @Column(name = "station_id", length = 50)
+    private String stationId;
+
+    /**
+     * EVSE ID (STARTED)
+     */
+    @Column(name = "evse_id")
+    private Integer evseId;
+
+    /**
+     * 커넥터 ID (STARTED)
+     */
+    @Column(name = "connector_id")
+    private Integer connectorId;
+
+    /**
+     * ID Token (STARTED)
+     */
+    @Column(name = "id_token", length = 36)
+    private String idToken;
+
+    /**
+     * 정지 이유 (ENDED)
+     */
+    @Column(name = "stop_reason", length = 100)
+    private String stopReason;
+
+    /**
+     * 이벤트 발생 시간
+     */
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
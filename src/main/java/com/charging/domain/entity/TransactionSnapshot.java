@@ -0,0 +1,42 @@
+package com.charging.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중인 세션 스냅샷 헤더 엔티티
+ * 스냅샷 시점의 활성 세션은 TRANSACTION_SNAPSHOT_SESSION에 저장되며,
+ * 재기동 시 가장 최근 스냅샷 + 이후 TRANSACTION_EVENT_LOG 재생으로 활성 세션을 복원합니다.
+ * 기록은 TransactionSnapshotRepository의 JDBC 배치로 하며, 최근 스냅샷 하나만 유지합니다.
+ */
+@Entity
+@Table(name = "TRANSACTION_SNAPSHOT")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TransactionSnapshot extends BaseEntity {
+
+    /**
+     * ID (Primary Key)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_snapshot_seq")
+    @SequenceGenerator(name = "transaction_snapshot_seq", sequenceName = "TRANSACTION_SNAPSHOT_SEQ", allocationSize = 50)
+    @Column(name = "id")
+    private Long id;
+
+    /**
+     * 스냅샷 시간 (이 시간보다 재생 여유만큼 이전부터 이벤트를 재생)
+     */
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+
+    /**
+     * 스냅샷에 포함된 세션 수
+     */
+    @Column(name = "session_count", nullable = false)
+    private Integer sessionCount;
+}
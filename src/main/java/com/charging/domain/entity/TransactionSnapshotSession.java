@@ -0,0 +1,84 @@
+package com.charging.domain.entity;
+
+import com.charging.domain.enums.ChargingStateEnum;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스냅샷 시점의 진행 중인 세션 엔티티
+ * ActiveSession과 같은 항목을 저장합니다.
+ */
+@Entity
+@Table(
+    name = "TRANSACTION_SNAPSHOT_SESSION",
+    indexes = {
+        @Index(name = "idx_transaction_snapshot_session", columnList = "snapshot_id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TransactionSnapshotSession extends BaseEntity {
+
+    /**
+     * ID (Primary Key)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_snapshot_session_seq")
+    @SequenceGenerator(name = "transaction_snapshot_session_seq", sequenceName = "TRANSACTION_SNAPSHOT_SESSION_SEQ",
+            allocationSize = 50)
+    @Column(name = "id")
+    private Long id;
+
+    /**
+     * 스냅샷 ID (TRANSACTION_SNAPSHOT.id)
+     */
+    @Column(name = "snapshot_id", nullable = false)
+    private Long snapshotId;
+
+    /**
+     * 트랜잭션 ID (OCPP 표준)
+     */
+    @Column(name = "transaction_id", length = 50, nullable = false)
+    private String transactionId;
+
+    /**
+     * 충전소 ID
+     */
+    @Column(name = "station_id", length = 50, nullable = false)
+    private String stationId;
+
+    /**
+     * EVSE ID
+     */
+    @Column(name = "evse_id", nullable = false)
+    private Integer evseId;
+
+    /**
+     * 커넥터 ID
+     */
+    @Column(name = "connector_id", nullable = false)
+    private Integer connectorId;
+
+    /**
+     * ID Token
+     */
+    @Column(name = "id_token", length = 36, nullable = false)
+    private String idToken;
+
+    /**
+     * 충전 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "charging_state")
+    private ChargingStateEnum chargingState;
+
+    /**
+     * 시작 시간
+     */
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+}
@@ -0,0 +1,49 @@
+package com.charging.domain.enums;
+
+/**
+ * 스마트충전 알고리즘 모드
+ * Station.algorithmMode 컬럼 값(코드)과 매핑됩니다.
+ */
+public enum AlgorithmModeEnum {
+    /**
+     * 균등 분배 (water-filling)
+     * 각 커넥터의 최소/최대 전력 범위 안에서 가능한 한 같은 전력을 할당
+     */
+    EQUAL_SHARE(0),
+
+    /**
+     * 비례 분배
+     * 최소 전력을 보장한 후 남은 용량을 (최대 - 최소) 전력에 비례하여 할당
+     */
+    PROPORTIONAL(1),
+
+    /**
+     * 선착순
+     * 먼저 시작한 세션부터 최대 전력까지 할당
+     */
+    FIRST_COME_FIRST_SERVED(2);
+
+    private final int code;
+
+    AlgorithmModeEnum(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * 코드로 조회 (알 수 없는 코드는 EQUAL_SHARE)
+     */
+    public static AlgorithmModeEnum fromCode(Integer code) {
+        if (code != null) {
+            for (AlgorithmModeEnum mode : values()) {
+                if (mode.code == code) {
+                    return mode;
+                }
+            }
+        }
+        return EQUAL_SHARE;
+    }
+}
@@ -1,8 +1,22 @@
 package com.charging.domain.enums;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * OCPP 2.0.1 Connector Status
  * 커넥터의 현재 상태를 나타냅니다.
+ *
+ * 상태 전이 규칙 (같은 상태로의 전이는 항상 허용 - StatusNotification 재전송)
+ * - AVAILABLE   → OCCUPIED, RESERVED, UNAVAILABLE, FAULTED
+ * - OCCUPIED    → AVAILABLE, UNAVAILABLE, FAULTED
+ * - RESERVED    → AVAILABLE, OCCUPIED, UNAVAILABLE, FAULTED
+ * - UNAVAILABLE → AVAILABLE, OCCUPIED, FAULTED
+ * - FAULTED     → AVAILABLE, OCCUPIED, UNAVAILABLE
+ *
+ * 점유 중인 커넥터는 예약할 수 없고, 고장 / 사용 불가 상태에서 바로 예약 상태가 될 수 없습니다.
  */
 public enum ConnectorStatusEnum {
     /**
@@ -28,5 +42,23 @@ public enum ConnectorStatusEnum {
     /**
      * 오류 상태
      */
-    FAULTED
+    FAULTED;
+
+    private static final Map<ConnectorStatusEnum, Set<ConnectorStatusEnum>> TRANSITIONS =
+            new EnumMap<>(ConnectorStatusEnum.class);
+
+    static {
+        TRANSITIONS.put(AVAILABLE, EnumSet.of(OCCUPIED, RESERVED, UNAVAILABLE, FAULTED));
+        TRANSITIONS.put(OCCUPIED, EnumSet.of(AVAILABLE, UNAVAILABLE, FAULTED));
+        TRANSITIONS.put(RESERVED, EnumSet.of(AVAILABLE, OCCUPIED, UNAVAILABLE, FAULTED));
+        TRANSITIONS.put(UNAVAILABLE, EnumSet.of(AVAILABLE, OCCUPIED, FAULTED));
+        TRANSITIONS.put(FAULTED, EnumSet.of(AVAILABLE, OCCUPIED, UNAVAILABLE));
+    }
+
+    /**
+     * 이 상태에서 next 상태로 전이할 수 있는지 여부
+     */
+    public boolean canTransitionTo(ConnectorStatusEnum next) {
+        return this == next || TRANSITIONS.get(this).contains(next);
+    }
 }
@@ -0,0 +1,61 @@
+package com.charging.domain.listener;
+
+import com.charging.domain.entity.ChargingProfile;
+import com.charging.domain.entity.ChargingSchedulePeriod;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 충전 프로파일 변경 엔티티 리스너
+ * ChargingProfile / ChargingSchedulePeriod가 저장·변경·삭제되면 커밋 이후에 ChargingProfileChangedEvent를 발행합니다
+ * (CompositeScheduleService가 미리 계산해 둔 충전소의 합성 스케줄을 비움).
+ *
+ * Spring Bean으로 등록되어 Hibernate가 Spring 컨테이너에서 가져다 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChargingProfileChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        String stationId = null;
+        if (entity instanceof ChargingProfile profile) {
+            stationId = profile.getStationId();
+        } else if (entity instanceof ChargingSchedulePeriod period && period.getChargingProfile() != null) {
+            stationId = period.getChargingProfile().getStationId();
+        }
+        if (stationId == null) {
+            return;
+        }
+
+        ChargingProfileChangedEvent event = new ChargingProfileChangedEvent(stationId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventPublisher.publishEvent(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventPublisher.publishEvent(event);
+            }
+        });
+    }
+
+    /**
+     * 충전 프로파일 추가 / 변경 / 삭제 이벤트 (커밋 이후 발행)
+     *
+     * @param stationId 충전소 ID
+     */
+    public record ChargingProfileChangedEvent(String stationId) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.charging.domain.listener;
+
+import com.charging.domain.entity.Connector;
+import com.charging.domain.entity.Evse;
+import com.charging.domain.entity.Station;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 토폴로지 캐시 무효화 엔티티 리스너
+ * Station/EVSE/Connector가 저장·변경·삭제되면 (Station.addEvse, Evse.addConnector, Connector.updateStatus 등)
+ * 커밋 이후에 해당 캐시 항목을 제거합니다.
+ *
+ * Spring Bean으로 등록되어 Hibernate가 Spring 컨테이너에서 가져다 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TopologyCacheInvalidator {
+
+    public static final String EVSE_CACHE = "evseTopology";
+    public static final String CONNECTOR_CACHE = "connectorTopology";
+
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public static String evseKey(String stationId, Integer evseId) {
+        return stationId + ":" + evseId;
+    }
+
+    public static String connectorKey(String stationId, Integer evseId, Integer connectorId) {
+        return stationId + ":" + evseId + ":" + connectorId;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Station station) {
+            afterCommit(() -> eventPublisher.publishEvent(new StationChangedEvent(station.getStationId())));
+        } else if (entity instanceof Evse evse) {
+            String key = evseKey(stationIdOf(evse), evse.getEvseId());
+            afterCommit(() -> evict(EVSE_CACHE, key));
+        } else if (entity instanceof Connector connector) {
+            Evse evse = connector.getEvse();
+            String key = evse != null
+                    ? connectorKey(stationIdOf(evse), evse.getEvseId(), connector.getConnectorId())
+                    : connectorKey(connector.getStationId(), connector.getEvseId(), connector.getConnectorId());
+            String stationId = key.substring(0, key.indexOf(':'));
+            afterCommit(() -> {
+                evict(CONNECTOR_CACHE, key);
+                eventPublisher.publishEvent(new ConnectorChangedEvent(stationId));
+            });
+        }
+    }
+
+    /**
+     * 헬퍼 메서드로 새로 추가된 EVSE는 읽기 전용 stationId 필드가 비어 있으므로 연관관계에서 가져옴
+     */
+    private static String stationIdOf(Evse evse) {
+        return evse.getStation() != null ? evse.getStation().getStationId() : evse.getStationId();
+    }
+
+    private void evict(String cacheName, String key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+            log.debug("토폴로지 캐시 제거: cache={}, key={}", cacheName, key);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 충전소 설정 변경 이벤트 (커밋 이후 발행)
+     *
+     * @param stationId 충전소 ID
+     */
+    public record StationChangedEvent(String stationId) {
+    }
+
+    /**
+     * 커넥터 추가 / 변경 / 삭제 이벤트 (커밋 이후 발행)
+     *
+     * @param stationId 충전소 ID
+     */
+    public record ConnectorChangedEvent(String stationId) {
+    }
+}
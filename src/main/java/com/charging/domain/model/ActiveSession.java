@@ -0,0 +1,47 @@
+package com.charging.domain.model;
+
+import com.charging.domain.entity.Transaction;
+import com.charging.domain.enums.ChargingStateEnum;
+
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중인 충전 세션 스냅샷
+ * ActiveSessionRegistry에 보관되는 불변 값 객체입니다.
+ *
+ * @param transactionId 트랜잭션 ID (OCPP 표준)
+ * @param stationId     충전소 ID
+ * @param evseId        EVSE ID
+ * @param connectorId   커넥터 ID
+ * @param idToken       ID Token
+ * @param chargingState 충전 상태
+ * @param startTime     시작 시간
+ */
+public record ActiveSession(
+        String transactionId,
+        String stationId,
+        Integer evseId,
+        Integer connectorId,
+        String idToken,
+        ChargingStateEnum chargingState,
+        LocalDateTime startTime
+) {
+
+    public static ActiveSession from(Transaction transaction) {
+        return new ActiveSession(
+                transaction.getTransactionId(),
+                transaction.getStationId(),
+                transaction.getEvseId(),
+                transaction.getConnectorId(),
+                transaction.getIdToken(),
+                transaction.getChargingState(),
+                transaction.getStartTime());
+    }
+
+    /**
+     * 충전 상태만 변경된 스냅샷
+     */
+    public ActiveSession withChargingState(ChargingStateEnum newState) {
+        return new ActiveSession(transactionId, stationId, evseId, connectorId, idToken, newState, startTime);
+    }
+}
@@ -0,0 +1,19 @@
+package com.charging.domain.model;
+
+import com.charging.domain.enums.ChargingStateEnum;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 충전 상태 변경 (지연 일괄 기록 단위)
+ *
+ * @param transactionId 트랜잭션 ID (OCPP 표준)
+ * @param chargingState 변경된 충전 상태
+ * @param changedAt     변경 시간
+ */
+public record ChargingStateChange(
+        String transactionId,
+        ChargingStateEnum chargingState,
+        LocalDateTime changedAt
+) {
+}
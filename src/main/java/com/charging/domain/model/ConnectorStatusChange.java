@@ -0,0 +1,19 @@
+package com.charging.domain.model;
+
+import com.charging.domain.enums.ConnectorStatusEnum;
+
+/**
+ * 커넥터 상태 변경 (write-behind 기록 단위)
+ *
+ * @param stationId   충전소 ID
+ * @param evseId      EVSE ID
+ * @param connectorId 커넥터 ID
+ * @param status      변경된 상태
+ */
+public record ConnectorStatusChange(
+        String stationId,
+        Integer evseId,
+        Integer connectorId,
+        ConnectorStatusEnum status
+) {
+}
@@ -0,0 +1,31 @@
+package com.charging.domain.model;
+
+import com.charging.domain.enums.ConnectorStatusEnum;
+
+import java.math.BigDecimal;
+
+/**
+ * 커넥터 토폴로지 스냅샷 (캐시 보관용)
+ *
+ * @param id          ID (Primary Key)
+ * @param stationId   충전소 ID
+ * @param evseId      EVSE ID
+ * @param connectorId 커넥터 ID
+ * @param maxPower    최대 허용 전력량 (kW)
+ * @param minPower    최소 허용 전력량 (kW)
+ * @param status      커넥터 상태
+ */
+public record ConnectorTopology(
+        Long id,
+        String stationId,
+        Integer evseId,
+        Integer connectorId,
+        BigDecimal maxPower,
+        BigDecimal minPower,
+        ConnectorStatusEnum status
+) {
+
+    public ConnectorTopology withStatus(ConnectorStatusEnum newStatus) {
+        return new ConnectorTopology(id, stationId, evseId, connectorId, maxPower, minPower, newStatus);
+    }
+}
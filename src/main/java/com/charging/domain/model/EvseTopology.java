@@ -0,0 +1,23 @@
+package com.charging.domain.model;
+
+import com.charging.domain.enums.OperationalStatusEnum;
+
+import java.math.BigDecimal;
+
+/**
+ * EVSE 토폴로지 스냅샷 (캐시 보관용)
+ *
+ * @param id                ID (Primary Key)
+ * @param stationId         충전소 ID
+ * @param evseId            EVSE ID
+ * @param maxPower          최대 허용 전력량 (kW)
+ * @param operationalStatus 운영 상태
+ */
+public record EvseTopology(
+        Long id,
+        String stationId,
+        Integer evseId,
+        BigDecimal maxPower,
+        OperationalStatusEnum operationalStatus
+) {
+}
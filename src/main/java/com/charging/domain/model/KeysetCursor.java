@@ -0,0 +1,94 @@
+package com.charging.domain.model;
+
+import com.charging.exception.ChargingException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.CRC32;
+
+/**
+ * 키셋 페이지네이션 위치 (정렬 시간, 행 ID)
+ * 다음 페이지는 OFFSET 없이 이 위치 다음 행부터 인덱스를 탐색하므로, 몇 번째 페이지든 첫 페이지와 비용이 같습니다.
+ *
+ * 클라이언트에는 불투명한 continuation 토큰(Base64 URL)으로만 전달합니다.
+ * 토큰에는 발급한 조회 조건의 해시가 들어 있어, 다른 조건의 조회에 넘기면 거절됩니다.
+ *
+ * @param time 마지막 행의 정렬 시간 (트랜잭션 start_time / 미터 값 timestamp)
+ * @param id   마지막 행의 ID (같은 시간의 행 구분)
+ */
+public record KeysetCursor(LocalDateTime time, long id) {
+
+    private static final String SEPARATOR = "~";
+
+    /**
+     * 최신순 조회의 첫 페이지 위치 (모든 행보다 뒤)
+     */
+    public static final KeysetCursor LATEST = endingAt(LocalDateTime.of(9999, 12, 31, 23, 59, 59));
+
+    /**
+     * 시간순 조회의 첫 페이지 위치 (모든 행보다 앞)
+     */
+    public static final KeysetCursor EARLIEST = startingAt(LocalDateTime.of(1970, 1, 1, 0, 0));
+
+    /**
+     * 시간순 조회의 첫 페이지 위치 (time 이후 행부터)
+     */
+    public static KeysetCursor startingAt(LocalDateTime time) {
+        return new KeysetCursor(time, Long.MIN_VALUE);
+    }
+
+    /**
+     * 최신순 조회의 첫 페이지 위치 (time 이전 행부터 - time은 포함하지 않음)
+     */
+    public static KeysetCursor endingAt(LocalDateTime time) {
+        return new KeysetCursor(time, Long.MIN_VALUE);
+    }
+
+    /**
+     * 조회 조건 키 (조회 종류와 조건 값 - null 포함, 페이지 크기 제외)
+     */
+    public static String filterOf(String query, Object... params) {
+        return query + Arrays.toString(params);
+    }
+
+    /**
+     * @param filter 이 페이지를 조회한 조건 키 (filterOf)
+     */
+    public String encode(String filter) {
+        String raw = time + SEPARATOR + id + SEPARATOR + hash(filter);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param filter 현재 조회 조건 키 (filterOf)
+     * @throws ChargingException 이 서버가 발급한 토큰이 아니거나 다른 조회 조건으로 발급된 경우
+     */
+    public static KeysetCursor decode(String token, String filter) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR);
+        } catch (IllegalArgumentException e) {
+            throw new ChargingException("잘못된 cursor 입니다: " + token);
+        }
+        if (parts.length != 3) {
+            throw new ChargingException("잘못된 cursor 입니다: " + token);
+        }
+        if (!parts[2].equals(hash(filter))) {
+            throw new ChargingException("cursor가 현재 조회 조건으로 발급된 것이 아닙니다: " + token);
+        }
+        try {
+            return new KeysetCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new ChargingException("잘못된 cursor 입니다: " + token);
+        }
+    }
+
+    private static String hash(String filter) {
+        CRC32 crc = new CRC32();
+        crc.update(filter.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+}
@@ -0,0 +1,17 @@
+package com.charging.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중인 세션의 최근 측정값 (LiveMeterBuffer 조회 결과)
+ *
+ * @param timestamp 측정 시간
+ * @param value     측정값
+ * @param unit      단위
+ */
+public record LiveSample(
+        LocalDateTime timestamp,
+        double value,
+        String unit
+) {
+}
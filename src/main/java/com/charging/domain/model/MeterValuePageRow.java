@@ -0,0 +1,39 @@
+package com.charging.domain.model;
+
+import com.charging.domain.enums.MeasurandEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 미터 값 키셋 페이지 한 행 (생성자 프로젝션 - 엔티티를 영속성 컨텍스트에 올리지 않음)
+ * 응답 컬럼에 다음 페이지 위치를 만들 행 ID를 더한 것입니다.
+ *
+ * @param id            ID (Primary Key - 키셋 위치)
+ * @param transactionId 트랜잭션 ID (OCPP 표준)
+ * @param timestamp     측정 시간 (키셋 위치)
+ * @param measurand     측정값 종류
+ * @param value         측정값
+ * @param unit          단위
+ * @param phase         Phase (전기 위상)
+ * @param location      위치
+ */
+public record MeterValuePageRow(
+        Long id,
+        String transactionId,
+        LocalDateTime timestamp,
+        MeasurandEnum measurand,
+        BigDecimal value,
+        String unit,
+        String phase,
+        String location
+) {
+
+    public KeysetCursor cursor() {
+        return new KeysetCursor(timestamp, id);
+    }
+
+    public MeterValueSample toSample() {
+        return new MeterValueSample(transactionId, timestamp, measurand, value, unit, phase, location);
+    }
+}
@@ -0,0 +1,36 @@
+package com.charging.domain.model;
+
+import com.charging.domain.enums.MeasurandEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 집계 작업이 계산한 미터 값 구간 요약 (METER_VALUE_ROLLUP 한 행)
+ *
+ * @param transactionIdFk 트랜잭션 ID (TRANSACTION.id)
+ * @param measurand       측정값 종류
+ * @param phase           Phase (전기 위상)
+ * @param bucketMinutes   구간 길이 (분)
+ * @param bucketStart     구간 시작 시간
+ * @param sampleCount     샘플 수
+ * @param minValue        최소값
+ * @param maxValue        최대값
+ * @param avgValue        평균값
+ * @param firstValue      구간 첫 측정값
+ * @param lastValue       구간 마지막 측정값
+ */
+public record MeterValueRollupRow(
+        Long transactionIdFk,
+        MeasurandEnum measurand,
+        String phase,
+        int bucketMinutes,
+        LocalDateTime bucketStart,
+        int sampleCount,
+        BigDecimal minValue,
+        BigDecimal maxValue,
+        BigDecimal avgValue,
+        BigDecimal firstValue,
+        BigDecimal lastValue
+) {
+}
@@ -0,0 +1,29 @@
+package com.charging.domain.model;
+
+import com.charging.domain.enums.MeasurandEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 수집 버퍼에 적재되는 미터 값 샘플
+ * JPA 엔티티 대신 불변 값 객체로 보관하여 flush 시 JDBC 배치로 바로 기록합니다.
+ *
+ * @param transactionId 트랜잭션 ID (OCPP 표준)
+ * @param timestamp     측정 시간
+ * @param measurand     측정값 종류
+ * @param value         측정값
+ * @param unit          단위
+ * @param phase         Phase (전기 위상)
+ * @param location      위치
+ */
+public record MeterValueSample(
+        String transactionId,
+        LocalDateTime timestamp,
+        MeasurandEnum measurand,
+        BigDecimal value,
+        String unit,
+        String phase,
+        String location
+) {
+}
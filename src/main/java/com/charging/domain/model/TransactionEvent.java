@@ -0,0 +1,59 @@
+package com.charging.domain.model;
+
+import com.charging.domain.enums.ChargingStateEnum;
+import com.charging.domain.enums.TransactionEventEnum;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 이벤트 (TRANSACTION_EVENT_LOG 한 행)
+ * STARTED는 세션 정보 전체를, UPDATED는 충전 상태를, ENDED는 정지 이유를 가집니다.
+ *
+ * @param id            ID (기록 전이면 null)
+ * @param transactionId 트랜잭션 ID (OCPP 표준)
+ * @param eventType     트랜잭션 이벤트 유형
+ * @param chargingState 충전 상태
+ * @param stationId     충전소 ID (STARTED)
+ * @param evseId        EVSE ID (STARTED)
+ * @param connectorId   커넥터 ID (STARTED)
+ * @param idToken       ID Token (STARTED)
+ * @param stopReason    정지 이유 (ENDED)
+ * @param occurredAt    이벤트 발생 시간
+ */
+public record TransactionEvent(
+        Long id,
+        String transactionId,
+        TransactionEventEnum eventType,
+        ChargingStateEnum chargingState,
+        String stationId,
+        Integer evseId,
+        Integer connectorId,
+        String idToken,
+        String stopReason,
+        LocalDateTime occurredAt
+) {
+
+    public static TransactionEvent started(ActiveSession session) {
+        return new TransactionEvent(null, session.transactionId(), TransactionEventEnum.STARTED,
+                session.chargingState(), session.stationId(), session.evseId(), session.connectorId(),
+                session.idToken(), null, session.startTime());
+    }
+
+    public static TransactionEvent updated(ChargingStateChange change) {
+        return new TransactionEvent(null, change.transactionId(), TransactionEventEnum.UPDATED,
+                change.chargingState(), null, null, null, null, null, change.changedAt());
+    }
+
+    public static TransactionEvent ended(String transactionId, ChargingStateEnum chargingState,
+                                         String stopReason, LocalDateTime stopTime) {
+        return new TransactionEvent(null, transactionId, TransactionEventEnum.ENDED,
+                chargingState, null, null, null, null, stopReason, stopTime);
+    }
+
+    /**
+     * STARTED 이벤트로 진행 중인 세션 복원
+     */
+    public ActiveSession toSession() {
+        return new ActiveSession(transactionId, stationId, evseId, connectorId, idToken, chargingState, occurredAt);
+    }
+}
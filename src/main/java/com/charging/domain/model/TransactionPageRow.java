@@ -0,0 +1,50 @@
+package com.charging.domain.model;
+
+import com.charging.domain.enums.ChargingStateEnum;
+import com.charging.domain.enums.TransactionEventEnum;
+import com.charging.dto.response.TransactionResponse;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 키셋 페이지 한 행 (생성자 프로젝션 - 엔티티를 영속성 컨텍스트에 올리지 않음)
+ * 응답 컬럼에 다음 페이지 위치를 만들 행 ID를 더한 것입니다.
+ *
+ * @param id            ID (Primary Key - 키셋 위치)
+ * @param transactionId 트랜잭션 ID (OCPP 표준)
+ * @param stationId     충전소 ID
+ * @param evseId        EVSE ID
+ * @param connectorId   커넥터 ID
+ * @param idToken       ID Token
+ * @param eventType     트랜잭션 이벤트 유형
+ * @param chargingState 충전 상태
+ * @param startTime     시작 시간 (키셋 위치)
+ * @param stopTime      종료 시간
+ * @param totalEnergy   누적 에너지 (kWh)
+ * @param stopReason    정지 이유
+ */
+public record TransactionPageRow(
+        Long id,
+        String transactionId,
+        String stationId,
+        Integer evseId,
+        Integer connectorId,
+        String idToken,
+        TransactionEventEnum eventType,
+        ChargingStateEnum chargingState,
+        LocalDateTime startTime,
+        LocalDateTime stopTime,
+        BigDecimal totalEnergy,
+        String stopReason
+) {
+
+    public KeysetCursor cursor() {
+        return new KeysetCursor(startTime, id);
+    }
+
+    public TransactionResponse toResponse() {
+        return new TransactionResponse(transactionId, stationId, evseId, connectorId, idToken,
+                eventType, chargingState, startTime, stopTime, totalEnergy, stopReason);
+    }
+}
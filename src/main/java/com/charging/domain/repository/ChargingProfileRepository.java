@@ -72,6 +72,22 @@ public interface ChargingProfileRepository extends JpaRepository<ChargingProfile
         @Param("now") LocalDateTime now
     );
 
+    /**
+     * 기간과 겹치는 활성 프로파일을 스케줄 구간과 함께 조회 (합성 스케줄 계산용)
+     * 충전소 전체(evseId null 또는 0) 프로파일과 해당 EVSE 프로파일을 함께 반환합니다.
+     */
+    @Query("SELECT DISTINCT cp FROM ChargingProfile cp LEFT JOIN FETCH cp.schedulePeriods " +
+           "WHERE cp.isActive = true AND cp.stationId = :stationId " +
+           "AND (cp.evseId IS NULL OR cp.evseId = 0 OR cp.evseId = :evseId) " +
+           "AND (cp.validFrom IS NULL OR cp.validFrom < :to) " +
+           "AND (cp.validTo IS NULL OR cp.validTo > :from)")
+    List<ChargingProfile> findActiveProfilesWithPeriods(
+        @Param("stationId") String stationId,
+        @Param("evseId") Integer evseId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
     /**
      * 스택 레벨로 정렬된 프로파일 조회
      */
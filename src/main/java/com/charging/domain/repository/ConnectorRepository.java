@@ -2,6 +2,7 @@ package com.charging.domain.repository;
 
 import com.charging.domain.entity.Connector;
 import com.charging.domain.enums.ConnectorStatusEnum;
+import com.charging.domain.model.ConnectorTopology;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -26,6 +27,16 @@ public interface ConnectorRepository extends JpaRepository<Connector, Long> {
         Integer connectorId
     );
 
+    /**
+     * 복합 유니크 키로 커넥터 조회 (동적 프로젝션 - 프로젝션 타입의 컬럼만 조회)
+     */
+    <T> Optional<T> findByEvseIdAndStationIdAndConnectorId(
+        Integer evseId,
+        String stationId,
+        Integer connectorId,
+        Class<T> type
+    );
+
     /**
      * EVSE ID와 충전소 ID로 모든 커넥터 조회
      */
@@ -36,6 +47,21 @@ public interface ConnectorRepository extends JpaRepository<Connector, Long> {
      */
     List<Connector> findByStationId(String stationId);
 
+    /**
+     * 전체 커넥터 토폴로지 (가용성 색인 초기화용 - 필요한 컬럼만 조회)
+     */
+    @Query("SELECT new com.charging.domain.model.ConnectorTopology(" +
+           "c.id, c.stationId, c.evseId, c.connectorId, c.maxPower, c.minPower, c.status) FROM Connector c")
+    List<ConnectorTopology> findAllTopology();
+
+    /**
+     * 충전소의 커넥터 토폴로지 (가용성 색인 갱신용)
+     */
+    @Query("SELECT new com.charging.domain.model.ConnectorTopology(" +
+           "c.id, c.stationId, c.evseId, c.connectorId, c.maxPower, c.minPower, c.status) " +
+           "FROM Connector c WHERE c.stationId = :stationId")
+    List<ConnectorTopology> findTopologyByStationId(@Param("stationId") String stationId);
+
     /**
      * 상태로 커넥터 조회
      */
@@ -43,6 +69,7 @@ public interface ConnectorRepository extends JpaRepository<Connector, Long> {
 
     /**
      * 충전소 ID와 상태로 커넥터 조회
+     * 요청 처리 경로에서는 ConnectorAvailabilityIndex를 사용합니다 (DB 조회 없음).
      */
     List<Connector> findByStationIdAndStatus(String stationId, ConnectorStatusEnum status);
 
@@ -57,6 +84,7 @@ public interface ConnectorRepository extends JpaRepository<Connector, Long> {
 
     /**
      * 사용 가능한 커넥터 조회
+     * 요청 처리 경로에서는 ConnectorAvailabilityIndex를 사용합니다 (DB 조회 없음).
      */
     @Query("SELECT c FROM Connector c WHERE c.status = 'AVAILABLE' AND c.stationId = :stationId")
     List<Connector> findAvailableConnectors(@Param("stationId") String stationId);
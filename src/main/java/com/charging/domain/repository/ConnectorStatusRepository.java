@@ -0,0 +1,51 @@
+package com.charging.domain.repository;
+
+import com.charging.domain.model.ConnectorStatusChange;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CONNECTOR 상태 일괄 기록용 Repository
+ * 엔티티를 읽지 않고 JDBC 배치 UPDATE로 상태만 기록하며, 버전을 올려
+ * 같은 커넥터를 JPA로 읽어 둔 쪽이 나중에 저장하면 낙관적 락 충돌이 나도록 합니다.
+ */
+@Repository
+public class ConnectorStatusRepository {
+
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE CONNECTOR SET status = ?, version = version + 1, updated_at = ? " +
+            "WHERE station_id = ? AND evse_id = ? AND connector_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ConnectorStatusRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 상태 변경 목록을 하나의 JDBC 배치로 기록
+     */
+    @Transactional
+    public void batchUpdateStatus(List<ConnectorStatusChange> changes) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(changes.size());
+
+        for (ConnectorStatusChange change : changes) {
+            batchArgs.add(new Object[]{
+                    change.status().name(),
+                    now,
+                    change.stationId(),
+                    change.evseId(),
+                    change.connectorId()
+            });
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, batchArgs);
+    }
+}
@@ -22,6 +22,11 @@ public interface EvseRepository extends JpaRepository<Evse, Long> {
      */
     Optional<Evse> findByEvseIdAndStationId(Integer evseId, String stationId);
 
+    /**
+     * EVSE ID와 충전소 ID로 조회 (동적 프로젝션 - 프로젝션 타입의 컬럼만 조회)
+     */
+    <T> Optional<T> findByEvseIdAndStationId(Integer evseId, String stationId, Class<T> type);
+
     /**
      * 충전소 ID로 모든 EVSE 조회
      */
@@ -0,0 +1,78 @@
+package com.charging.domain.repository;
+
+import com.charging.domain.model.MeterValueSample;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * METER_VALUE 대량 기록용 Repository
+ * 엔티티 그래프를 거치지 않고 JDBC 배치 INSERT로 직접 기록합니다.
+ *
+ * ID는 MeterValue 엔티티와 같은 METER_VALUE_SEQ 시퀀스를 pooled-lo 방식으로 사용하므로
+ * JPA로 저장된 행과 충돌하지 않습니다.
+ */
+@Repository
+public class MeterValueBatchRepository {
+
+    /**
+     * MeterValue 엔티티의 @SequenceGenerator allocationSize와 동일해야 함
+     */
+    static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * OCPP 트랜잭션 ID로 TRANSACTION.id(FK)를 찾아서 기록
+     * 존재하지 않는 트랜잭션의 샘플은 0건으로 무시됩니다.
+     */
+    private static final String INSERT_SQL =
+            "INSERT INTO METER_VALUE (id, transaction_id, timestamp, measurand, value, unit, phase, location, " +
+            "created_at, updated_at) " +
+            "SELECT ?, t.id, ?, ?, ?, ?, ?, ?, ?, ? FROM TRANSACTION t WHERE t.transaction_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledSequence idSequence;
+
+    public MeterValueBatchRepository(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idSequence = new PooledSequence(jdbcTemplate, entityManagerFactory, "METER_VALUE_SEQ", ID_ALLOCATION_SIZE);
+    }
+
+    /**
+     * 샘플 목록을 하나의 JDBC 배치로 기록
+     *
+     * @return 실제로 기록된 행 수 (드라이버가 건수를 알려주지 않으면 요청 건수)
+     */
+    @Transactional
+    public int batchInsert(List<MeterValueSample> samples) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(samples.size());
+
+        for (MeterValueSample sample : samples) {
+            batchArgs.add(new Object[]{
+                    idSequence.nextId(),
+                    Timestamp.valueOf(sample.timestamp()),
+                    sample.measurand().name(),
+                    sample.value(),
+                    sample.unit(),
+                    sample.phase(),
+                    sample.location(),
+                    now,
+                    now,
+                    sample.transactionId()
+            });
+        }
+
+        int written = 0;
+        for (int count : jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs)) {
+            written += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+        }
+        return written;
+    }
+}
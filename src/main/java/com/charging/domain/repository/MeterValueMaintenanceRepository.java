@@ -0,0 +1,226 @@
+package com.charging.domain.repository;
+
+import com.charging.domain.enums.MeasurandEnum;
+import com.charging.domain.model.MeterValueRollupRow;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.OracleDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * METER_VALUE 집계 / 보존 기간 관리용 Repository
+ *
+ * Oracle에서는 METER_VALUE가 timestamp 기준 일 단위 interval 파티션이므로
+ * 기간 조건이 있는 조회는 해당 파티션만 읽고, 보존 기간이 지난 날짜는 파티션을 통째로 DROP합니다.
+ * 파티션이 없는 DB(H2)에서는 같은 일 단위 범위를 DELETE하여 동작을 흉내냅니다.
+ */
+@Slf4j
+@Repository
+public class MeterValueMaintenanceRepository {
+
+    /**
+     * MeterValueRollup 엔티티의 @SequenceGenerator allocationSize와 동일해야 함
+     */
+    static final int ROLLUP_ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * 스트리밍 조회 시 한 번에 가져오는 행 수
+     */
+    private static final int FETCH_SIZE = 1_000;
+
+    private static final String SAMPLE_SQL =
+            "SELECT transaction_id, measurand, phase, timestamp, value FROM METER_VALUE " +
+            "WHERE timestamp >= ? AND timestamp < ?";
+
+    private static final String INSERT_ROLLUP_SQL =
+            "INSERT INTO METER_VALUE_ROLLUP (id, transaction_id, measurand, phase, bucket_minutes, bucket_start, " +
+            "sample_count, min_value, max_value, avg_value, first_value, last_value, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DELETE_RANGE_SQL =
+            "DELETE FROM METER_VALUE WHERE timestamp >= ? AND timestamp < ?";
+
+    private static final String DROP_PARTITION_SQL =
+            "ALTER TABLE METER_VALUE DROP PARTITION FOR (TIMESTAMP '%s 00:00:00') UPDATE GLOBAL INDEXES";
+
+    private static final String MIN_TIMESTAMP_SQL = "SELECT MIN(timestamp) FROM METER_VALUE";
+
+    /**
+     * HIGH_VALUE는 LONG 컬럼 ("TIMESTAMP' 2025-01-02 00:00:00'")이므로 문자열로 읽어 Java에서 해석
+     */
+    private static final String PARTITIONS_SQL =
+            "SELECT partition_name, high_value FROM USER_TAB_PARTITIONS " +
+            "WHERE table_name = 'METER_VALUE' ORDER BY partition_position";
+
+    private static final String PARTITION_HAS_ROWS_SQL =
+            "SELECT COUNT(*) FROM METER_VALUE PARTITION (\"%s\") WHERE ROWNUM = 1";
+
+    private static final String PARTITION_MIN_TIMESTAMP_SQL =
+            "SELECT MIN(timestamp) FROM METER_VALUE PARTITION (\"%s\")";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final PooledSequence rollupIdSequence;
+    private final boolean partitioned;
+
+    public MeterValueMaintenanceRepository(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.rollupIdSequence = new PooledSequence(jdbcTemplate, entityManagerFactory,
+                "METER_VALUE_ROLLUP_SEQ", ROLLUP_ID_ALLOCATION_SIZE);
+        this.partitioned = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof OracleDialect;
+    }
+
+    /**
+     * 샘플 한 건 (집계용 최소 컬럼)
+     */
+    public record Sample(Long transactionIdFk, MeasurandEnum measurand, String phase,
+                         LocalDateTime timestamp, BigDecimal value) {
+    }
+
+    /**
+     * 샘플 소비자
+     */
+    @FunctionalInterface
+    public interface SampleHandler {
+        void handle(Sample sample);
+    }
+
+    /**
+     * [from, to) 구간 원본 샘플을 메모리에 모으지 않고 한 건씩 전달 (파티션 pruning 대상 조건)
+     */
+    public void streamSamples(LocalDateTime from, LocalDateTime to, SampleHandler handler) {
+        streamingJdbcTemplate.query(SAMPLE_SQL,
+                (RowCallbackHandler) rs -> handler.handle(new Sample(
+                        rs.getLong("transaction_id"),
+                        MeasurandEnum.valueOf(rs.getString("measurand")),
+                        rs.getString("phase"),
+                        rs.getTimestamp("timestamp").toLocalDateTime(),
+                        rs.getBigDecimal("value"))),
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * 구간 요약을 하나의 JDBC 배치로 기록
+     */
+    public void batchInsertRollups(List<MeterValueRollupRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(rows.size());
+
+        for (MeterValueRollupRow row : rows) {
+            batchArgs.add(new Object[]{
+                    rollupIdSequence.nextId(),
+                    row.transactionIdFk(),
+                    row.measurand().name(),
+                    row.phase(),
+                    row.bucketMinutes(),
+                    Timestamp.valueOf(row.bucketStart()),
+                    row.sampleCount(),
+                    row.minValue(),
+                    row.maxValue(),
+                    row.avgValue(),
+                    row.firstValue(),
+                    row.lastValue(),
+                    now,
+                    now
+            });
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ROLLUP_SQL, batchArgs);
+    }
+
+    /**
+     * 가장 오래된 원본 샘플의 측정 시간 (없으면 null)
+     *
+     * Oracle은 모든 파티션을 읽는 MIN(timestamp) 대신 데이터 사전(USER_TAB_PARTITIONS)의 파티션 경계를 사용합니다.
+     * 앞쪽 파티션부터 첫 행이 있는지만 확인하고, 행이 있는 첫 파티션의 하한(= 그 날짜의 0시)을 반환합니다.
+     * 하한이 없는 초기 파티션에 행이 있을 때만 그 파티션 안에서 MIN을 구합니다.
+     */
+    public LocalDateTime findOldestTimestamp() {
+        if (!partitioned) {
+            return toLocalDateTime(jdbcTemplate.queryForObject(MIN_TIMESTAMP_SQL, Timestamp.class));
+        }
+
+        List<Partition> partitions = jdbcTemplate.query(PARTITIONS_SQL,
+                (rs, rowNum) -> new Partition(rs.getString("partition_name"), rs.getString("high_value")));
+        LocalDateTime lowerBound = null;
+        for (Partition partition : partitions) {
+            Integer rows = jdbcTemplate.queryForObject(
+                    String.format(PARTITION_HAS_ROWS_SQL, partition.name()), Integer.class);
+            if (rows != null && rows > 0) {
+                return lowerBound != null
+                        ? lowerBound
+                        : toLocalDateTime(jdbcTemplate.queryForObject(
+                                String.format(PARTITION_MIN_TIMESTAMP_SQL, partition.name()), Timestamp.class));
+            }
+            lowerBound = partition.upperBound();
+        }
+        return null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    /**
+     * METER_VALUE 파티션 (이름, HIGH_VALUE 원문)
+     */
+    private record Partition(String name, String highValue) {
+
+        /**
+         * 파티션 상한 (TIMESTAMP 리터럴이 아니면 null - MAXVALUE 등)
+         */
+        LocalDateTime upperBound() {
+            int start = highValue.indexOf('\'');
+            int end = highValue.lastIndexOf('\'');
+            if (start < 0 || end <= start) {
+                return null;
+            }
+            try {
+                return LocalDateTime.parse(highValue.substring(start + 1, end).trim().replace(' ', 'T'));
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 하루치 원본 샘플 삭제
+     * Oracle은 해당 날짜의 파티션을 DROP하고, 파티션이 없거나 DROP할 수 없는 경우
+     * (interval 기준 파티션 등) 범위 DELETE로 대신합니다.
+     *
+     * @return 파티션 DROP 여부
+     */
+    public boolean purgeDay(LocalDate day) {
+        if (partitioned) {
+            try {
+                jdbcTemplate.execute(String.format(DROP_PARTITION_SQL, day));
+                return true;
+            } catch (DataAccessException e) {
+                log.debug("METER_VALUE 파티션 DROP 불가 - 범위 DELETE로 대체: day={}, message={}",
+                        day, e.getMostSpecificCause().getMessage());
+            }
+        }
+        jdbcTemplate.update(DELETE_RANGE_SQL,
+                Timestamp.valueOf(day.atStartOfDay()), Timestamp.valueOf(day.plusDays(1).atStartOfDay()));
+        return false;
+    }
+}
@@ -2,42 +2,98 @@ package com.charging.domain.repository;
 
 import com.charging.domain.entity.MeterValue;
 import com.charging.domain.enums.MeasurandEnum;
+import com.charging.domain.model.MeterValuePageRow;
+import com.charging.domain.model.MeterValueSample;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * MeterValue 엔티티를 위한 Repository
  * JPA 기반 데이터 액세스 레이어
+ *
+ * 목록 조회는 키셋 페이지(findPageBy*)로만 제공합니다 (시간순 - timestamp ASC, id ASC).
+ * (timestamp, id) 위치 다음 행을 limit 건 조회하며, 첫 페이지는 KeysetCursor.startingAt(시작 시간)을 넘깁니다.
+ * 페이지는 생성자 프로젝션(MeterValuePageRow)으로 조회하여 트랜잭션 엔티티를 함께 올리지 않습니다.
  */
 @Repository
 public interface MeterValueRepository extends JpaRepository<MeterValue, Long> {
 
     /**
-     * 트랜잭션 ID로 미터 값 조회 (시간순 정렬)
+     * 트랜잭션의 미터 값 키셋 페이지 조회 (idx_meter_value_transaction)
      */
-    List<MeterValue> findByTransactionIdFkOrderByTimestampAsc(Long transactionId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.charging.domain.model.MeterValuePageRow(" +
+           "m.id, t.transactionId, m.timestamp, m.measurand, m.value, m.unit, m.phase, m.location) " +
+           "FROM MeterValue m JOIN m.transaction t WHERE t.transactionId = :transactionId " +
+           "AND m.timestamp >= :timestamp AND (m.timestamp > :timestamp OR m.id > :id) " +
+           "ORDER BY m.timestamp ASC, m.id ASC")
+    List<MeterValuePageRow> findPageByTransactionId(
+        @Param("transactionId") String transactionId,
+        @Param("timestamp") LocalDateTime timestamp,
+        @Param("id") Long id,
+        Limit limit
+    );
 
     /**
-     * 측정값 종류로 조회
+     * 트랜잭션 / 측정값 종류의 미터 값 키셋 페이지 조회 (idx_meter_value_transaction)
      */
-    List<MeterValue> findByMeasurand(MeasurandEnum measurand);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.charging.domain.model.MeterValuePageRow(" +
+           "m.id, t.transactionId, m.timestamp, m.measurand, m.value, m.unit, m.phase, m.location) " +
+           "FROM MeterValue m JOIN m.transaction t WHERE t.transactionId = :transactionId " +
+           "AND m.measurand = :measurand " +
+           "AND m.timestamp >= :timestamp AND (m.timestamp > :timestamp OR m.id > :id) " +
+           "ORDER BY m.timestamp ASC, m.id ASC")
+    List<MeterValuePageRow> findPageByTransactionIdAndMeasurand(
+        @Param("transactionId") String transactionId,
+        @Param("measurand") MeasurandEnum measurand,
+        @Param("timestamp") LocalDateTime timestamp,
+        @Param("id") Long id,
+        Limit limit
+    );
 
     /**
-     * 트랜잭션 ID와 측정값 종류로 조회
+     * 기간 내 측정값 종류의 미터 값 키셋 페이지 조회 (idx_meter_value_measurand)
+     * METER_VALUE는 timestamp 기준 파티션이므로 기간 조건 없이 조회하지 않습니다 (전체 파티션 스캔 방지).
      */
-    List<MeterValue> findByTransactionIdFkAndMeasurand(Long transactionId, MeasurandEnum measurand);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.charging.domain.model.MeterValuePageRow(" +
+           "m.id, t.transactionId, m.timestamp, m.measurand, m.value, m.unit, m.phase, m.location) " +
+           "FROM MeterValue m JOIN m.transaction t WHERE m.measurand = :measurand " +
+           "AND m.timestamp >= :startDate AND m.timestamp < :endDate " +
+           "AND m.timestamp >= :timestamp AND (m.timestamp > :timestamp OR m.id > :id) " +
+           "ORDER BY m.timestamp ASC, m.id ASC")
+    List<MeterValuePageRow> findPageByMeasurandAndDateRange(
+        @Param("measurand") MeasurandEnum measurand,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate,
+        @Param("timestamp") LocalDateTime timestamp,
+        @Param("id") Long id,
+        Limit limit
+    );
 
     /**
-     * 기간별 미터 값 조회
+     * 기간별 미터 값 스트리밍 조회 (내보내기용 - 기간에 해당하는 파티션만 읽음)
+     * 커서로 fetch size 단위만 가져오고 값 객체로 바로 변환하므로 영속성 컨텍스트에 엔티티가 쌓이지 않습니다.
+     * 정렬 없이 파티션 순서대로 반환하며, 읽기 전용 트랜잭션 안에서 호출하고 반드시 close 해야 합니다.
      */
-    @Query("SELECT m FROM MeterValue m WHERE m.timestamp BETWEEN :startDate AND :endDate " +
-           "ORDER BY m.timestamp ASC")
-    List<MeterValue> findByDateRange(
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.charging.domain.model.MeterValueSample(" +
+           "t.transactionId, m.timestamp, m.measurand, m.value, m.unit, m.phase, m.location) " +
+           "FROM MeterValue m JOIN m.transaction t " +
+           "WHERE m.timestamp >= :startDate AND m.timestamp < :endDate")
+    Stream<MeterValueSample> streamByDateRange(
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate
     );
@@ -50,9 +106,18 @@ public interface MeterValueRepository extends JpaRepository<MeterValue, Long> {
     MeterValue findLatestByTransactionId(@Param("transactionId") Long transactionId);
 
     /**
-     * 에너지 미터 값만 조회 (kWh)
+     * 트랜잭션의 첫 에너지 레지스터 값 (위상 합계 값, 측정 시간순 - idx_meter_value_transaction 앞쪽 한 건)
+     */
+    @Query("SELECT m FROM MeterValue m WHERE m.measurand = 'ENERGY_ACTIVE_IMPORT_REGISTER' " +
+           "AND m.phase IS NULL AND m.value IS NOT NULL AND m.transactionIdFk = :transactionId " +
+           "ORDER BY m.timestamp ASC, m.id ASC LIMIT 1")
+    Optional<MeterValue> findFirstEnergyValueByTransactionId(@Param("transactionId") Long transactionId);
+
+    /**
+     * 트랜잭션의 마지막 에너지 레지스터 값 (위상 합계 값, 측정 시간순 - idx_meter_value_transaction 뒤쪽 한 건)
      */
     @Query("SELECT m FROM MeterValue m WHERE m.measurand = 'ENERGY_ACTIVE_IMPORT_REGISTER' " +
-           "AND m.transactionIdFk = :transactionId ORDER BY m.timestamp ASC")
-    List<MeterValue> findEnergyValuesByTransactionId(@Param("transactionId") Long transactionId);
+           "AND m.phase IS NULL AND m.value IS NOT NULL AND m.transactionIdFk = :transactionId " +
+           "ORDER BY m.timestamp DESC, m.id DESC LIMIT 1")
+    Optional<MeterValue> findLastEnergyValueByTransactionId(@Param("transactionId") Long transactionId);
 }
@@ -0,0 +1,32 @@
+package com.charging.domain.repository;
+
+import com.charging.domain.entity.MeterValueRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * MeterValueRollup 엔티티를 위한 Repository
+ * JPA 기반 데이터 액세스 레이어
+ */
+@Repository
+public interface MeterValueRollupRepository extends JpaRepository<MeterValueRollup, Long> {
+
+    /**
+     * 트랜잭션의 구간 요약 조회 (시간순 정렬)
+     */
+    List<MeterValueRollup> findByTransactionIdFkAndBucketMinutesOrderByBucketStartAsc(
+        Long transactionId,
+        Integer bucketMinutes
+    );
+
+    /**
+     * 마지막으로 집계된 구간 시작 시간
+     */
+    @Query("SELECT MAX(r.bucketStart) FROM MeterValueRollup r WHERE r.bucketMinutes = :bucketMinutes")
+    LocalDateTime findLatestBucketStart(@Param("bucketMinutes") Integer bucketMinutes);
+}
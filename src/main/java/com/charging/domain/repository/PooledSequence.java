@@ -0,0 +1,42 @@
+package com.charging.domain.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JDBC 직접 기록용 pooled-lo ID 할당기
+ * 시퀀스 값 하나를 블록의 하한값으로 보고 allocationSize 만큼 메모리에서 할당합니다.
+ *
+ * 엔티티의 @SequenceGenerator와 같은 시퀀스 / allocationSize를 사용해야
+ * JPA로 저장된 행과 ID가 충돌하지 않습니다.
+ */
+final class PooledSequence {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextBlockSql;
+    private final int allocationSize;
+
+    private long nextId;
+    private int remainingIds;
+
+    PooledSequence(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+                   String sequenceName, int allocationSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.allocationSize = allocationSize;
+        this.nextBlockSql = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect()
+                .getSequenceSupport()
+                .getSequenceNextValString(sequenceName);
+    }
+
+    synchronized long nextId() {
+        if (remainingIds == 0) {
+            nextId = jdbcTemplate.queryForObject(nextBlockSql, Long.class);
+            remainingIds = allocationSize;
+        }
+        remainingIds--;
+        return nextId++;
+    }
+}
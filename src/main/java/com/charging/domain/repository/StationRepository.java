@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -29,6 +31,22 @@ public interface StationRepository extends JpaRepository<Station, Long> {
      */
     boolean existsByStationId(String stationId);
 
+    /**
+     * OCPP Basic 인증 비밀번호 해시 조회
+     * @param stationId 충전소 ID
+     * @return 비밀번호 해시 (충전소가 없거나 비밀번호가 설정되지 않았으면 empty)
+     */
+    @Query("SELECT s.basicAuthPasswordHash FROM Station s WHERE s.stationId = :stationId")
+    Optional<String> findBasicAuthPasswordHash(@Param("stationId") String stationId);
+
+    /**
+     * 이미 등록된 충전소 ID 조회 (일괄 등록 중복 검사용)
+     * @param stationIds 충전소 ID 목록 (Oracle IN 절 제한으로 1000개 이하)
+     * @return 존재하는 충전소 ID 목록
+     */
+    @Query("SELECT s.stationId FROM Station s WHERE s.stationId IN :stationIds")
+    List<String> findExistingStationIds(@Param("stationIds") Collection<String> stationIds);
+
     /**
      * 충전소와 연관된 모든 EVSE를 함께 조회 (N+1 문제 해결)
      * @param stationId 충전소 ID
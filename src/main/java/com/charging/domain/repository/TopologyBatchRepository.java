@@ -0,0 +1,125 @@
+package com.charging.domain.repository;
+
+import com.charging.domain.enums.ConnectorStatusEnum;
+import com.charging.domain.enums.OperationalStatusEnum;
+import com.charging.domain.model.ConnectorTopology;
+import com.charging.dto.request.ConnectorProvisionRequest;
+import com.charging.dto.request.EvseProvisionRequest;
+import com.charging.dto.request.StationProvisionRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 충전소 / EVSE / 커넥터 일괄 등록용 Repository
+ * 엔티티 그래프(Station.addEvse / Evse.addConnector)를 거치지 않고 테이블별 JDBC 배치 INSERT로 기록합니다.
+ *
+ * ID는 각 엔티티와 같은 시퀀스(STATION_SEQ / EVSE_SEQ / CONNECTOR_SEQ)를 pooled-lo 방식으로 사용하므로
+ * JPA로 저장된 행과 충돌하지 않습니다.
+ * 엔티티 리스너(TopologyCacheInvalidator)를 거치지 않으므로 캐시 / 인덱스 반영은 호출한 쪽에서 처리합니다.
+ */
+@Repository
+public class TopologyBatchRepository {
+
+    /**
+     * Station / Evse / Connector 엔티티의 @SequenceGenerator allocationSize와 동일해야 함
+     */
+    static final int ID_ALLOCATION_SIZE = 50;
+
+    private static final String INSERT_STATION_SQL =
+            "INSERT INTO STATION (id, station_id, power_grid_capacity, max_price_limit, algorithm_mode, " +
+            "time_extension_factor, max_iteration_count, billing_power_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_EVSE_SQL =
+            "INSERT INTO EVSE (id, evse_id, station_id, max_power, operational_status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_CONNECTOR_SQL =
+            "INSERT INTO CONNECTOR (id, connector_id, evse_id, station_id, max_power, min_power, status, version, " +
+            "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledSequence stationIdSequence;
+    private final PooledSequence evseIdSequence;
+    private final PooledSequence connectorIdSequence;
+
+    public TopologyBatchRepository(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stationIdSequence = new PooledSequence(jdbcTemplate, entityManagerFactory, "STATION_SEQ", ID_ALLOCATION_SIZE);
+        this.evseIdSequence = new PooledSequence(jdbcTemplate, entityManagerFactory, "EVSE_SEQ", ID_ALLOCATION_SIZE);
+        this.connectorIdSequence = new PooledSequence(jdbcTemplate, entityManagerFactory, "CONNECTOR_SEQ",
+                ID_ALLOCATION_SIZE);
+    }
+
+    /**
+     * 충전소 목록을 하나의 DB 트랜잭션에서 테이블별 JDBC 배치로 기록
+     *
+     * @return 기록된 커넥터 (커넥터 상태 인덱스 등록용)
+     */
+    @Transactional
+    public List<ConnectorTopology> batchInsert(List<StationProvisionRequest> stations) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> stationArgs = new ArrayList<>(stations.size());
+        List<Object[]> evseArgs = new ArrayList<>();
+        List<Object[]> connectorArgs = new ArrayList<>();
+        List<ConnectorTopology> connectors = new ArrayList<>();
+
+        for (StationProvisionRequest station : stations) {
+            stationArgs.add(new Object[]{
+                    stationIdSequence.nextId(),
+                    station.stationId(),
+                    station.powerGridCapacity(),
+                    station.maxPriceLimit(),
+                    station.algorithmMode(),
+                    station.timeExtensionFactor(),
+                    station.maxIterationCount(),
+                    station.billingPowerId(),
+                    now,
+                    now
+            });
+
+            for (EvseProvisionRequest evse : station.evses()) {
+                evseArgs.add(new Object[]{
+                        evseIdSequence.nextId(),
+                        evse.evseId(),
+                        station.stationId(),
+                        evse.maxPower(),
+                        OperationalStatusEnum.OPERATIVE.name(),
+                        now,
+                        now
+                });
+
+                for (ConnectorProvisionRequest connector : evse.connectors()) {
+                    long id = connectorIdSequence.nextId();
+                    connectorArgs.add(new Object[]{
+                            id,
+                            connector.connectorId(),
+                            evse.evseId(),
+                            station.stationId(),
+                            connector.maxPower(),
+                            connector.minPower(),
+                            ConnectorStatusEnum.AVAILABLE.name(),
+                            now,
+                            now
+                    });
+                    connectors.add(new ConnectorTopology(id, station.stationId(), evse.evseId(),
+                            connector.connectorId(), connector.maxPower(), connector.minPower(),
+                            ConnectorStatusEnum.AVAILABLE));
+                }
+            }
+        }
+
+        // 부모 테이블부터 기록 (FK 순서)
+        jdbcTemplate.batchUpdate(INSERT_STATION_SQL, stationArgs);
+        jdbcTemplate.batchUpdate(INSERT_EVSE_SQL, evseArgs);
+        jdbcTemplate.batchUpdate(INSERT_CONNECTOR_SQL, connectorArgs);
+        return connectors;
+    }
+}
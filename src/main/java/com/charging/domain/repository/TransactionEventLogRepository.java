@@ -0,0 +1,114 @@
+package com.charging.domain.repository;
+
+import com.charging.domain.enums.ChargingStateEnum;
+import com.charging.domain.enums.TransactionEventEnum;
+import com.charging.domain.model.TransactionEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TRANSACTION_EVENT_LOG 기록 / 조회용 Repository (append-only)
+ * 엔티티를 거치지 않고 JDBC INSERT로 추가만 하며, 호출한 쪽의 DB 트랜잭션에 참여합니다.
+ *
+ * ID는 TransactionEventLog 엔티티와 같은 TRANSACTION_EVENT_LOG_SEQ 시퀀스를 pooled-lo 방식으로 사용합니다.
+ */
+@Repository
+public class TransactionEventLogRepository {
+
+    /**
+     * TransactionEventLog 엔티티의 @SequenceGenerator allocationSize와 동일해야 함
+     */
+    static final int ID_ALLOCATION_SIZE = 50;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO TRANSACTION_EVENT_LOG (id, transaction_id, event_type, charging_state, station_id, evse_id, " +
+            "connector_id, id_token, stop_reason, occurred_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, transaction_id, event_type, charging_state, station_id, evse_id, connector_id, id_token, " +
+            "stop_reason, occurred_at FROM TRANSACTION_EVENT_LOG ";
+
+    private static final RowMapper<TransactionEvent> ROW_MAPPER = (rs, rowNum) -> {
+        String chargingState = rs.getString("charging_state");
+        return new TransactionEvent(
+                rs.getLong("id"),
+                rs.getString("transaction_id"),
+                TransactionEventEnum.valueOf(rs.getString("event_type")),
+                chargingState != null ? ChargingStateEnum.valueOf(chargingState) : null,
+                rs.getString("station_id"),
+                rs.getObject("evse_id", Integer.class),
+                rs.getObject("connector_id", Integer.class),
+                rs.getString("id_token"),
+                rs.getString("stop_reason"),
+                rs.getTimestamp("occurred_at").toLocalDateTime());
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledSequence idSequence;
+
+    public TransactionEventLogRepository(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idSequence = new PooledSequence(jdbcTemplate, entityManagerFactory, "TRANSACTION_EVENT_LOG_SEQ",
+                ID_ALLOCATION_SIZE);
+    }
+
+    /**
+     * 이벤트 한 건 추가 (호출한 쪽의 DB 트랜잭션 안에서 실행)
+     */
+    public void append(TransactionEvent event) {
+        jdbcTemplate.update(INSERT_SQL, toArgs(event, Timestamp.valueOf(LocalDateTime.now())));
+    }
+
+    /**
+     * 이벤트 목록을 하나의 JDBC 배치로 추가 (발생 순서대로 ID 할당)
+     */
+    public void batchAppend(List<TransactionEvent> events) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(events.size());
+        for (TransactionEvent event : events) {
+            batchArgs.add(toArgs(event, now));
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+
+    /**
+     * 트랜잭션의 이벤트 이력 (발생 순)
+     */
+    public List<TransactionEvent> findByTransactionId(String transactionId) {
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE transaction_id = ? ORDER BY occurred_at, id",
+                ROW_MAPPER, transactionId);
+    }
+
+    /**
+     * 해당 시간 이후 발생한 모든 이벤트 (발생 순 - 재기동 시 스냅샷 이후 재생용)
+     */
+    public List<TransactionEvent> findSince(LocalDateTime from) {
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE occurred_at >= ? ORDER BY occurred_at, id",
+                ROW_MAPPER, Timestamp.valueOf(from));
+    }
+
+    private Object[] toArgs(TransactionEvent event, Timestamp now) {
+        return new Object[]{
+                idSequence.nextId(),
+                event.transactionId(),
+                event.eventType().name(),
+                event.chargingState() != null ? event.chargingState().name() : null,
+                event.stationId(),
+                event.evseId(),
+                event.connectorId(),
+                event.idToken(),
+                event.stopReason(),
+                Timestamp.valueOf(event.occurredAt()),
+                now,
+                now
+        };
+    }
+}
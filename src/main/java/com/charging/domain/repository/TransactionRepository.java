@@ -3,18 +3,31 @@ package com.charging.domain.repository;
 import com.charging.domain.entity.Transaction;
 import com.charging.domain.enums.ChargingStateEnum;
 import com.charging.domain.enums.TransactionEventEnum;
+import com.charging.domain.model.ActiveSession;
+import com.charging.domain.model.TransactionPageRow;
+import com.charging.dto.response.TransactionResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Transaction 엔티티를 위한 Repository
  * JPA 기반 데이터 액세스 레이어
+ *
+ * 목록 조회는 키셋 페이지(findPageBy*)로만 제공합니다 (최신순 - start_time DESC, id DESC).
+ * (startTime, id) 위치보다 앞선 행을 limit 건 조회하며, 첫 페이지는 KeysetCursor.LATEST를 넘깁니다.
+ * "t.startTime <= :startTime" 조건은 중복이지만 인덱스 범위 탐색의 시작점이 됩니다.
+ * 페이지는 생성자 프로젝션(TransactionPageRow)으로 조회하여 엔티티를 영속성 컨텍스트에 올리지 않습니다.
  */
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
@@ -25,58 +38,161 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     Optional<Transaction> findByTransactionId(String transactionId);
 
     /**
-     * 충전소 ID로 트랜잭션 조회
+     * 트랜잭션 ID로 조회 (동적 프로젝션 - 프로젝션 타입의 컬럼만 조회)
      */
-    List<Transaction> findByStationId(String stationId);
+    <T> Optional<T> findByTransactionId(String transactionId, Class<T> type);
 
     /**
-     * EVSE ID와 충전소 ID로 트랜잭션 조회
+     * 트랜잭션 ID 존재 여부
      */
-    List<Transaction> findByEvseIdAndStationId(Integer evseId, String stationId);
+    boolean existsByTransactionId(String transactionId);
 
     /**
-     * ID Token으로 트랜잭션 조회
+     * 해당 이벤트 유형인 트랜잭션 존재 여부 (종료된 트랜잭션 확인용)
      */
-    List<Transaction> findByIdToken(String idToken);
+    boolean existsByTransactionIdAndEventType(String transactionId, TransactionEventEnum eventType);
 
     /**
-     * 이벤트 유형으로 트랜잭션 조회
+     * 트랜잭션의 충전소 ID 조회 (충전소별 이벤트 실행기 라우팅용)
      */
-    List<Transaction> findByEventType(TransactionEventEnum eventType);
+    @Query("SELECT t.stationId FROM Transaction t WHERE t.transactionId = :transactionId")
+    Optional<String> findStationIdByTransactionId(@Param("transactionId") String transactionId);
 
     /**
-     * 충전 상태로 트랜잭션 조회
+     * 충전소 ID로 트랜잭션 키셋 페이지 조회 (idx_transaction_station_start)
      */
-    List<Transaction> findByChargingState(ChargingStateEnum chargingState);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.charging.domain.model.TransactionPageRow(" +
+           "t.id, t.transactionId, t.stationId, t.evseId, t.connectorId, t.idToken, t.eventType, t.chargingState, " +
+           "t.startTime, t.stopTime, t.totalEnergy, t.stopReason) " +
+           "FROM Transaction t WHERE t.stationId = :stationId " +
+           "AND t.startTime <= :startTime AND (t.startTime < :startTime OR t.id < :id) " +
+           "ORDER BY t.startTime DESC, t.id DESC")
+    List<TransactionPageRow> findPageByStationId(
+        @Param("stationId") String stationId,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("id") Long id,
+        Limit limit
+    );
 
     /**
-     * 진행 중인 트랜잭션 조회 (종료되지 않은 것)
+     * EVSE ID와 충전소 ID로 트랜잭션 키셋 페이지 조회
+     * 충전소의 EVSE 수는 적으므로 별도 인덱스 없이 idx_transaction_station_start를 최신순으로 읽으며 거릅니다.
      */
-    @Query("SELECT t FROM Transaction t WHERE t.stopTime IS NULL AND t.stationId = :stationId")
-    List<Transaction> findActiveTransactions(@Param("stationId") String stationId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.charging.domain.model.TransactionPageRow(" +
+           "t.id, t.transactionId, t.stationId, t.evseId, t.connectorId, t.idToken, t.eventType, t.chargingState, " +
+           "t.startTime, t.stopTime, t.totalEnergy, t.stopReason) " +
+           "FROM Transaction t WHERE t.stationId = :stationId AND t.evseId = :evseId " +
+           "AND t.startTime <= :startTime AND (t.startTime < :startTime OR t.id < :id) " +
+           "ORDER BY t.startTime DESC, t.id DESC")
+    List<TransactionPageRow> findPageByEvseIdAndStationId(
+        @Param("evseId") Integer evseId,
+        @Param("stationId") String stationId,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("id") Long id,
+        Limit limit
+    );
 
     /**
-     * 트랜잭션과 미터 값을 함께 조회 (N+1 문제 해결)
+     * 충전소의 기간 내 트랜잭션 키셋 페이지 조회 [startDate, endDate) (idx_transaction_station_start)
+     * 첫 페이지는 KeysetCursor.endingAt(endDate)를 넘깁니다.
      */
-    @Query("SELECT t FROM Transaction t LEFT JOIN FETCH t.meterValues WHERE t.transactionId = :transactionId")
-    Optional<Transaction> findByTransactionIdWithMeterValues(@Param("transactionId") String transactionId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.charging.domain.model.TransactionPageRow(" +
+           "t.id, t.transactionId, t.stationId, t.evseId, t.connectorId, t.idToken, t.eventType, t.chargingState, " +
+           "t.startTime, t.stopTime, t.totalEnergy, t.stopReason) " +
+           "FROM Transaction t WHERE t.stationId = :stationId AND t.startTime >= :startDate " +
+           "AND t.startTime <= :startTime AND (t.startTime < :startTime OR t.id < :id) " +
+           "ORDER BY t.startTime DESC, t.id DESC")
+    List<TransactionPageRow> findPageByStationIdAndDateRange(
+        @Param("stationId") String stationId,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("id") Long id,
+        Limit limit
+    );
 
     /**
-     * 기간별 트랜잭션 조회
+     * ID Token으로 트랜잭션 키셋 페이지 조회 (idx_transaction_id_token_start)
      */
-    @Query("SELECT t FROM Transaction t WHERE t.startTime BETWEEN :startDate AND :endDate")
-    List<Transaction> findByDateRange(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.charging.domain.model.TransactionPageRow(" +
+           "t.id, t.transactionId, t.stationId, t.evseId, t.connectorId, t.idToken, t.eventType, t.chargingState, " +
+           "t.startTime, t.stopTime, t.totalEnergy, t.stopReason) " +
+           "FROM Transaction t WHERE t.idToken = :idToken " +
+           "AND t.startTime <= :startTime AND (t.startTime < :startTime OR t.id < :id) " +
+           "ORDER BY t.startTime DESC, t.id DESC")
+    List<TransactionPageRow> findPageByIdToken(
+        @Param("idToken") String idToken,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("id") Long id,
+        Limit limit
     );
 
     /**
-     * 충전소별 기간별 트랜잭션 조회
+     * 이벤트 유형으로 트랜잭션 키셋 페이지 조회
+     * 값 종류가 적은 컬럼이므로 별도 인덱스 없이 idx_transaction_start를 최신순으로 읽으며 거릅니다.
      */
-    @Query("SELECT t FROM Transaction t WHERE t.stationId = :stationId " +
-           "AND t.startTime BETWEEN :startDate AND :endDate")
-    List<Transaction> findByStationIdAndDateRange(
-        @Param("stationId") String stationId,
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.charging.domain.model.TransactionPageRow(" +
+           "t.id, t.transactionId, t.stationId, t.evseId, t.connectorId, t.idToken, t.eventType, t.chargingState, " +
+           "t.startTime, t.stopTime, t.totalEnergy, t.stopReason) " +
+           "FROM Transaction t WHERE t.eventType = :eventType " +
+           "AND t.startTime <= :startTime AND (t.startTime < :startTime OR t.id < :id) " +
+           "ORDER BY t.startTime DESC, t.id DESC")
+    List<TransactionPageRow> findPageByEventType(
+        @Param("eventType") TransactionEventEnum eventType,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    /**
+     * 충전 상태로 트랜잭션 키셋 페이지 조회
+     * 자주 바뀌는 컬럼이므로 인덱스를 두지 않고 idx_transaction_start를 최신순으로 읽으며 거릅니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.charging.domain.model.TransactionPageRow(" +
+           "t.id, t.transactionId, t.stationId, t.evseId, t.connectorId, t.idToken, t.eventType, t.chargingState, " +
+           "t.startTime, t.stopTime, t.totalEnergy, t.stopReason) " +
+           "FROM Transaction t WHERE t.chargingState = :chargingState " +
+           "AND t.startTime <= :startTime AND (t.startTime < :startTime OR t.id < :id) " +
+           "ORDER BY t.startTime DESC, t.id DESC")
+    List<TransactionPageRow> findPageByChargingState(
+        @Param("chargingState") ChargingStateEnum chargingState,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    /**
+     * 전체 진행 중인 트랜잭션 조회 (활성 세션 레지스트리 재구성용)
+     * 생성자 프로젝션 - 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 조회
+     */
+    @Query("SELECT new com.charging.domain.model.ActiveSession(" +
+           "t.transactionId, t.stationId, t.evseId, t.connectorId, t.idToken, t.chargingState, t.startTime) " +
+           "FROM Transaction t WHERE t.stopTime IS NULL")
+    List<ActiveSession> findAllActiveTransactions();
+
+    /**
+     * 트랜잭션과 미터 값을 함께 조회 (N+1 문제 해결)
+     */
+    @Query("SELECT t FROM Transaction t LEFT JOIN FETCH t.meterValues WHERE t.transactionId = :transactionId")
+    Optional<Transaction> findByTransactionIdWithMeterValues(@Param("transactionId") String transactionId);
+
+    /**
+     * 기간별 트랜잭션 스트리밍 조회 (내보내기용)
+     * 커서로 fetch size 단위만 가져오고 DTO로 바로 변환하므로 영속성 컨텍스트에 엔티티가 쌓이지 않습니다.
+     * 읽기 전용 트랜잭션 안에서 호출하고 반드시 close 해야 합니다 (try-with-resources).
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.charging.dto.response.TransactionResponse(" +
+           "t.transactionId, t.stationId, t.evseId, t.connectorId, t.idToken, t.eventType, t.chargingState, " +
+           "t.startTime, t.stopTime, t.totalEnergy, t.stopReason) " +
+           "FROM Transaction t WHERE t.startTime >= :startDate AND t.startTime < :endDate " +
+           "ORDER BY t.startTime ASC")
+    Stream<TransactionResponse> streamByDateRange(
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate
     );
@@ -0,0 +1,128 @@
+package com.charging.domain.repository;
+
+import com.charging.domain.enums.ChargingStateEnum;
+import com.charging.domain.model.ActiveSession;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 진행 중인 세션 스냅샷 기록 / 조회용 Repository
+ * 스냅샷 헤더와 세션 목록을 한 DB 트랜잭션에서 JDBC 배치로 기록하고, 이전 스냅샷은 삭제합니다.
+ *
+ * ID는 TransactionSnapshot / TransactionSnapshotSession 엔티티와 같은 시퀀스를 pooled-lo 방식으로 사용합니다.
+ */
+@Repository
+public class TransactionSnapshotRepository {
+
+    /**
+     * 엔티티의 @SequenceGenerator allocationSize와 동일해야 함
+     */
+    static final int ID_ALLOCATION_SIZE = 50;
+
+    private static final String INSERT_SNAPSHOT_SQL =
+            "INSERT INTO TRANSACTION_SNAPSHOT (id, taken_at, session_count, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SESSION_SQL =
+            "INSERT INTO TRANSACTION_SNAPSHOT_SESSION (id, snapshot_id, transaction_id, station_id, evse_id, " +
+            "connector_id, id_token, charging_state, start_time, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final RowMapper<ActiveSession> SESSION_ROW_MAPPER = (rs, rowNum) -> {
+        String chargingState = rs.getString("charging_state");
+        return new ActiveSession(
+                rs.getString("transaction_id"),
+                rs.getString("station_id"),
+                rs.getInt("evse_id"),
+                rs.getInt("connector_id"),
+                rs.getString("id_token"),
+                chargingState != null ? ChargingStateEnum.valueOf(chargingState) : null,
+                rs.getTimestamp("start_time").toLocalDateTime());
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledSequence snapshotIdSequence;
+    private final PooledSequence sessionIdSequence;
+
+    public TransactionSnapshotRepository(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotIdSequence = new PooledSequence(jdbcTemplate, entityManagerFactory,
+                "TRANSACTION_SNAPSHOT_SEQ", ID_ALLOCATION_SIZE);
+        this.sessionIdSequence = new PooledSequence(jdbcTemplate, entityManagerFactory,
+                "TRANSACTION_SNAPSHOT_SESSION_SEQ", ID_ALLOCATION_SIZE);
+    }
+
+    /**
+     * 스냅샷 저장 후 이전 스냅샷 삭제
+     *
+     * @param takenAt  스냅샷 시간 (세션 목록을 읽기 전에 잰 시간)
+     * @param sessions 진행 중인 세션 목록
+     */
+    @Transactional
+    public void replace(LocalDateTime takenAt, Collection<ActiveSession> sessions) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long snapshotId = snapshotIdSequence.nextId();
+        jdbcTemplate.update(INSERT_SNAPSHOT_SQL, snapshotId, Timestamp.valueOf(takenAt), sessions.size(), now, now);
+
+        List<Object[]> batchArgs = new ArrayList<>(sessions.size());
+        for (ActiveSession session : sessions) {
+            batchArgs.add(new Object[]{
+                    sessionIdSequence.nextId(),
+                    snapshotId,
+                    session.transactionId(),
+                    session.stationId(),
+                    session.evseId(),
+                    session.connectorId(),
+                    session.idToken(),
+                    session.chargingState() != null ? session.chargingState().name() : null,
+                    Timestamp.valueOf(session.startTime()),
+                    now,
+                    now
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SESSION_SQL, batchArgs);
+
+        jdbcTemplate.update("DELETE FROM TRANSACTION_SNAPSHOT_SESSION WHERE snapshot_id <> ?", snapshotId);
+        jdbcTemplate.update("DELETE FROM TRANSACTION_SNAPSHOT WHERE id <> ?", snapshotId);
+    }
+
+    /**
+     * 가장 최근 스냅샷
+     */
+    @Transactional(readOnly = true)
+    public Optional<Snapshot> findLatest() {
+        List<Snapshot> headers = jdbcTemplate.query(
+                "SELECT id, taken_at FROM TRANSACTION_SNAPSHOT ORDER BY taken_at DESC, id DESC FETCH FIRST 1 ROWS ONLY",
+                (rs, rowNum) -> new Snapshot(rs.getLong("id"), rs.getTimestamp("taken_at").toLocalDateTime(), List.of()));
+        if (headers.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Snapshot header = headers.getFirst();
+        List<ActiveSession> sessions = jdbcTemplate.query(
+                "SELECT transaction_id, station_id, evse_id, connector_id, id_token, charging_state, start_time " +
+                "FROM TRANSACTION_SNAPSHOT_SESSION WHERE snapshot_id = ?",
+                SESSION_ROW_MAPPER, header.id());
+        return Optional.of(new Snapshot(header.id(), header.takenAt(), sessions));
+    }
+
+    /**
+     * 스냅샷
+     *
+     * @param id       스냅샷 ID
+     * @param takenAt  스냅샷 시간
+     * @param sessions 스냅샷 시점의 진행 중인 세션
+     */
+    public record Snapshot(Long id, LocalDateTime takenAt, List<ActiveSession> sessions) {
+    }
+}
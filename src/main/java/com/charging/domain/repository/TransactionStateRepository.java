@@ -0,0 +1,74 @@
+package com.charging.domain.repository;
+
+import com.charging.domain.enums.TransactionEventEnum;
+import com.charging.domain.model.ChargingStateChange;
+import com.charging.domain.model.TransactionEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TRANSACTION 충전 상태 일괄 기록용 Repository
+ * 트랜잭션별 마지막 상태는 JDBC 배치 UPDATE로, 모든 상태 변경 이력은 TRANSACTION_EVENT_LOG에 배치 INSERT로 기록합니다.
+ * 두 기록은 서로 다른 DB 트랜잭션으로 실행됩니다.
+ *
+ * UPDATE는 버전을 올려 같은 트랜잭션을 JPA로 읽어 둔 쪽(종료 처리 등)이 나중에 저장하면 낙관적 락 충돌로 다시 읽게 하고,
+ * 이미 종료된 트랜잭션은 건드리지 않습니다.
+ */
+@Repository
+public class TransactionStateRepository {
+
+    private static final String UPDATE_STATE_SQL =
+            "UPDATE TRANSACTION SET charging_state = ?, event_type = ?, version = version + 1, updated_at = ? " +
+            "WHERE transaction_id = ? AND event_type <> ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionEventLogRepository transactionEventLogRepository;
+
+    public TransactionStateRepository(JdbcTemplate jdbcTemplate,
+                                      TransactionEventLogRepository transactionEventLogRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionEventLogRepository = transactionEventLogRepository;
+    }
+
+    /**
+     * 트랜잭션별 마지막 상태 기록
+     *
+     * @param latest 트랜잭션별 마지막 상태 (트랜잭션당 1건)
+     */
+    @Transactional
+    public void writeStates(List<ChargingStateChange> latest) {
+        if (latest.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> updateArgs = new ArrayList<>(latest.size());
+        for (ChargingStateChange change : latest) {
+            updateArgs.add(new Object[]{
+                    change.chargingState().name(),
+                    TransactionEventEnum.UPDATED.name(),
+                    now,
+                    change.transactionId(),
+                    TransactionEventEnum.ENDED.name()
+            });
+        }
+        jdbcTemplate.batchUpdate(UPDATE_STATE_SQL, updateArgs);
+    }
+
+    /**
+     * 상태 변경 이력 기록 (마지막 상태와 별도 DB 트랜잭션 - 이력 기록 실패가 상태 기록을 막지 않음)
+     *
+     * @param history 발생 순서대로의 상태 변경
+     */
+    @Transactional
+    public void appendHistory(List<ChargingStateChange> history) {
+        if (!history.isEmpty()) {
+            transactionEventLogRepository.batchAppend(history.stream().map(TransactionEvent::updated).toList());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.charging.dto.request;
+
+/**
+ * 충전소 OCPP Basic 인증 비밀번호 설정 요청
+ *
+ * @param password BasicAuthPassword (16 ~ 40자)
+ */
+public record BasicAuthPasswordRequest(
+        String password
+) {
+}
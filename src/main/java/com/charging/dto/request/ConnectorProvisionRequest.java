@@ -0,0 +1,21 @@
+package com.charging.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.math.BigDecimal;
+
+/**
+ * 커넥터 일괄 등록 요청
+ *
+ * @param connectorId 커넥터 ID (EVSE 내 고유)
+ * @param maxPower    최대 허용 전력량 (kW)
+ * @param minPower    최소 허용 전력량 (kW)
+ */
+public record ConnectorProvisionRequest(
+        @NotNull @Positive Integer connectorId,
+        @NotNull @Positive BigDecimal maxPower,
+        @NotNull @PositiveOrZero BigDecimal minPower
+) {
+}
@@ -0,0 +1,23 @@
+package com.charging.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * EVSE 일괄 등록 요청
+ *
+ * @param evseId     EVSE ID (충전소 내 고유)
+ * @param maxPower   최대 허용 전력량 (kW)
+ * @param connectors 커넥터 목록
+ */
+public record EvseProvisionRequest(
+        @NotNull @Positive Integer evseId,
+        @NotNull @Positive BigDecimal maxPower,
+        @NotEmpty List<@Valid ConnectorProvisionRequest> connectors
+) {
+}
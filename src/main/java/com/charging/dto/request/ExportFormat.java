@@ -0,0 +1,35 @@
+package com.charging.dto.request;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 내보내기 파일 형식
+ */
+public enum ExportFormat {
+
+    /**
+     * 쉼표 구분 값 (헤더 1행 포함)
+     */
+    CSV("text/csv", "csv"),
+
+    /**
+     * 한 줄에 JSON 객체 하나 (newline-delimited JSON)
+     */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return MediaType.parseMediaType(mediaType);
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
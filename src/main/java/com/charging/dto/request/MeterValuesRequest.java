@@ -0,0 +1,20 @@
+package com.charging.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * 미터 값 수집 요청
+ * OCPP 2.0.1 MeterValues / TransactionEvent.meterValue 를 트랜잭션 단위로 전달합니다.
+ *
+ * @param transactionId 트랜잭션 ID (OCPP 표준)
+ * @param sampledValues 측정값 목록
+ */
+public record MeterValuesRequest(
+        @NotBlank String transactionId,
+        @NotEmpty List<@Valid SampledValueRequest> sampledValues
+) {
+}
@@ -0,0 +1,27 @@
+package com.charging.dto.request;
+
+import com.charging.domain.enums.MeasurandEnum;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * OCPP 2.0.1 SampledValue
+ *
+ * @param timestamp 측정 시간
+ * @param measurand 측정값 종류
+ * @param value     측정값
+ * @param unit      단위
+ * @param phase     Phase (전기 위상)
+ * @param location  위치 (Inlet, Outlet, Body 등)
+ */
+public record SampledValueRequest(
+        @NotNull LocalDateTime timestamp,
+        @NotNull MeasurandEnum measurand,
+        @NotNull BigDecimal value,
+        String unit,
+        String phase,
+        String location
+) {
+}
@@ -0,0 +1,45 @@
+package com.charging.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 충전소 일괄 등록 요청 (충전소 > EVSE > 커넥터)
+ *
+ * @param stationId           충전소 ID
+ * @param powerGridCapacity   전력 최대 수용량 (kW)
+ * @param maxPriceLimit       최대 허용 가격 (원)
+ * @param algorithmMode       스마트충전 알고리즘 모드
+ * @param timeExtensionFactor 시간확장 계수
+ * @param maxIterationCount   최대 반복 횟수
+ * @param billingPowerId      요금 적용 전력 ID
+ * @param evses               EVSE 목록
+ */
+public record StationProvisionRequest(
+        @NotBlank @Size(max = 50) String stationId,
+        @NotNull @Positive BigDecimal powerGridCapacity,
+        @NotNull @PositiveOrZero BigDecimal maxPriceLimit,
+        @NotNull @Min(0) @Max(9) Integer algorithmMode,
+        @NotNull @Positive BigDecimal timeExtensionFactor,
+        @NotNull @Positive Integer maxIterationCount,
+        @NotNull Long billingPowerId,
+        @NotEmpty List<@Valid EvseProvisionRequest> evses
+) {
+
+    /**
+     * 충전소에 속한 커넥터 수
+     */
+    public int connectorCount() {
+        return evses.stream().mapToInt(evse -> evse.connectors().size()).sum();
+    }
+}
@@ -0,0 +1,49 @@
+package com.charging.dto.response;
+
+import com.charging.service.smartcharging.CompositeSchedule;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 합성 충전 스케줄 응답 (OCPP 2.0.1 CompositeSchedule)
+ *
+ * @param stationId        충전소 ID
+ * @param evseId           EVSE ID
+ * @param scheduleStart    스케줄 시작 시간
+ * @param duration         스케줄 길이 (초)
+ * @param chargingRateUnit 충전률 단위 (W 또는 A)
+ * @param periods          구간 목록
+ */
+public record CompositeScheduleResponse(
+        String stationId,
+        Integer evseId,
+        LocalDateTime scheduleStart,
+        int duration,
+        String chargingRateUnit,
+        List<Period> periods
+) {
+
+    public static CompositeScheduleResponse of(String stationId, Integer evseId, CompositeSchedule schedule) {
+        List<Period> periods = new ArrayList<>(schedule.size());
+        for (int i = 0; i < schedule.size(); i++) {
+            double limit = schedule.getLimit(i);
+            periods.add(new Period(schedule.getStartPeriod(i),
+                    Double.isNaN(limit) ? null : BigDecimal.valueOf(limit).setScale(2, RoundingMode.HALF_UP)));
+        }
+        return new CompositeScheduleResponse(stationId, evseId, schedule.getScheduleStart(),
+                schedule.getDuration(), schedule.getChargingRateUnit(), periods);
+    }
+
+    /**
+     * 스케줄 구간
+     *
+     * @param startPeriod 구간 시작 (스케줄 시작 기준 초)
+     * @param limit       제한값 (적용되는 프로파일이 없으면 null)
+     */
+    public record Period(int startPeriod, BigDecimal limit) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.charging.dto.response;
+
+import com.charging.domain.model.KeysetCursor;
+import com.charging.exception.ChargingException;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지 응답
+ *
+ * @param items      페이지 항목
+ * @param nextCursor 다음 페이지 토큰 (마지막 페이지이면 null)
+ */
+public record KeysetPage<T>(
+        List<T> items,
+        String nextCursor
+) {
+
+    public static final int MAX_SIZE = 500;
+
+    /**
+     * @throws ChargingException 페이지 크기가 1 ~ MAX_SIZE 범위를 벗어난 경우
+     */
+    public static void validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new ChargingException(String.format("size는 1 ~ %d 사이여야 합니다. (size: %d)", MAX_SIZE, size));
+        }
+    }
+
+    /**
+     * size + 1 건을 조회한 결과로 페이지 생성 (초과분이 있으면 다음 페이지가 있음)
+     *
+     * @param rows     size + 1 건까지 조회한 행
+     * @param size     페이지 크기
+     * @param filter   조회 조건 키 (다음 페이지 토큰에 묶임 - KeysetCursor.filterOf)
+     * @param cursorOf 행의 키셋 위치
+     * @param mapper   응답 항목 변환
+     */
+    public static <R, T> KeysetPage<T> of(List<R> rows, int size, String filter,
+                                          Function<R, KeysetCursor> cursorOf, Function<R, T> mapper) {
+        List<R> page = rows.size() > size ? rows.subList(0, size) : rows;
+        String nextCursor = rows.size() > size ? cursorOf.apply(page.getLast()).encode(filter) : null;
+        return new KeysetPage<>(page.stream().map(mapper).toList(), nextCursor);
+    }
+}
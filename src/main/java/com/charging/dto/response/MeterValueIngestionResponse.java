@@ -0,0 +1,9 @@
+package com.charging.dto.response;
+
+/**
+ * 미터 값 수집 응답
+ *
+ * @param accepted 버퍼에 적재된 샘플 수
+ */
+public record MeterValueIngestionResponse(int accepted) {
+}
@@ -0,0 +1,23 @@
+package com.charging.dto.response;
+
+/**
+ * 충전소 일괄 등록 진행 상황 (NDJSON 한 줄)
+ *
+ * @param phase           단계 (PERSISTING: 청크 기록 완료, COMPLETED: 전체 완료, FAILED: 중단)
+ * @param stations        기록 완료된 충전소 수
+ * @param totalStations   전체 충전소 수
+ * @param connectors      기록 완료된 커넥터 수
+ * @param totalConnectors 전체 커넥터 수
+ * @param elapsedMillis   시작 후 경과 시간 (ms)
+ * @param message         실패 사유 (FAILED)
+ */
+public record ProvisioningProgress(
+        String phase,
+        int stations,
+        int totalStations,
+        int connectors,
+        int totalConnectors,
+        long elapsedMillis,
+        String message
+) {
+}
@@ -0,0 +1,82 @@
+package com.charging.dto.response;
+
+import com.charging.domain.entity.Transaction;
+import com.charging.domain.model.ActiveSession;
+import com.charging.domain.enums.ChargingStateEnum;
+import com.charging.domain.enums.TransactionEventEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 응답
+ * 지연 로딩 연관관계(evse, meterValues)를 포함하지 않으므로 직렬화 시 추가 쿼리가 발생하지 않습니다.
+ * TransactionRepository의 클래스 기반 프로젝션으로도 사용됩니다 (필요한 컬럼만 조회).
+ *
+ * @param transactionId 트랜잭션 ID (OCPP 표준)
+ * @param stationId     충전소 ID
+ * @param evseId        EVSE ID
+ * @param connectorId   커넥터 ID
+ * @param idToken       ID Token
+ * @param eventType     트랜잭션 이벤트 유형
+ * @param chargingState 충전 상태
+ * @param startTime     시작 시간
+ * @param stopTime      종료 시간
+ * @param totalEnergy   누적 에너지 (kWh)
+ * @param stopReason    정지 이유
+ */
+public record TransactionResponse(
+        String transactionId,
+        String stationId,
+        Integer evseId,
+        Integer connectorId,
+        String idToken,
+        TransactionEventEnum eventType,
+        ChargingStateEnum chargingState,
+        LocalDateTime startTime,
+        LocalDateTime stopTime,
+        BigDecimal totalEnergy,
+        String stopReason
+) {
+
+    public static TransactionResponse from(Transaction transaction) {
+        return new TransactionResponse(
+                transaction.getTransactionId(),
+                transaction.getStationId(),
+                transaction.getEvseId(),
+                transaction.getConnectorId(),
+                transaction.getIdToken(),
+                transaction.getEventType(),
+                transaction.getChargingState(),
+                transaction.getStartTime(),
+                transaction.getStopTime(),
+                transaction.getTotalEnergy(),
+                transaction.getStopReason());
+    }
+
+    /**
+     * 진행 중인 세션의 응답 (DB 조회 없음 - 종료 / 에너지 정보는 비어 있음)
+     */
+    public static TransactionResponse from(ActiveSession session, TransactionEventEnum eventType) {
+        return new TransactionResponse(
+                session.transactionId(),
+                session.stationId(),
+                session.evseId(),
+                session.connectorId(),
+                session.idToken(),
+                eventType,
+                session.chargingState(),
+                session.startTime(),
+                null,
+                null,
+                null);
+    }
+
+    /**
+     * 아직 DB에 기록되지 않은 충전 상태를 반영한 응답
+     */
+    public TransactionResponse withChargingState(ChargingStateEnum newState) {
+        return new TransactionResponse(transactionId, stationId, evseId, connectorId, idToken,
+                TransactionEventEnum.UPDATED, newState, startTime, stopTime, totalEnergy, stopReason);
+    }
+}
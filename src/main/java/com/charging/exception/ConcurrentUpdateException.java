@@ -0,0 +1,11 @@
+package com.charging.exception;
+
+/**
+ * 동시 수정 충돌이 재시도 후에도 해소되지 않았을 때 발생하는 예외 (낙관적 락)
+ */
+public class ConcurrentUpdateException extends ChargingException {
+
+    public ConcurrentUpdateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
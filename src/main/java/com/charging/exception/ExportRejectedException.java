@@ -0,0 +1,21 @@
+package com.charging.exception;
+
+/**
+ * 동시에 실행 중인 내보내기가 최대 수에 도달해 요청을 받을 수 없을 때 발생하는 예외 (backpressure)
+ */
+public class ExportRejectedException extends ChargingException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * @param retryAfterSeconds 다시 시도하기까지 기다릴 시간 (초)
+     */
+    public ExportRejectedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,11 @@
+package com.charging.exception;
+
+/**
+ * 수집 버퍼가 가득 차서 요청을 받을 수 없을 때 발생하는 예외 (backpressure)
+ */
+public class IngestionRejectedException extends ChargingException {
+
+    public IngestionRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.charging.exception;
+
+/**
+ * 허용되지 않는 상태 전이를 요청했을 때 발생하는 예외 (커넥터 상태 등)
+ */
+public class InvalidStatusTransitionException extends ChargingException {
+
+    public InvalidStatusTransitionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,25 @@
+package com.charging.exception;
+
+import com.charging.ocpp.OcppErrorCode;
+
+/**
+ * OCPP CALL 처리 실패 시 발생하는 예외 (CALLERROR 프레임으로 응답)
+ */
+public class OcppCallException extends ChargingException {
+
+    private final OcppErrorCode errorCode;
+
+    public OcppCallException(OcppErrorCode errorCode, String message) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+
+    public OcppCallException(OcppErrorCode errorCode, String message, Throwable cause) {
+        super(message, cause);
+        this.errorCode = errorCode;
+    }
+
+    public OcppErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
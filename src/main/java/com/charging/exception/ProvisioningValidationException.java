@@ -0,0 +1,28 @@
+package com.charging.exception;
+
+import java.util.List;
+
+/**
+ * 충전소 일괄 등록 요청 검증 실패 예외 (아무것도 기록하지 않음)
+ */
+public class ProvisioningValidationException extends ChargingException {
+
+    private final List<String> errors;
+
+    public ProvisioningValidationException(List<String> errors) {
+        this(errors, errors.size());
+    }
+
+    /**
+     * @param errors     응답에 담을 오류 (일부)
+     * @param errorCount 전체 오류 수
+     */
+    public ProvisioningValidationException(List<String> errors, int errorCount) {
+        super(String.format("일괄 등록 요청이 올바르지 않습니다. (오류: %d건)", errorCount));
+        this.errors = List.copyOf(errors);
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,11 @@
+package com.charging.exception;
+
+/**
+ * 충전소 이벤트 큐가 가득 차서 이벤트를 받을 수 없을 때 발생하는 예외 (backpressure)
+ */
+public class StationBusyException extends ChargingException {
+
+    public StationBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,32 @@
+package com.charging.ocpp;
+
+import com.charging.exception.OcppCallException;
+
+import java.util.Locale;
+
+/**
+ * OCPP 열거형 문자열 ↔ 도메인 enum 변환
+ *
+ * OCPP는 "SuspendedEVSE", "Energy.Active.Import.Register" 처럼 PascalCase / 점 표기를 쓰므로,
+ * 구분자('.', '_')를 제거하고 대소문자를 무시하여 도메인 enum 상수명과 비교합니다.
+ */
+final class OcppEnumMapper {
+
+    private OcppEnumMapper() {
+    }
+
+    static <E extends Enum<E>> E fromOcpp(Class<E> type, String value) {
+        String normalized = normalize(value);
+        for (E constant : type.getEnumConstants()) {
+            if (normalize(constant.name()).equals(normalized)) {
+                return constant;
+            }
+        }
+        throw new OcppCallException(OcppErrorCode.PROPERTY_CONSTRAINT_VIOLATION,
+                String.format("%s에 해당하지 않는 값입니다: %s", type.getSimpleName(), value));
+    }
+
+    private static String normalize(String value) {
+        return value.replace(".", "").replace("_", "").toUpperCase(Locale.ROOT);
+    }
+}
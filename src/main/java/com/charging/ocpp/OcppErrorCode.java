@@ -0,0 +1,32 @@
+package com.charging.ocpp;
+
+/**
+ * OCPP-J RPC CALLERROR 에러 코드
+ */
+public enum OcppErrorCode {
+    FORMAT_VIOLATION("FormatViolation"),
+    GENERIC_ERROR("GenericError"),
+    INTERNAL_ERROR("InternalError"),
+    MESSAGE_TYPE_NOT_SUPPORTED("MessageTypeNotSupported"),
+    NOT_IMPLEMENTED("NotImplemented"),
+    NOT_SUPPORTED("NotSupported"),
+    OCCURRENCE_CONSTRAINT_VIOLATION("OccurrenceConstraintViolation"),
+    PROPERTY_CONSTRAINT_VIOLATION("PropertyConstraintViolation"),
+    PROTOCOL_ERROR("ProtocolError"),
+    RPC_FRAMEWORK_ERROR("RpcFrameworkError"),
+    SECURITY_ERROR("SecurityError"),
+    TYPE_CONSTRAINT_VIOLATION("TypeConstraintViolation");
+
+    private final String code;
+
+    OcppErrorCode(String code) {
+        this.code = code;
+    }
+
+    /**
+     * 프레임에 기록되는 에러 코드 문자열
+     */
+    public String getCode() {
+        return code;
+    }
+}
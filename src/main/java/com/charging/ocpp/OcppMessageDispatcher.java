@@ -0,0 +1,271 @@
+package com.charging.ocpp;
+
+import com.charging.config.OcppProperties;
+import com.charging.domain.enums.ChargingStateEnum;
+import com.charging.domain.enums.ConnectorStatusEnum;
+import com.charging.domain.enums.MeasurandEnum;
+import com.charging.domain.model.ActiveSession;
+import com.charging.domain.model.MeterValueSample;
+import com.charging.exception.OcppCallException;
+import com.charging.ocpp.message.BootNotificationResponse;
+import com.charging.ocpp.message.HeartbeatResponse;
+import com.charging.ocpp.message.MeterValueType;
+import com.charging.ocpp.message.MeterValuesRequest;
+import com.charging.ocpp.message.SampledValueType;
+import com.charging.ocpp.message.StatusNotificationRequest;
+import com.charging.ocpp.message.TransactionEventRequest;
+import com.charging.ocpp.message.TransactionType;
+import com.charging.service.ActiveSessionRegistry;
+import com.charging.service.ConnectorService;
+import com.charging.service.MeterValueIngestionService;
+import com.charging.service.TransactionService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * OCPP 2.0.1 CALL 메시지 디스패처
+ * Action별 페이로드를 역직렬화하여 도메인 서비스로 전달하고 CALLRESULT 페이로드를 반환합니다.
+ *
+ * 같은 충전소의 메시지는 StationEventExecutor의 충전소별 큐에서 순서대로 한 번에 하나씩 호출됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OcppMessageDispatcher {
+
+    /**
+     * 응답 필드가 없는 CALLRESULT 페이로드
+     */
+    private static final Map<String, Object> EMPTY_RESPONSE = Map.of();
+
+    private final ObjectMapper objectMapper;
+    private final OcppProperties properties;
+    private final TransactionService transactionService;
+    private final ConnectorService connectorService;
+    private final MeterValueIngestionService meterValueIngestionService;
+    private final ActiveSessionRegistry activeSessionRegistry;
+
+    /**
+     * CALL 처리
+     *
+     * @return CALLRESULT 페이로드
+     * @throws OcppCallException CALLERROR로 응답해야 하는 경우
+     */
+    public Object dispatch(String stationId, String action, JsonNode payload) {
+        return switch (action) {
+            case "BootNotification" -> bootNotification(stationId);
+            case "Heartbeat" -> heartbeat();
+            case "StatusNotification" -> statusNotification(stationId, read(payload, StatusNotificationRequest.class));
+            case "TransactionEvent" -> transactionEvent(stationId, read(payload, TransactionEventRequest.class));
+            case "MeterValues" -> meterValues(stationId, read(payload, MeterValuesRequest.class));
+            default -> throw new OcppCallException(OcppErrorCode.NOT_IMPLEMENTED, "지원하지 않는 Action입니다: " + action);
+        };
+    }
+
+    private BootNotificationResponse bootNotification(String stationId) {
+        log.info("BootNotification 수신: stationId={}", stationId);
+        return new BootNotificationResponse(OffsetDateTime.now(),
+                (int) properties.getHeartbeatInterval().toSeconds(), "Accepted");
+    }
+
+    private HeartbeatResponse heartbeat() {
+        return new HeartbeatResponse(OffsetDateTime.now());
+    }
+
+    private Object statusNotification(String stationId, StatusNotificationRequest request) {
+        require(request.evseId(), "evseId");
+        require(request.connectorId(), "connectorId");
+        require(request.connectorStatus(), "connectorStatus");
+
+        connectorService.updateStatus(stationId, request.evseId(), request.connectorId(),
+                OcppEnumMapper.fromOcpp(ConnectorStatusEnum.class, request.connectorStatus()));
+        return EMPTY_RESPONSE;
+    }
+
+    /**
+     * TransactionEvent 처리
+     * Started → 트랜잭션 시작, Updated → 충전 상태 변경, Ended → 트랜잭션 종료
+     * 포함된 meterValue는 미터 값 수집 파이프라인으로 전달합니다.
+     */
+    private Object transactionEvent(String stationId, TransactionEventRequest request) {
+        require(request.eventType(), "eventType");
+        TransactionType info = require(request.transactionInfo(), "transactionInfo");
+        String transactionId = require(info.transactionId(), "transactionInfo.transactionId");
+
+        switch (request.eventType()) {
+            case "Started" -> {
+                // 재전송된 Started는 부수 효과 없이 응답 (이미 종료되었거나 레지스트리에 없는 트랜잭션 포함)
+                if (isAlreadyStarted(transactionId)) {
+                    log.debug("이미 시작된 트랜잭션의 Started 무시: transactionId={}", transactionId);
+                    return EMPTY_RESPONSE;
+                }
+                startTransaction(stationId, transactionId, request);
+            }
+            case "Updated" -> updateChargingState(transactionId, info.chargingState());
+            case "Ended" -> {
+                // 재전송된 Ended는 부수 효과 없이 응답 (측정값도 이미 적재됨)
+                if (isAlreadyEnded(transactionId)) {
+                    log.debug("이미 종료된 트랜잭션의 Ended 무시: transactionId={}", transactionId);
+                    return EMPTY_RESPONSE;
+                }
+                // 종료 전에 마지막 측정값을 적재
+                enqueueMeterValues(transactionId, request.meterValue());
+                transactionService.stopTransaction(transactionId, info.stoppedReason());
+                return EMPTY_RESPONSE;
+            }
+            default -> throw new OcppCallException(OcppErrorCode.PROPERTY_CONSTRAINT_VIOLATION,
+                    "알 수 없는 eventType입니다: " + request.eventType());
+        }
+
+        enqueueMeterValues(transactionId, request.meterValue());
+        return EMPTY_RESPONSE;
+    }
+
+    private void startTransaction(String stationId, String transactionId, TransactionEventRequest request) {
+        require(request.evse(), "evse");
+        Integer evseId = require(request.evse().id(), "evse.id");
+        Integer connectorId = Optional.ofNullable(request.evse().connectorId()).orElse(1);
+        String idToken = require(request.idToken(), "idToken").idToken();
+
+        transactionService.startTransaction(transactionId, evseId, stationId, connectorId, require(idToken, "idToken.idToken"));
+
+        if (request.transactionInfo().chargingState() != null) {
+            updateChargingState(transactionId, request.transactionInfo().chargingState());
+        }
+    }
+
+    /**
+     * 활성 세션이거나 DB에 저장된 트랜잭션 (활성 세션이면 DB 조회 없음)
+     */
+    private boolean isAlreadyStarted(String transactionId) {
+        return activeSessionRegistry.findByTransactionId(transactionId).isPresent()
+                || transactionService.exists(transactionId);
+    }
+
+    /**
+     * 활성 세션이 아니고 DB에 종료로 기록된 트랜잭션 (활성 세션이면 DB 조회 없음)
+     */
+    private boolean isAlreadyEnded(String transactionId) {
+        return activeSessionRegistry.findByTransactionId(transactionId).isEmpty()
+                && transactionService.isEnded(transactionId);
+    }
+
+    /**
+     * 충전 상태가 실제로 바뀐 경우에만 UPDATE (주기적인 Updated 이벤트는 대부분 측정값만 전달)
+     */
+    private void updateChargingState(String transactionId, String chargingState) {
+        if (chargingState == null) {
+            return;
+        }
+        ChargingStateEnum newState = toChargingState(chargingState);
+        Optional<ActiveSession> session = activeSessionRegistry.findByTransactionId(transactionId);
+        if (session.isPresent() && session.get().chargingState() == newState) {
+            return;
+        }
+        // 종료 후 늦게 도착한 Updated는 무시 (종료된 트랜잭션을 다시 열지 않음)
+        if (session.isEmpty() && transactionService.isEnded(transactionId)) {
+            log.debug("종료된 트랜잭션의 충전 상태 변경 무시: transactionId={}", transactionId);
+            return;
+        }
+        transactionService.updateChargingState(transactionId, newState);
+    }
+
+    /**
+     * MeterValues 처리
+     * EVSE의 활성 트랜잭션에 연결하며, 트랜잭션이 없는 측정값(evseId 0 또는 유휴 EVSE)은 저장하지 않습니다.
+     */
+    private Object meterValues(String stationId, MeterValuesRequest request) {
+        require(request.evseId(), "evseId");
+
+        Optional<ActiveSession> session = activeSessionRegistry.findByEvse(stationId, request.evseId());
+        if (session.isEmpty()) {
+            log.debug("활성 트랜잭션이 없는 MeterValues 무시: stationId={}, evseId={}", stationId, request.evseId());
+            return EMPTY_RESPONSE;
+        }
+
+        enqueueMeterValues(session.get().transactionId(), request.meterValue());
+        return EMPTY_RESPONSE;
+    }
+
+    private void enqueueMeterValues(String transactionId, List<MeterValueType> meterValues) {
+        if (meterValues == null || meterValues.isEmpty()) {
+            return;
+        }
+
+        List<MeterValueSample> samples = new ArrayList<>();
+        for (MeterValueType meterValue : meterValues) {
+            LocalDateTime timestamp = toLocalDateTime(require(meterValue.timestamp(), "meterValue.timestamp"));
+            for (SampledValueType sampledValue : require(meterValue.sampledValue(), "meterValue.sampledValue")) {
+                samples.add(toSample(transactionId, timestamp, sampledValue));
+            }
+        }
+
+        meterValueIngestionService.enqueue(samples);
+    }
+
+    private MeterValueSample toSample(String transactionId, LocalDateTime timestamp, SampledValueType sampledValue) {
+        MeasurandEnum measurand = sampledValue.measurand() == null
+                ? MeasurandEnum.ENERGY_ACTIVE_IMPORT_REGISTER
+                : OcppEnumMapper.fromOcpp(MeasurandEnum.class, sampledValue.measurand());
+
+        BigDecimal value = require(sampledValue.value(), "sampledValue.value");
+        String unit = null;
+        if (sampledValue.unitOfMeasure() != null) {
+            unit = sampledValue.unitOfMeasure().unit();
+            Integer multiplier = sampledValue.unitOfMeasure().multiplier();
+            if (multiplier != null && multiplier != 0) {
+                value = value.scaleByPowerOfTen(multiplier);
+            }
+        }
+
+        return new MeterValueSample(transactionId, timestamp, measurand, value, unit,
+                sampledValue.phase(), sampledValue.location());
+    }
+
+    /**
+     * OCPP ChargingState → 도메인 충전 상태
+     * EVConnected(연결됨, 충전 전)는 도메인에 대응 상태가 없어 IDLE로 취급합니다.
+     */
+    private static ChargingStateEnum toChargingState(String chargingState) {
+        if ("EVConnected".equals(chargingState)) {
+            return ChargingStateEnum.IDLE;
+        }
+        return OcppEnumMapper.fromOcpp(ChargingStateEnum.class, chargingState);
+    }
+
+    /**
+     * OCPP 타임스탬프(UTC 오프셋 포함) → 서버 로컬 시간 (엔티티는 LocalDateTime 사용)
+     */
+    private static LocalDateTime toLocalDateTime(OffsetDateTime timestamp) {
+        return timestamp.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    private <T> T read(JsonNode payload, Class<T> type) {
+        try {
+            return objectMapper.treeToValue(payload, type);
+        } catch (JsonProcessingException e) {
+            throw new OcppCallException(OcppErrorCode.FORMAT_VIOLATION,
+                    type.getSimpleName() + " 페이로드를 해석할 수 없습니다: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static <T> T require(T value, String field) {
+        if (value == null) {
+            throw new OcppCallException(OcppErrorCode.OCCURRENCE_CONSTRAINT_VIOLATION, "필수 필드가 없습니다: " + field);
+        }
+        return value;
+    }
+}
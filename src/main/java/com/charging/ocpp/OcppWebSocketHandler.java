@@ -0,0 +1,229 @@
+package com.charging.ocpp;
+
+import com.charging.config.OcppProperties;
+import com.charging.exception.ConcurrentUpdateException;
+import com.charging.exception.IngestionRejectedException;
+import com.charging.exception.InvalidStatusTransitionException;
+import com.charging.exception.OcppCallException;
+import com.charging.exception.ResourceNotFoundException;
+import com.charging.exception.StationBusyException;
+import com.charging.service.StationEventExecutor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.SubProtocolCapable;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OCPP-J (OCPP 2.0.1 JSON over WebSocket) 핸들러
+ *
+ * [MessageTypeId, UniqueId, Action, Payload] 프레임을 해석하여 OcppMessageDispatcher로 전달합니다.
+ * WebSocket I/O 스레드에서는 프레임 형식만 검사하고,
+ * CALL 처리는 StationEventExecutor에 충전소 ID로 제출합니다.
+ *
+ * - 같은 충전소의 메시지는 수신 순서대로 한 번에 하나씩 처리 (충전소 내 순서 보장)
+ * - 서로 다른 충전소의 메시지는 실행기의 충전소별 큐에서 병렬로 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OcppWebSocketHandler extends TextWebSocketHandler implements SubProtocolCapable {
+
+    /**
+     * 핸드셰이크 시 세션 속성에 저장되는 충전소 ID 키
+     */
+    public static final String STATION_ID_ATTRIBUTE = "ocpp.stationId";
+
+    private static final List<String> SUB_PROTOCOLS = List.of("ocpp2.0.1");
+
+    private static final int CALL = 2;
+    private static final int CALL_RESULT = 3;
+    private static final int CALL_ERROR = 4;
+
+    private final OcppMessageDispatcher dispatcher;
+    private final StationEventExecutor stationEventExecutor;
+    private final ObjectMapper objectMapper;
+    private final OcppProperties properties;
+
+    /**
+     * 접속 중인 충전소 (stationId → 송신용 세션)
+     */
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public List<String> getSubProtocols() {
+        return SUB_PROTOCOLS;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        String stationId = stationId(session);
+        WebSocketSession outbound = new ConcurrentWebSocketSessionDecorator(session,
+                (int) properties.getSendTimeLimit().toMillis(),
+                (int) properties.getSendBufferSizeLimit().toBytes());
+
+        WebSocketSession previous = sessions.put(stationId, outbound);
+        if (previous != null) {
+            // 재접속 시 이전 연결은 정리 (충전소당 하나의 연결만 유지)
+            log.info("OCPP 재접속 - 이전 세션 종료: stationId={}", stationId);
+            closeQuietly(previous, CloseStatus.POLICY_VIOLATION);
+        }
+        log.info("OCPP 접속: stationId={}, sessionId={}, connections={}", stationId, session.getId(), sessions.size());
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        String stationId = stationId(session);
+        WebSocketSession outbound = sessions.get(stationId);
+        if (outbound == null || !outbound.getId().equals(session.getId())) {
+            // 재접속으로 대체된 세션에 늦게 도착한 메시지
+            return;
+        }
+
+        JsonNode frame;
+        try {
+            frame = objectMapper.readTree(message.getPayload());
+        } catch (JsonProcessingException e) {
+            frame = null;
+        }
+        if (frame == null || !frame.isArray() || frame.size() < 3 || !frame.get(0).isInt()) {
+            send(stationId, outbound, callError("-1", OcppErrorCode.RPC_FRAMEWORK_ERROR, "JSON 배열 프레임이 아닙니다."));
+            return;
+        }
+
+        int messageTypeId = frame.get(0).intValue();
+        String uniqueId = frame.get(1).asText();
+
+        if (messageTypeId == CALL_RESULT || messageTypeId == CALL_ERROR) {
+            // CSMS → 충전소 CALL은 아직 보내지 않으므로 응답은 기록만 함
+            log.debug("OCPP 응답 수신 (무시): stationId={}, frame={}", stationId, message.getPayload());
+            return;
+        }
+        if (messageTypeId != CALL) {
+            send(stationId, outbound, callError(uniqueId, OcppErrorCode.MESSAGE_TYPE_NOT_SUPPORTED,
+                    "지원하지 않는 MessageTypeId입니다: " + messageTypeId));
+            return;
+        }
+        if (frame.size() != 4 || !frame.get(2).isTextual() || !frame.get(3).isObject()) {
+            send(stationId, outbound, callError(uniqueId, OcppErrorCode.FORMAT_VIOLATION,
+                    "CALL 프레임 형식이 올바르지 않습니다."));
+            return;
+        }
+
+        String action = frame.get(2).textValue();
+        JsonNode payload = frame.get(3);
+        try {
+            stationEventExecutor.submit(stationId,
+                    () -> send(stationId, outbound, handleCall(stationId, uniqueId, action, payload)));
+        } catch (StationBusyException e) {
+            log.warn("OCPP CALL 거절: stationId={}, action={}, message={}", stationId, action, e.getMessage());
+            send(stationId, outbound, callError(uniqueId, OcppErrorCode.GENERIC_ERROR, e.getMessage()));
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.warn("OCPP 전송 오류: stationId={}, message={}", stationId(session), exception.getMessage());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        String stationId = stationId(session);
+        sessions.computeIfPresent(stationId,
+                (id, outbound) -> outbound.getId().equals(session.getId()) ? null : outbound);
+        log.info("OCPP 접속 종료: stationId={}, status={}, connections={}", stationId, status, sessions.size());
+    }
+
+    /**
+     * 현재 접속 중인 충전소 수
+     */
+    public int getConnectionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * CALL 처리 (충전소 큐에서 실행)
+     *
+     * @return CALLRESULT 또는 CALLERROR 프레임
+     */
+    private String handleCall(String stationId, String uniqueId, String action, JsonNode payload) {
+        try {
+            Object result = dispatcher.dispatch(stationId, action, payload);
+            return write(objectMapper.createArrayNode()
+                    .add(CALL_RESULT)
+                    .add(uniqueId)
+                    .addPOJO(result));
+        } catch (OcppCallException e) {
+            log.warn("OCPP CALL 처리 실패: stationId={}, action={}, error={}, message={}",
+                    stationId, action, e.getErrorCode().getCode(), e.getMessage());
+            return callError(uniqueId, e.getErrorCode(), e.getMessage());
+        } catch (ResourceNotFoundException | InvalidStatusTransitionException e) {
+            log.warn("OCPP CALL 처리 실패: stationId={}, action={}, message={}", stationId, action, e.getMessage());
+            return callError(uniqueId, OcppErrorCode.PROPERTY_CONSTRAINT_VIOLATION, e.getMessage());
+        } catch (IngestionRejectedException | ConcurrentUpdateException e) {
+            log.warn("OCPP CALL 처리 실패: stationId={}, action={}, message={}", stationId, action, e.getMessage());
+            return callError(uniqueId, OcppErrorCode.GENERIC_ERROR, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("OCPP CALL 처리 중 오류: stationId={}, action={}", stationId, action, e);
+            return callError(uniqueId, OcppErrorCode.INTERNAL_ERROR, "내부 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 응답 전송
+     *
+     * @return 전송 여부
+     */
+    private boolean send(String stationId, WebSocketSession session, String frame) {
+        try {
+            session.sendMessage(new TextMessage(frame));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 송신 버퍼 초과 / 송신 시간 초과 시 데코레이터가 세션을 닫음
+            log.warn("OCPP 응답 전송 실패: stationId={}, message={}", stationId, e.getMessage());
+            return false;
+        }
+    }
+
+    private String callError(String uniqueId, OcppErrorCode errorCode, String description) {
+        return write(objectMapper.createArrayNode()
+                .add(CALL_ERROR)
+                .add(uniqueId)
+                .add(errorCode.getCode())
+                .add(description)
+                .add(objectMapper.createObjectNode()));
+    }
+
+    private String write(ArrayNode frame) {
+        try {
+            return objectMapper.writeValueAsString(frame);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("OCPP 프레임 직렬화 실패", e);
+        }
+    }
+
+    private static String stationId(WebSocketSession session) {
+        return (String) session.getAttributes().get(STATION_ID_ATTRIBUTE);
+    }
+
+    private static void closeQuietly(WebSocketSession session, CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.debug("OCPP 세션 종료 실패: sessionId={}", session.getId(), e);
+        }
+    }
+}
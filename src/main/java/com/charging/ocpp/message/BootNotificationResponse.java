@@ -0,0 +1,17 @@
+package com.charging.ocpp.message;
+
+import java.time.OffsetDateTime;
+
+/**
+ * OCPP 2.0.1 BootNotificationResponse
+ *
+ * @param currentTime CSMS 현재 시간
+ * @param interval    Heartbeat 주기 (초)
+ * @param status      등록 상태 (Accepted, Pending, Rejected)
+ */
+public record BootNotificationResponse(
+        OffsetDateTime currentTime,
+        int interval,
+        String status
+) {
+}
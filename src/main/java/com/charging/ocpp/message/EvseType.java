@@ -0,0 +1,13 @@
+package com.charging.ocpp.message;
+
+/**
+ * OCPP 2.0.1 EVSEType
+ *
+ * @param id          EVSE ID
+ * @param connectorId 커넥터 ID
+ */
+public record EvseType(
+        Integer id,
+        Integer connectorId
+) {
+}
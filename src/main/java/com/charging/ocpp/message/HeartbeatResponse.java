@@ -0,0 +1,13 @@
+package com.charging.ocpp.message;
+
+import java.time.OffsetDateTime;
+
+/**
+ * OCPP 2.0.1 HeartbeatResponse
+ *
+ * @param currentTime CSMS 현재 시간
+ */
+public record HeartbeatResponse(
+        OffsetDateTime currentTime
+) {
+}
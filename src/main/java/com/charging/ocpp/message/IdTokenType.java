@@ -0,0 +1,13 @@
+package com.charging.ocpp.message;
+
+/**
+ * OCPP 2.0.1 IdTokenType
+ *
+ * @param idToken 인증 토큰 값
+ * @param type    토큰 종류 (ISO14443, eMAID, Central 등)
+ */
+public record IdTokenType(
+        String idToken,
+        String type
+) {
+}
@@ -0,0 +1,16 @@
+package com.charging.ocpp.message;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * OCPP 2.0.1 MeterValueType
+ *
+ * @param timestamp    측정 시간
+ * @param sampledValue 측정값 목록
+ */
+public record MeterValueType(
+        OffsetDateTime timestamp,
+        List<SampledValueType> sampledValue
+) {
+}
@@ -0,0 +1,15 @@
+package com.charging.ocpp.message;
+
+import java.util.List;
+
+/**
+ * OCPP 2.0.1 MeterValuesRequest
+ *
+ * @param evseId     EVSE ID (0이면 충전소 전체)
+ * @param meterValue 측정값 목록
+ */
+public record MeterValuesRequest(
+        Integer evseId,
+        List<MeterValueType> meterValue
+) {
+}
@@ -0,0 +1,21 @@
+package com.charging.ocpp.message;
+
+import java.math.BigDecimal;
+
+/**
+ * OCPP 2.0.1 SampledValueType
+ *
+ * @param value         측정값
+ * @param measurand     측정값 종류 (기본값 Energy.Active.Import.Register)
+ * @param phase         Phase (전기 위상)
+ * @param location      위치 (기본값 Outlet)
+ * @param unitOfMeasure 단위
+ */
+public record SampledValueType(
+        BigDecimal value,
+        String measurand,
+        String phase,
+        String location,
+        UnitOfMeasureType unitOfMeasure
+) {
+}
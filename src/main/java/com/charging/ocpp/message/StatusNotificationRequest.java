@@ -0,0 +1,19 @@
+package com.charging.ocpp.message;
+
+import java.time.OffsetDateTime;
+
+/**
+ * OCPP 2.0.1 StatusNotificationRequest
+ *
+ * @param timestamp       상태 변경 시간
+ * @param connectorStatus 커넥터 상태 (Available, Occupied, Reserved, Unavailable, Faulted)
+ * @param evseId          EVSE ID
+ * @param connectorId     커넥터 ID
+ */
+public record StatusNotificationRequest(
+        OffsetDateTime timestamp,
+        String connectorStatus,
+        Integer evseId,
+        Integer connectorId
+) {
+}
@@ -0,0 +1,30 @@
+package com.charging.ocpp.message;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * OCPP 2.0.1 TransactionEventRequest
+ *
+ * @param eventType       이벤트 유형 (Started, Updated, Ended)
+ * @param timestamp       이벤트 발생 시간
+ * @param triggerReason   이벤트 발생 사유
+ * @param seqNo           트랜잭션 내 메시지 순번
+ * @param offline         오프라인 중 발생한 이벤트 여부
+ * @param transactionInfo 트랜잭션 정보
+ * @param evse            EVSE / 커넥터
+ * @param idToken         인증 토큰
+ * @param meterValue      측정값 목록
+ */
+public record TransactionEventRequest(
+        String eventType,
+        OffsetDateTime timestamp,
+        String triggerReason,
+        Integer seqNo,
+        Boolean offline,
+        TransactionType transactionInfo,
+        EvseType evse,
+        IdTokenType idToken,
+        List<MeterValueType> meterValue
+) {
+}
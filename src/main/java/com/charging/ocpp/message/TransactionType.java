@@ -0,0 +1,15 @@
+package com.charging.ocpp.message;
+
+/**
+ * OCPP 2.0.1 TransactionType
+ *
+ * @param transactionId 트랜잭션 ID (충전소가 발급)
+ * @param chargingState 충전 상태 (Charging, EVConnected, SuspendedEV, SuspendedEVSE, Idle)
+ * @param stoppedReason 종료 사유
+ */
+public record TransactionType(
+        String transactionId,
+        String chargingState,
+        String stoppedReason
+) {
+}
@@ -0,0 +1,13 @@
+package com.charging.ocpp.message;
+
+/**
+ * OCPP 2.0.1 UnitOfMeasureType
+ *
+ * @param unit       단위 (기본값 Wh)
+ * @param multiplier 10의 거듭제곱 배수 (기본값 0)
+ */
+public record UnitOfMeasureType(
+        String unit,
+        Integer multiplier
+) {
+}
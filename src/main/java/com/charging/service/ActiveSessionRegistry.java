@@ -0,0 +1,175 @@
+package com.charging.service;
+
+import com.charging.domain.enums.ChargingStateEnum;
+import com.charging.domain.model.ActiveSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 충전 세션 레지스트리 (인메모리)
+ * 활성 세션을 transactionId / stationId / (stationId, evseId) / idToken 으로 색인하여
+ * DB 조회 없이 O(1)로 찾을 수 있게 합니다.
+ *
+ * - 쓰기(시작/상태 변경/종료)는 TransactionService가 DB 커밋 이후에 반영하며, 색인 간 일관성을 위해 직렬화합니다.
+ * - 읽기는 락 없이 ConcurrentHashMap에서 바로 수행합니다.
+ * - 애플리케이션 시작 시 (웹 요청을 받기 전) 스냅샷 + 이벤트 재생(TransactionEventStore)으로 다시 채우고,
+ *   주기적으로 현재 세션 목록을 스냅샷으로 저장합니다.
+ *
+ * 충전소의 요청이 항상 같은 인스턴스로 들어온다는 전제입니다 (OCPP WebSocket 연결 기준).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveSessionRegistry implements SmartInitializingSingleton {
+
+    private final TransactionEventStore transactionEventStore;
+
+    private final Map<String, ActiveSession> byTransactionId = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, ActiveSession>> byStationId = new ConcurrentHashMap<>();
+    private final Map<EvseKey, ActiveSession> byEvse = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, ActiveSession>> byIdToken = new ConcurrentHashMap<>();
+
+    private final Object writeLock = new Object();
+
+    /**
+     * 스냅샷 + 이벤트 재생으로 레지스트리 재구성
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<ActiveSession> activeSessions = transactionEventStore.recoverActiveSessions();
+        activeSessions.forEach(this::register);
+        log.info("활성 세션 레지스트리 초기화 완료: {}건", activeSessions.size());
+    }
+
+    /**
+     * 현재 세션 목록을 스냅샷으로 저장
+     * 시간을 먼저 재고 목록을 읽으므로, 목록에 빠진 변경은 스냅샷 시간 직전(재생 여유 구간) 이후에 발생한 것뿐입니다.
+     */
+    @Scheduled(fixedDelayString = "${charging.transaction-event.snapshot-interval:5m}")
+    public void snapshot() {
+        LocalDateTime takenAt = LocalDateTime.now();
+        transactionEventStore.saveSnapshot(takenAt, List.copyOf(byTransactionId.values()));
+    }
+
+    /**
+     * 세션 등록 (같은 transactionId가 있으면 교체)
+     */
+    public void register(ActiveSession session) {
+        synchronized (writeLock) {
+            ActiveSession previous = byTransactionId.put(session.transactionId(), session);
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(session);
+        }
+    }
+
+    /**
+     * 충전 상태 변경
+     *
+     * @return 변경된 세션 (활성 세션이 아니면 empty)
+     */
+    public Optional<ActiveSession> updateChargingState(String transactionId, ChargingStateEnum newState) {
+        synchronized (writeLock) {
+            ActiveSession previous = byTransactionId.get(transactionId);
+            if (previous == null) {
+                return Optional.empty();
+            }
+            ActiveSession updated = previous.withChargingState(newState);
+            byTransactionId.put(transactionId, updated);
+            unindex(previous);
+            index(updated);
+            return Optional.of(updated);
+        }
+    }
+
+    /**
+     * 세션 제거 (트랜잭션 종료)
+     */
+    public void remove(String transactionId) {
+        synchronized (writeLock) {
+            ActiveSession previous = byTransactionId.remove(transactionId);
+            if (previous != null) {
+                unindex(previous);
+            }
+        }
+    }
+
+    public Optional<ActiveSession> findByTransactionId(String transactionId) {
+        return Optional.ofNullable(byTransactionId.get(transactionId));
+    }
+
+    public List<ActiveSession> findByStationId(String stationId) {
+        return List.copyOf(byStationId.getOrDefault(stationId, Map.of()).values());
+    }
+
+    public Optional<ActiveSession> findByEvse(String stationId, Integer evseId) {
+        return Optional.ofNullable(byEvse.get(new EvseKey(stationId, evseId)));
+    }
+
+    public List<ActiveSession> findByIdToken(String idToken) {
+        return List.copyOf(byIdToken.getOrDefault(idToken, Map.of()).values());
+    }
+
+    public int size() {
+        return byTransactionId.size();
+    }
+
+    public int countByStationId(String stationId) {
+        return byStationId.getOrDefault(stationId, Map.of()).size();
+    }
+
+    /**
+     * 충전소별 진행 중인 세션 수 (세션이 있는 충전소만)
+     */
+    public Map<String, Integer> countByStation() {
+        Map<String, Integer> counts = new HashMap<>();
+        byStationId.forEach((stationId, group) -> {
+            int count = group.size();
+            if (count > 0) {
+                counts.put(stationId, count);
+            }
+        });
+        return counts;
+    }
+
+    private void index(ActiveSession session) {
+        byStationId.computeIfAbsent(session.stationId(), key -> new ConcurrentHashMap<>())
+                .put(session.transactionId(), session);
+        byIdToken.computeIfAbsent(session.idToken(), key -> new ConcurrentHashMap<>())
+                .put(session.transactionId(), session);
+        byEvse.put(new EvseKey(session.stationId(), session.evseId()), session);
+    }
+
+    private void unindex(ActiveSession session) {
+        removeFromGroup(byStationId, session.stationId(), session.transactionId());
+        removeFromGroup(byIdToken, session.idToken(), session.transactionId());
+        byEvse.remove(new EvseKey(session.stationId(), session.evseId()), session);
+    }
+
+    private static void removeFromGroup(Map<String, Map<String, ActiveSession>> index, String key, String transactionId) {
+        Map<String, ActiveSession> group = index.get(key);
+        if (group != null) {
+            group.remove(transactionId);
+            if (group.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * EVSE 복합 키 (stationId, evseId)
+     */
+    private record EvseKey(String stationId, Integer evseId) {
+    }
+}
@@ -0,0 +1,261 @@
+package com.charging.service;
+
+import com.charging.config.ChargingStateWriteProperties;
+import com.charging.domain.enums.ChargingStateEnum;
+import com.charging.domain.model.ChargingStateChange;
+import com.charging.domain.repository.TransactionStateRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 트랜잭션 충전 상태 지연 일괄 기록기 (write-behind)
+ *
+ * 충전 상태 변경마다 조회 + UPDATE 하지 않고, 트랜잭션별 마지막 상태만 보관했다가
+ * flushInterval 마다 JDBC 배치 UPDATE 한 번으로 기록합니다.
+ * 변경 이력은 합치지 않고 발생 순서대로 모두 TRANSACTION_EVENT_LOG에 추가합니다.
+ * 상태와 이력은 서로 다른 DB 트랜잭션으로 기록하므로, 이력 기록이 실패해도 상태 기록은 계속됩니다.
+ * 기록에 실패한 상태는 다음 주기에 다시 시도합니다.
+ * 이력 배치는 historyMaxAttempts 번까지 다시 시도한 후 한 건씩 기록하고, 그래도 실패한 이력은 로그를 남기고 버립니다.
+ * 대기 이력은 historyCapacity 개까지만 보관하며, 넘치는 이력은 버립니다.
+ *
+ * 아직 기록되지 않은 상태는 findPending으로 조회할 수 있어, 조회 API와 종료 처리는 항상 마지막 상태를 봅니다.
+ * 비정상 종료 시 최대 flushInterval 만큼의 상태 변경이 유실될 수 있으나, 충전소가 다음 TransactionEvent로 다시 알려 줍니다.
+ *
+ * 메트릭
+ * - charging.transaction.state.pending (DB 기록 대기 중인 트랜잭션 수)
+ * - charging.transaction.state.log.pending (기록 대기 중인 상태 변경 이력 수)
+ * - charging.transaction.state.log.dropped (대기 이력이 가득 차거나 기록에 계속 실패해 버린 이력 수)
+ */
+@Slf4j
+@Component
+public class ChargingStateWriter implements SmartLifecycle {
+
+    private final TransactionStateRepository transactionStateRepository;
+    private final ChargingStateWriteProperties properties;
+    private final boolean virtualThreads;
+
+    /**
+     * 트랜잭션 ID -> 마지막 상태
+     */
+    private final Map<String, ChargingStateChange> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 기록 대기 중인 상태 변경 이력 (발생 순서)
+     */
+    private final BlockingQueue<ChargingStateChange> history;
+
+    /**
+     * 큐에서 꺼냈지만 아직 기록하지 못한 이력 (flusher 스레드 전용)
+     */
+    private final List<ChargingStateChange> unwrittenHistory = new ArrayList<>();
+
+    /**
+     * unwrittenHistory 맨 앞 배치의 연속 기록 실패 횟수 (flusher 스레드 전용)
+     */
+    private int historyFailures;
+
+    private final Counter droppedHistory;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ChargingStateWriter(TransactionStateRepository transactionStateRepository,
+                               ChargingStateWriteProperties properties,
+                               MeterRegistry meterRegistry,
+                               Environment environment) {
+        this.transactionStateRepository = transactionStateRepository;
+        this.properties = properties;
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+        this.history = new LinkedBlockingQueue<>(properties.getHistoryCapacity());
+
+        Gauge.builder("charging.transaction.state.pending", pending, Map::size)
+                .description("DB 기록 대기 중인 트랜잭션 충전 상태 수")
+                .register(meterRegistry);
+        Gauge.builder("charging.transaction.state.log.pending", history, BlockingQueue::size)
+                .description("기록 대기 중인 충전 상태 변경 이력 수")
+                .register(meterRegistry);
+        this.droppedHistory = Counter.builder("charging.transaction.state.log.dropped")
+                .description("기록하지 못하고 버린 충전 상태 변경 이력 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상태 변경 등록 (같은 트랜잭션의 이전 대기 상태는 덮어쓰고, 이력은 추가)
+     */
+    public void enqueue(ChargingStateChange change) {
+        pending.put(change.transactionId(), change);
+        appendHistory(change);
+    }
+
+    /**
+     * 이력만 추가 (TRANSACTION 행은 호출한 쪽에서 이미 기록한 경우)
+     */
+    public void appendHistory(ChargingStateChange change) {
+        if (!history.offer(change)) {
+            droppedHistory.increment();
+            log.warn("충전 상태 변경 이력 대기열이 가득 차 버림: transactionId={}, chargingState={}",
+                    change.transactionId(), change.chargingState());
+        }
+    }
+
+    /**
+     * 아직 DB에 기록되지 않은 마지막 상태
+     */
+    public Optional<ChargingStateEnum> findPending(String transactionId) {
+        ChargingStateChange change = pending.get(transactionId);
+        return change != null ? Optional.of(change.chargingState()) : Optional.empty();
+    }
+
+    /**
+     * 대기 중인 상태 제거 (종료 처리에서 마지막 상태를 함께 기록한 경우)
+     */
+    public void discard(String transactionId) {
+        pending.remove(transactionId);
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        // 가상 스레드 모드에서는 flusher도 가상 스레드로 실행 (가상 스레드는 항상 daemon)
+        Thread.Builder builder = virtualThreads
+                ? Thread.ofVirtual()
+                : Thread.ofPlatform().daemon();
+        flusher = builder
+                .name("charging-state-flusher")
+                .start(this::flushLoop);
+        log.info("충전 상태 기록기 시작: flushInterval={}, batchSize={}, virtualThreads={}",
+                properties.getFlushInterval(), properties.getBatchSize(), virtualThreads);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("충전 상태 기록기 종료: pending={}, unwrittenHistory={}",
+                pending.size(), history.size() + unwrittenHistory.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버보다 먼저 시작하고 나중에 종료되어, 종료 중 들어온 상태 변경까지 기록
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * flushInterval 마다 대기 중인 변경을 기록
+     * 종료 시에는 남은 변경을 한 번 더 기록한 후 반환합니다.
+     */
+    private void flushLoop() {
+        long intervalNanos = properties.getFlushInterval().toNanos();
+        while (running) {
+            LockSupport.parkNanos(intervalNanos);
+            flush();
+        }
+        flush();
+    }
+
+    /**
+     * 마지막 상태와 이력을 각각 batchSize 단위로 나누어 기록
+     * 상태 기록이 실패하면 남은 상태는 다음 주기에 이어서 기록하고, 이력 기록은 상태와 관계없이 진행합니다.
+     */
+    private void flush() {
+        flushStates();
+        flushHistory();
+    }
+
+    private void flushStates() {
+        int batchSize = properties.getBatchSize();
+        Iterator<ChargingStateChange> latest = pending.values().iterator();
+        while (latest.hasNext()) {
+            List<ChargingStateChange> batch = new ArrayList<>(batchSize);
+            while (latest.hasNext() && batch.size() < batchSize) {
+                batch.add(latest.next());
+            }
+            try {
+                transactionStateRepository.writeStates(batch);
+            } catch (Exception e) {
+                log.error("충전 상태 기록 실패 (다음 주기에 재시도): states={}", batch.size(), e);
+                return;
+            }
+            // 기록하는 사이 더 새로운 상태가 들어왔으면 남겨 두고 다음 주기에 기록
+            batch.forEach(change -> pending.remove(change.transactionId(), change));
+            log.debug("충전 상태 기록: states={}", batch.size());
+        }
+    }
+
+    /**
+     * 대기 이력을 발생 순서대로 기록
+     * 맨 앞 배치가 historyMaxAttempts 번 연속 실패하면 한 건씩 기록하고, 실패한 이력만 버립니다.
+     */
+    private void flushHistory() {
+        // 꺼내 둔 이력도 historyCapacity 이내로 유지
+        history.drainTo(unwrittenHistory, Math.max(0, properties.getHistoryCapacity() - unwrittenHistory.size()));
+        int batchSize = properties.getBatchSize();
+        int offset = 0;
+        while (offset < unwrittenHistory.size()) {
+            List<ChargingStateChange> batch =
+                    unwrittenHistory.subList(offset, Math.min(offset + batchSize, unwrittenHistory.size()));
+            try {
+                transactionStateRepository.appendHistory(batch);
+                historyFailures = 0;
+            } catch (Exception e) {
+                historyFailures++;
+                if (historyFailures < properties.getHistoryMaxAttempts()) {
+                    log.error("충전 상태 변경 이력 기록 실패 (다음 주기에 재시도 {}/{}): history={}",
+                            historyFailures, properties.getHistoryMaxAttempts(), batch.size(), e);
+                    break;
+                }
+                log.error("충전 상태 변경 이력 기록 {}회 실패 - 한 건씩 기록: history={}",
+                        historyFailures, batch.size(), e);
+                appendOneByOne(batch);
+                historyFailures = 0;
+            }
+            offset += batch.size();
+        }
+        unwrittenHistory.subList(0, offset).clear();
+    }
+
+    private void appendOneByOne(List<ChargingStateChange> batch) {
+        for (ChargingStateChange change : batch) {
+            try {
+                transactionStateRepository.appendHistory(List.of(change));
+            } catch (Exception e) {
+                droppedHistory.increment();
+                log.error("충전 상태 변경 이력 기록 실패 - 버림: transactionId={}, chargingState={}, changedAt={}",
+                        change.transactionId(), change.chargingState(), change.changedAt(), e);
+            }
+        }
+    }
+}
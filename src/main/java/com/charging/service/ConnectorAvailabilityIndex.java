@@ -0,0 +1,303 @@
+package com.charging.service;
+
+import com.charging.domain.enums.ConnectorStatusEnum;
+import com.charging.domain.listener.TopologyCacheInvalidator.ConnectorChangedEvent;
+import com.charging.domain.model.ConnectorTopology;
+import com.charging.domain.repository.ConnectorRepository;
+import com.charging.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 커넥터 상태 인메모리 인덱스
+ *
+ * 충전소별로 커넥터를 최대 전력 오름차순 슬롯에 배치하고, 사용 가능 / 사용 중 / 고장 커넥터를 BitSet으로 관리합니다.
+ * StatusNotification은 이 인덱스에 바로 반영하며 (DB 기록은 ConnectorStatusWriter가 지연 일괄 처리),
+ * 커넥터 상태는 충전소가 보고한 값이 기준이므로 전이 규칙(ConnectorStatusEnum)에 어긋나는 전이도 거절하지 않고 반영한 후
+ * 로그와 메트릭(charging.connector.status.unexpected.transitions)으로 남깁니다.
+ * "maxPower >= X 인 사용 가능 커넥터" 조회는 DB 없이 이진 탐색 + nextSetBit 으로 처리합니다.
+ *
+ * 시작 시 CONNECTOR 전체를 읽어 채우고, 커넥터가 추가 / 변경 / 삭제되면 (ConnectorChangedEvent) 해당 충전소만 다시 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConnectorAvailabilityIndex implements SmartInitializingSingleton {
+
+    private final ConnectorRepository connectorRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, StationConnectors> stations = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Map<String, List<ConnectorTopology>> byStation = connectorRepository.findAllTopology().stream()
+                .collect(Collectors.groupingBy(ConnectorTopology::stationId));
+        byStation.forEach((stationId, connectors) -> stations.put(stationId, new StationConnectors(connectors, null)));
+        log.info("커넥터 상태 인덱스 적재: stations={}, connectors={}",
+                byStation.size(), byStation.values().stream().mapToInt(List::size).sum());
+    }
+
+    /**
+     * 커넥터 추가 / 변경 / 삭제 시 해당 충전소를 DB에서 다시 적재
+     * 기존 커넥터의 상태는 메모리 값을 유지합니다 (DB에 아직 기록되지 않은 변경이 있을 수 있음).
+     */
+    @EventListener
+    public void onConnectorChanged(ConnectorChangedEvent event) {
+        reloadStation(event.stationId());
+    }
+
+    public void reloadStation(String stationId) {
+        List<ConnectorTopology> connectors = connectorRepository.findTopologyByStationId(stationId);
+        stations.compute(stationId, (id, previous) -> previous != null
+                ? previous.replaceWith(connectors)
+                : connectors.isEmpty() ? null : new StationConnectors(connectors, null));
+        log.debug("커넥터 상태 인덱스 재적재: stationId={}, connectors={}", stationId, connectors.size());
+    }
+
+    /**
+     * 새로 등록된 충전소의 커넥터를 DB 재조회 없이 추가 (일괄 등록)
+     * 이미 인덱스에 있는 충전소는 DB에서 다시 적재합니다.
+     */
+    public void registerStations(List<ConnectorTopology> connectors) {
+        Map<String, List<ConnectorTopology>> byStation = connectors.stream()
+                .collect(Collectors.groupingBy(ConnectorTopology::stationId));
+        byStation.forEach((stationId, stationConnectors) -> {
+            StationConnectors created = new StationConnectors(stationConnectors, null);
+            if (stations.putIfAbsent(stationId, created) != null) {
+                reloadStation(stationId);
+            }
+        });
+    }
+
+    /**
+     * 커넥터 상태 전이 (충전소가 보고한 상태를 항상 반영)
+     * 전이 규칙에 어긋나는 전이는 경고 로그와 메트릭으로만 남깁니다
+     * (장애 후 DB에서 다시 적재한 오래된 상태에서 재전송된 StatusNotification을 받는 경우 등).
+     *
+     * @return 이전 상태
+     * @throws ResourceNotFoundException 커넥터가 없는 경우
+     */
+    public ConnectorStatusEnum transition(String stationId, Integer evseId, Integer connectorId,
+                                          ConnectorStatusEnum newStatus) {
+        while (true) {
+            StationConnectors station = stations.get(stationId);
+            int slot = station != null ? station.slotOf(evseId, connectorId) : -1;
+            if (slot < 0) {
+                throw new ResourceNotFoundException("Connector", "evseId-stationId-connectorId",
+                        evseId + "-" + stationId + "-" + connectorId);
+            }
+            ConnectorStatusEnum previous = station.transition(slot, newStatus);
+            // 재적재로 교체된 인덱스였으면 새 인덱스에서 다시 시도
+            if (previous != null) {
+                if (!previous.canTransitionTo(newStatus)) {
+                    meterRegistry.counter("charging.connector.status.unexpected.transitions",
+                            "from", previous.name(), "to", newStatus.name()).increment();
+                    log.warn("전이 규칙에 없는 커넥터 상태 변경 반영: stationId={}, evseId={}, connectorId={}, {} -> {}",
+                            stationId, evseId, connectorId, previous, newStatus);
+                }
+                return previous;
+            }
+        }
+    }
+
+    /**
+     * 커넥터 현재 상태
+     */
+    public Optional<ConnectorStatusEnum> findStatus(String stationId, Integer evseId, Integer connectorId) {
+        StationConnectors station = stations.get(stationId);
+        int slot = station != null ? station.slotOf(evseId, connectorId) : -1;
+        return slot < 0 ? Optional.empty() : Optional.of(station.status(slot));
+    }
+
+    /**
+     * 최대 전력이 minPower 이상인 사용 가능 커넥터 중 최대 전력이 가장 작은 커넥터 (best fit)
+     *
+     * @param minPower 필요한 최소 전력 (kW, null이면 조건 없음)
+     */
+    public Optional<ConnectorTopology> findAvailable(String stationId, BigDecimal minPower) {
+        StationConnectors station = stations.get(stationId);
+        if (station == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(station.firstAvailable(minPower != null ? minPower.doubleValue() : 0.0));
+    }
+
+    /**
+     * 충전소에서 해당 상태인 커넥터 목록 (최대 전력 오름차순)
+     */
+    public List<ConnectorTopology> findByStatus(String stationId, ConnectorStatusEnum status) {
+        StationConnectors station = stations.get(stationId);
+        return station != null ? station.byStatus(status) : List.of();
+    }
+
+    /**
+     * 충전소의 상태별 커넥터 수
+     */
+    public Map<ConnectorStatusEnum, Integer> countByStatus(String stationId) {
+        StationConnectors station = stations.get(stationId);
+        return station != null ? station.countByStatus() : Map.of();
+    }
+
+    private static long key(Integer evseId, Integer connectorId) {
+        return ((long) evseId << 32) | (connectorId & 0xffffffffL);
+    }
+
+    /**
+     * 충전소 하나의 커넥터 슬롯 (최대 전력 오름차순)
+     * 모든 접근은 인스턴스 단위로 동기화되며, 충전소 간에는 경합하지 않습니다.
+     */
+    private static final class StationConnectors {
+
+        private final ConnectorTopology[] connectors;
+        private final double[] maxPower;
+        private final ConnectorStatusEnum[] statuses;
+        private final Map<Long, Integer> slotByKey;
+        private final BitSet available;
+        private final BitSet occupied;
+        private final BitSet faulted;
+        private boolean retired;
+
+        StationConnectors(List<ConnectorTopology> topology, StationConnectors previous) {
+            List<ConnectorTopology> sorted = new ArrayList<>(topology);
+            sorted.sort(Comparator.comparing(ConnectorTopology::maxPower));
+
+            int size = sorted.size();
+            this.connectors = new ConnectorTopology[size];
+            this.maxPower = new double[size];
+            this.statuses = new ConnectorStatusEnum[size];
+            this.slotByKey = new HashMap<>(size * 2);
+            this.available = new BitSet(size);
+            this.occupied = new BitSet(size);
+            this.faulted = new BitSet(size);
+
+            for (int slot = 0; slot < size; slot++) {
+                ConnectorTopology connector = sorted.get(slot);
+                connectors[slot] = connector;
+                maxPower[slot] = connector.maxPower().doubleValue();
+                slotByKey.put(key(connector.evseId(), connector.connectorId()), slot);
+
+                ConnectorStatusEnum status = previous != null
+                        ? previous.statusOf(connector.evseId(), connector.connectorId())
+                        : null;
+                setStatus(slot, status != null ? status : connector.status());
+            }
+        }
+
+        int slotOf(Integer evseId, Integer connectorId) {
+            Integer slot = slotByKey.get(key(evseId, connectorId));
+            return slot != null ? slot : -1;
+        }
+
+        /**
+         * @return 이전 상태 (교체된 인스턴스면 null)
+         */
+        synchronized ConnectorStatusEnum transition(int slot, ConnectorStatusEnum newStatus) {
+            if (retired) {
+                return null;
+            }
+            ConnectorStatusEnum current = statuses[slot];
+            setStatus(slot, newStatus);
+            return current;
+        }
+
+        synchronized ConnectorStatusEnum status(int slot) {
+            return statuses[slot];
+        }
+
+        synchronized ConnectorTopology firstAvailable(double minPower) {
+            int slot = available.nextSetBit(lowerBound(minPower));
+            return slot < 0 ? null : connectors[slot].withStatus(ConnectorStatusEnum.AVAILABLE);
+        }
+
+        synchronized List<ConnectorTopology> byStatus(ConnectorStatusEnum status) {
+            List<ConnectorTopology> result = new ArrayList<>();
+            BitSet bits = bitsOf(status);
+            if (bits != null) {
+                for (int slot = bits.nextSetBit(0); slot >= 0; slot = bits.nextSetBit(slot + 1)) {
+                    result.add(connectors[slot].withStatus(status));
+                }
+                return result;
+            }
+            for (int slot = 0; slot < statuses.length; slot++) {
+                if (statuses[slot] == status) {
+                    result.add(connectors[slot].withStatus(status));
+                }
+            }
+            return result;
+        }
+
+        synchronized Map<ConnectorStatusEnum, Integer> countByStatus() {
+            Map<ConnectorStatusEnum, Integer> counts = new EnumMap<>(ConnectorStatusEnum.class);
+            for (ConnectorStatusEnum status : statuses) {
+                counts.merge(status, 1, Integer::sum);
+            }
+            return counts;
+        }
+
+        /**
+         * 새 토폴로지로 교체 (기존 커넥터 상태 유지)
+         * 복사와 교체 사이에 들어온 상태 전이가 유실되지 않도록 잠금을 쥔 채로 만들고, 이 인스턴스는 폐기합니다.
+         *
+         * @return 새 인스턴스 (커넥터가 없으면 null)
+         */
+        synchronized StationConnectors replaceWith(List<ConnectorTopology> topology) {
+            retired = true;
+            return topology.isEmpty() ? null : new StationConnectors(topology, this);
+        }
+
+        private synchronized ConnectorStatusEnum statusOf(Integer evseId, Integer connectorId) {
+            int slot = slotOf(evseId, connectorId);
+            return slot < 0 ? null : statuses[slot];
+        }
+
+        private BitSet bitsOf(ConnectorStatusEnum status) {
+            return switch (status) {
+                case AVAILABLE -> available;
+                case OCCUPIED -> occupied;
+                case FAULTED -> faulted;
+                default -> null;
+            };
+        }
+
+        private void setStatus(int slot, ConnectorStatusEnum status) {
+            statuses[slot] = status;
+            available.set(slot, status == ConnectorStatusEnum.AVAILABLE);
+            occupied.set(slot, status == ConnectorStatusEnum.OCCUPIED);
+            faulted.set(slot, status == ConnectorStatusEnum.FAULTED);
+        }
+
+        /**
+         * maxPower >= minPower 인 첫 슬롯 (없으면 슬롯 수)
+         */
+        private int lowerBound(double minPower) {
+            int low = 0;
+            int high = maxPower.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (maxPower[mid] < minPower) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
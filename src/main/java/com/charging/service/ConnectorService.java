@@ -0,0 +1,60 @@
+package com.charging.service;
+
+import com.charging.domain.enums.ConnectorStatusEnum;
+import com.charging.domain.model.ConnectorStatusChange;
+import com.charging.domain.model.ConnectorTopology;
+import com.charging.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 커넥터 관리 서비스
+ * OCPP 2.0.1 StatusNotification 처리
+ *
+ * 상태 반영은 인메모리 인덱스(ConnectorAvailabilityIndex)에서 하고 (충전소가 보고한 상태를 그대로 반영),
+ * DB 기록은 ConnectorStatusWriter가 모아서 일괄 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConnectorService {
+
+    private final ConnectorAvailabilityIndex connectorAvailabilityIndex;
+    private final ConnectorStatusWriter connectorStatusWriter;
+
+    /**
+     * 커넥터 상태 변경
+     * 현재 상태와 같으면 아무것도 기록하지 않습니다.
+     * 전이 규칙에 어긋나는 상태도 거절하지 않고 반영합니다 (충전소가 자신의 상태의 기준).
+     */
+    public void updateStatus(String stationId, Integer evseId, Integer connectorId, ConnectorStatusEnum newStatus) {
+        ConnectorStatusEnum previous = connectorAvailabilityIndex.transition(stationId, evseId, connectorId, newStatus);
+        if (previous == newStatus) {
+            return;
+        }
+
+        connectorStatusWriter.enqueue(new ConnectorStatusChange(stationId, evseId, connectorId, newStatus));
+        log.info("커넥터 상태 변경: stationId={}, evseId={}, connectorId={}, {} -> {}",
+                stationId, evseId, connectorId, previous, newStatus);
+    }
+
+    /**
+     * 최대 전력이 minPower 이상인 사용 가능 커넥터 (최대 전력이 가장 작은 것)
+     */
+    public ConnectorTopology findAvailableConnector(String stationId, BigDecimal minPower) {
+        return connectorAvailabilityIndex.findAvailable(stationId, minPower)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format(
+                        "사용 가능한 커넥터가 없습니다. (stationId: %s, minPower: %s)", stationId, minPower)));
+    }
+
+    /**
+     * 충전소에서 해당 상태인 커넥터 목록
+     */
+    public List<ConnectorTopology> findByStatus(String stationId, ConnectorStatusEnum status) {
+        return connectorAvailabilityIndex.findByStatus(stationId, status);
+    }
+}
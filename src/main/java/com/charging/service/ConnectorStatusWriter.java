@@ -0,0 +1,171 @@
+package com.charging.service;
+
+import com.charging.config.ConnectorStatusProperties;
+import com.charging.domain.listener.TopologyCacheInvalidator;
+import com.charging.domain.model.ConnectorStatusChange;
+import com.charging.domain.repository.ConnectorStatusRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 커넥터 상태 지연 일괄 기록기 (write-behind)
+ *
+ * StatusNotification마다 UPDATE 하지 않고 커넥터별 마지막 상태만 보관했다가,
+ * flushInterval 마다 batchSize 단위의 JDBC 배치 UPDATE로 기록합니다.
+ * 같은 커넥터의 연속된 변경은 하나로 합쳐지며, 기록에 실패한 변경은 다음 주기에 다시 시도합니다.
+ *
+ * 비정상 종료 시 최대 flushInterval 만큼의 상태 변경이 DB에 남지 않을 수 있으나,
+ * 충전소는 재접속(BootNotification) 후 모든 커넥터의 StatusNotification을 다시 보냅니다.
+ *
+ * 메트릭: charging.connector.status.pending (기록 대기 중인 커넥터 수)
+ */
+@Slf4j
+@Component
+public class ConnectorStatusWriter implements SmartLifecycle {
+
+    private final ConnectorStatusRepository connectorStatusRepository;
+    private final ConnectorStatusProperties properties;
+    private final CacheManager cacheManager;
+    private final boolean virtualThreads;
+
+    /**
+     * 커넥터 키 (stationId:evseId:connectorId) -> 마지막 상태
+     */
+    private final Map<String, ConnectorStatusChange> pending = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ConnectorStatusWriter(ConnectorStatusRepository connectorStatusRepository,
+                                 ConnectorStatusProperties properties,
+                                 CacheManager cacheManager,
+                                 MeterRegistry meterRegistry,
+                                 Environment environment) {
+        this.connectorStatusRepository = connectorStatusRepository;
+        this.properties = properties;
+        this.cacheManager = cacheManager;
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+
+        Gauge.builder("charging.connector.status.pending", pending, Map::size)
+                .description("DB 기록 대기 중인 커넥터 상태 변경 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상태 변경 등록 (같은 커넥터의 이전 대기 변경은 덮어씀)
+     */
+    public void enqueue(ConnectorStatusChange change) {
+        pending.put(keyOf(change), change);
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        // 가상 스레드 모드에서는 flusher도 가상 스레드로 실행 (가상 스레드는 항상 daemon)
+        Thread.Builder builder = virtualThreads
+                ? Thread.ofVirtual()
+                : Thread.ofPlatform().daemon();
+        flusher = builder
+                .name("connector-status-flusher")
+                .start(this::flushLoop);
+        log.info("커넥터 상태 기록기 시작: flushInterval={}, batchSize={}, virtualThreads={}",
+                properties.getFlushInterval(), properties.getBatchSize(), virtualThreads);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("커넥터 상태 기록기 종료: pending={}", pending.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버보다 먼저 시작하고 나중에 종료되어, 종료 중 들어온 상태 변경까지 기록
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * flushInterval 마다 대기 중인 변경을 기록
+     * 종료 시에는 남은 변경을 한 번 더 기록한 후 반환합니다.
+     */
+    private void flushLoop() {
+        long intervalNanos = properties.getFlushInterval().toNanos();
+        while (running) {
+            LockSupport.parkNanos(intervalNanos);
+            flush();
+        }
+        flush();
+    }
+
+    private void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        int batchSize = properties.getBatchSize();
+        List<ConnectorStatusChange> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        for (ConnectorStatusChange change : pending.values()) {
+            batch.add(change);
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<ConnectorStatusChange> batch) {
+        try {
+            connectorStatusRepository.batchUpdateStatus(batch);
+        } catch (Exception e) {
+            log.error("커넥터 상태 기록 실패 (다음 주기에 재시도): count={}", batch.size(), e);
+            return;
+        }
+
+        Cache cache = cacheManager.getCache(TopologyCacheInvalidator.CONNECTOR_CACHE);
+        for (ConnectorStatusChange change : batch) {
+            String key = keyOf(change);
+            // 기록하는 사이 더 새로운 상태가 들어왔으면 남겨 두고 다음 주기에 기록
+            pending.remove(key, change);
+            if (cache != null) {
+                cache.evict(key);
+            }
+        }
+        log.debug("커넥터 상태 기록: count={}", batch.size());
+    }
+
+    private static String keyOf(ConnectorStatusChange change) {
+        return TopologyCacheInvalidator.connectorKey(change.stationId(), change.evseId(), change.connectorId());
+    }
+}
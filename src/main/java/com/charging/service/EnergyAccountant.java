@@ -0,0 +1,239 @@
+package com.charging.service;
+
+import com.charging.domain.enums.MeasurandEnum;
+import com.charging.domain.model.MeterValueSample;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 세션의 누적 에너지 계산 (인메모리)
+ *
+ * 수집되는 샘플마다 트랜잭션별 상태를 O(1)로 갱신하여, 트랜잭션 종료 시 METER_VALUE를 다시 읽지 않고 바로 확정합니다.
+ *
+ * - ENERGY_ACTIVE_IMPORT_REGISTER: 측정 시간이 가장 이른 값 / 가장 늦은 값을 시작 / 종료 미터 값으로 사용
+ *   (순서가 뒤바뀌거나 중복된 샘플이 와도 결과가 같음)
+ * - 레지스터를 보고하지 않는 충전소는 POWER_ACTIVE_IMPORT를 사다리꼴 적분하여 대신 사용
+ *   (이미 적분한 시점보다 이르거나 같은 샘플은 무시)
+ * - 위상(phase)별 값은 합계와 중복되므로 위상이 없는 값만 사용
+ * - 값은 단위(kWh / kW)를 보고 Wh / W로 정규화
+ *
+ * 재기동 전부터 진행 중이던 세션은 시작 구간 샘플이 없으므로 종료 시 DB 샘플로 보완해야 합니다 (isComplete).
+ *
+ * 상태는 트랜잭션 종료 시 TransactionService가 커밋 후 제거합니다.
+ * 종료와 겹친 샘플이 상태를 다시 만들면 기록 직후 레지스트리를 다시 확인해 제거하고,
+ * 종료 보완(recordRegister) 후 종료가 실패한 경우 등 남은 상태는 주기적으로 정리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EnergyAccountant {
+
+    private static final BigDecimal THOUSAND = new BigDecimal("1000");
+    private static final double MILLIS_PER_HOUR = 3_600_000d;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final ActiveSessionRegistry activeSessionRegistry;
+
+    private final Map<String, SessionEnergy> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * 직전 정리 때 활성 세션이 아니었던 트랜잭션 (스케줄러 스레드 전용)
+     */
+    private Set<String> orphanCandidates = Set.of();
+
+    /**
+     * 세션 시작 (이후 샘플은 모두 반영되므로 종료 시 보완 조회가 필요 없음)
+     */
+    public void open(String transactionId) {
+        sessions.put(transactionId, new SessionEnergy(true));
+    }
+
+    /**
+     * 샘플 반영 (활성 세션이 아니거나 에너지 계산과 무관한 샘플은 무시)
+     */
+    public void record(MeterValueSample sample) {
+        if (sample.phase() != null || sample.value() == null
+                || (sample.measurand() != MeasurandEnum.ENERGY_ACTIVE_IMPORT_REGISTER
+                    && sample.measurand() != MeasurandEnum.POWER_ACTIVE_IMPORT)) {
+            return;
+        }
+        SessionEnergy energy = sessions.get(sample.transactionId());
+        if (energy == null) {
+            if (activeSessionRegistry.findByTransactionId(sample.transactionId()).isEmpty()) {
+                return;
+            }
+            // 재기동 전에 시작된 세션 - 시작 구간 샘플이 없음
+            energy = sessions.computeIfAbsent(sample.transactionId(), key -> new SessionEnergy(false));
+            // 확인과 생성 사이에 종료 처리(레지스트리 제거 → 상태 제거)가 끝났으면 다시 만든 상태를 제거
+            if (activeSessionRegistry.findByTransactionId(sample.transactionId()).isEmpty()) {
+                sessions.remove(sample.transactionId(), energy);
+                return;
+            }
+        }
+
+        long time = sample.timestamp().atZone(ZONE).toInstant().toEpochMilli();
+        if (sample.measurand() == MeasurandEnum.ENERGY_ACTIVE_IMPORT_REGISTER) {
+            energy.addRegister(time, toBaseUnit(sample.value(), sample.unit()));
+        } else {
+            energy.addPower(time, toBaseUnit(sample.value(), sample.unit()).doubleValue());
+        }
+    }
+
+    /**
+     * 레지스터 값 반영 (종료 시 DB 샘플 보완용 - 이미 반영된 샘플이 다시 들어와도 결과가 같음)
+     * 활성 세션이 아닌 트랜잭션도 반영하며, 종료가 커밋되지 않으면 남은 상태는 sweepOrphans가 정리합니다.
+     */
+    public void recordRegister(String transactionId, LocalDateTime timestamp, BigDecimal value, String unit) {
+        if (value != null) {
+            sessions.computeIfAbsent(transactionId, key -> new SessionEnergy(false))
+                    .addRegister(timestamp.atZone(ZONE).toInstant().toEpochMilli(), toBaseUnit(value, unit));
+        }
+    }
+
+    /**
+     * 세션 시작부터의 샘플이 모두 반영되었는지 여부 (상태가 없으면 false)
+     */
+    public boolean isComplete(String transactionId) {
+        SessionEnergy energy = sessions.get(transactionId);
+        return energy != null && energy.complete;
+    }
+
+    /**
+     * 현재까지의 계산 결과
+     */
+    public Optional<EnergyReading> find(String transactionId) {
+        SessionEnergy energy = sessions.get(transactionId);
+        return energy == null ? Optional.empty() : energy.reading();
+    }
+
+    /**
+     * 세션 상태 제거 (트랜잭션 종료)
+     */
+    public void remove(String transactionId) {
+        sessions.remove(transactionId);
+    }
+
+    /**
+     * 활성 세션이 아닌 트랜잭션의 상태 정리
+     * 종료 처리 중인 항목을 건드리지 않도록 두 번 연속 활성 세션이 아닌 것으로 확인된 항목만 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${charging.meter-value.orphan-sweep-interval:5m}")
+    public void sweepOrphans() {
+        Set<String> previous = orphanCandidates;
+        Set<String> current = new HashSet<>();
+        int removed = 0;
+        for (String transactionId : sessions.keySet()) {
+            if (activeSessionRegistry.findByTransactionId(transactionId).isPresent()) {
+                continue;
+            }
+            if (previous.contains(transactionId)) {
+                sessions.remove(transactionId);
+                removed++;
+            } else {
+                current.add(transactionId);
+            }
+        }
+        orphanCandidates = current;
+        if (removed > 0) {
+            log.info("종료된 세션의 에너지 계산 상태 정리: {}건", removed);
+        }
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * kWh / kW 는 Wh / W로 변환 (단위가 없으면 OCPP 기본 단위 Wh / W)
+     */
+    private static BigDecimal toBaseUnit(BigDecimal value, String unit) {
+        if (unit != null && (unit.equalsIgnoreCase("kWh") || unit.equalsIgnoreCase("kW"))) {
+            return value.multiply(THOUSAND);
+        }
+        return value;
+    }
+
+    /**
+     * 누적 에너지 계산 결과
+     *
+     * @param startMeterValue 시작 미터 값 (Wh, 레지스터 기준일 때만)
+     * @param stopMeterValue  종료 미터 값 (Wh, 레지스터 기준일 때만)
+     * @param energyWh        누적 에너지 (Wh)
+     */
+    public record EnergyReading(BigDecimal startMeterValue, BigDecimal stopMeterValue, BigDecimal energyWh) {
+
+        public boolean fromRegister() {
+            return startMeterValue != null;
+        }
+
+        public BigDecimal energyKwh() {
+            return energyWh.divide(THOUSAND, 3, RoundingMode.HALF_UP);
+        }
+    }
+
+    /**
+     * 세션 하나의 에너지 계산 상태
+     */
+    private static final class SessionEnergy {
+
+        private final boolean complete;
+
+        private long firstRegisterTime = Long.MAX_VALUE;
+        private BigDecimal firstRegister;
+        private long lastRegisterTime = Long.MIN_VALUE;
+        private BigDecimal lastRegister;
+
+        private long lastPowerTime = Long.MIN_VALUE;
+        private double lastPower;
+        private double integratedWh;
+
+        SessionEnergy(boolean complete) {
+            this.complete = complete;
+        }
+
+        synchronized void addRegister(long time, BigDecimal value) {
+            if (time < firstRegisterTime) {
+                firstRegisterTime = time;
+                firstRegister = value;
+            }
+            if (time > lastRegisterTime) {
+                lastRegisterTime = time;
+                lastRegister = value;
+            }
+        }
+
+        synchronized void addPower(long time, double watts) {
+            if (time <= lastPowerTime) {
+                return;
+            }
+            if (lastPowerTime != Long.MIN_VALUE) {
+                integratedWh += (lastPower + watts) / 2 * (time - lastPowerTime) / MILLIS_PER_HOUR;
+            }
+            lastPowerTime = time;
+            lastPower = watts;
+        }
+
+        synchronized Optional<EnergyReading> reading() {
+            if (firstRegister != null) {
+                BigDecimal delta = lastRegister.subtract(firstRegister).max(BigDecimal.ZERO);
+                return Optional.of(new EnergyReading(firstRegister, lastRegister, delta));
+            }
+            if (lastPowerTime != Long.MIN_VALUE) {
+                return Optional.of(new EnergyReading(null, null, BigDecimal.valueOf(integratedWh)));
+            }
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.charging.service;
+
+import com.charging.domain.model.MeterValueSample;
+import com.charging.domain.repository.MeterValueRepository;
+import com.charging.domain.repository.TransactionRepository;
+import com.charging.dto.request.ExportFormat;
+import com.charging.dto.response.TransactionResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 대용량 내보내기 서비스
+ * DB 커서에서 읽은 행을 바로 응답 스트림에 기록하므로 메모리 사용량이 행 수와 무관합니다.
+ *
+ * 읽기 전용 트랜잭션(flush 없음, 스냅샷 없음)에서 DTO 프로젝션만 조회하여
+ * 영속성 컨텍스트에 엔티티가 쌓이지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final List<String> TRANSACTION_HEADER = List.of(
+            "transactionId", "stationId", "evseId", "connectorId", "idToken", "eventType", "chargingState",
+            "startTime", "stopTime", "totalEnergy", "stopReason");
+
+    private static final List<String> METER_VALUE_HEADER = List.of(
+            "transactionId", "timestamp", "measurand", "value", "unit", "phase", "location");
+
+    private final TransactionRepository transactionRepository;
+    private final MeterValueRepository meterValueRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 기간 내 시작된 트랜잭션 내보내기 [from, to)
+     *
+     * @return 기록한 행 수
+     */
+    public long exportTransactions(LocalDateTime from, LocalDateTime to, ExportFormat format, OutputStream out)
+            throws IOException {
+        try (Stream<TransactionResponse> rows = transactionRepository.streamByDateRange(from, to)) {
+            long count = write(rows, format, TRANSACTION_HEADER, row -> Arrays.asList(
+                    row.transactionId(), row.stationId(), row.evseId(), row.connectorId(), row.idToken(),
+                    row.eventType(), row.chargingState(), row.startTime(), row.stopTime(),
+                    row.totalEnergy(), row.stopReason()), out);
+            log.info("트랜잭션 내보내기 완료: from={}, to={}, format={}, rows={}", from, to, format, count);
+            return count;
+        }
+    }
+
+    /**
+     * 기간 내 측정된 미터 값 내보내기 [from, to)
+     *
+     * @return 기록한 행 수
+     */
+    public long exportMeterValues(LocalDateTime from, LocalDateTime to, ExportFormat format, OutputStream out)
+            throws IOException {
+        try (Stream<MeterValueSample> rows = meterValueRepository.streamByDateRange(from, to)) {
+            long count = write(rows, format, METER_VALUE_HEADER, row -> Arrays.asList(
+                    row.transactionId(), row.timestamp(), row.measurand(), row.value(),
+                    row.unit(), row.phase(), row.location()), out);
+            log.info("미터 값 내보내기 완료: from={}, to={}, format={}, rows={}", from, to, format, count);
+            return count;
+        }
+    }
+
+    private <T> long write(Stream<T> rows, ExportFormat format, List<String> header,
+                           Function<T, List<Object>> columns, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+
+        if (format == ExportFormat.NDJSON) {
+            // 응답 스트림은 컨테이너가 닫으므로 SequenceWriter가 닫지 않도록 함
+            try (SequenceWriter sequence = objectMapper.writer()
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .withRootValueSeparator("\n")
+                    .writeValues(writer)) {
+                while (iterator.hasNext()) {
+                    sequence.write(iterator.next());
+                    count++;
+                }
+            }
+            if (count > 0) {
+                writer.write('\n');
+            }
+        } else {
+            writeCsvLine(writer, header);
+            while (iterator.hasNext()) {
+                writeCsvLine(writer, columns.apply(iterator.next()));
+                count++;
+            }
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values.get(i)));
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * RFC 4180 - 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씀
+     */
+    private static String csvValue(Object value) {
+        String text = value == null ? "" : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,251 @@
+package com.charging.service;
+
+import com.charging.config.LiveMeterBufferProperties;
+import com.charging.domain.enums.MeasurandEnum;
+import com.charging.domain.model.LiveSample;
+import com.charging.domain.model.MeterValueSample;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 세션의 최근 측정값 버퍼 (인메모리)
+ *
+ * 트랜잭션 / 측정값 종류마다 고정 크기 링 버퍼(long[] epoch millis + double[] 값)에 최근 샘플을 보관하여
+ * "최신 값", "최근 N분" 조회를 Hibernate나 DB 없이 처리합니다.
+ * 샘플당 16바이트이며, 링은 해당 측정값이 처음 들어올 때 할당합니다.
+ *
+ * - 활성 세션 레지스트리에 있는 트랜잭션의 샘플만 보관
+ * - 트랜잭션 종료 시 TransactionService가 커밋 후 제거
+ *   (종료와 겹친 샘플이 버퍼를 다시 만들면 기록 직후 레지스트리를 다시 확인해 제거하고, 남은 것은 주기적으로 정리)
+ * - 재기동 후에는 새로 들어오는 샘플부터 다시 채워짐 (원본은 METER_VALUE에 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveMeterBuffer {
+
+    private static final MeasurandEnum[] MEASURANDS = MeasurandEnum.values();
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final ActiveSessionRegistry activeSessionRegistry;
+    private final LiveMeterBufferProperties properties;
+
+    private final Map<String, SessionSamples> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * 직전 정리 때 활성 세션이 아니었던 트랜잭션 (스케줄러 스레드 전용)
+     */
+    private Set<String> orphanCandidates = Set.of();
+
+    /**
+     * 샘플 기록 (활성 세션이 아니면 무시)
+     */
+    public void record(MeterValueSample sample) {
+        SessionSamples samples = sessions.get(sample.transactionId());
+        if (samples == null) {
+            if (activeSessionRegistry.findByTransactionId(sample.transactionId()).isEmpty()) {
+                return;
+            }
+            samples = sessions.computeIfAbsent(sample.transactionId(), key -> new SessionSamples());
+            // 확인과 생성 사이에 종료 처리(레지스트리 제거 → 버퍼 제거)가 끝났으면 다시 만든 버퍼를 제거
+            if (activeSessionRegistry.findByTransactionId(sample.transactionId()).isEmpty()) {
+                sessions.remove(sample.transactionId(), samples);
+                return;
+            }
+        }
+        samples.ring(sample.measurand(), properties.getCapacity())
+                .add(toEpochMillis(sample.timestamp()), sample.value().doubleValue(), sample.unit());
+    }
+
+    /**
+     * 측정 시간이 가장 늦은 샘플
+     */
+    public Optional<LiveSample> findLatest(String transactionId, MeasurandEnum measurand) {
+        SampleRing ring = ringOf(transactionId, measurand);
+        return ring == null ? Optional.empty() : Optional.ofNullable(ring.latest());
+    }
+
+    /**
+     * 가장 최근 샘플 기준 window 이내의 샘플 (측정 시간순)
+     */
+    public List<LiveSample> findRecent(String transactionId, MeasurandEnum measurand, Duration window) {
+        SampleRing ring = ringOf(transactionId, measurand);
+        return ring == null ? List.of() : ring.since(window.toMillis());
+    }
+
+    /**
+     * 세션 버퍼 제거 (트랜잭션 종료)
+     */
+    public void remove(String transactionId) {
+        sessions.remove(transactionId);
+    }
+
+    /**
+     * 활성 세션이 아닌 트랜잭션의 버퍼 정리
+     * 종료 처리 중인 항목을 건드리지 않도록 두 번 연속 활성 세션이 아닌 것으로 확인된 항목만 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${charging.meter-value.orphan-sweep-interval:5m}")
+    public void sweepOrphans() {
+        Set<String> previous = orphanCandidates;
+        Set<String> current = new HashSet<>();
+        int removed = 0;
+        for (String transactionId : sessions.keySet()) {
+            if (activeSessionRegistry.findByTransactionId(transactionId).isPresent()) {
+                continue;
+            }
+            if (previous.contains(transactionId)) {
+                sessions.remove(transactionId);
+                removed++;
+            } else {
+                current.add(transactionId);
+            }
+        }
+        orphanCandidates = current;
+        if (removed > 0) {
+            log.info("종료된 세션의 측정값 버퍼 정리: {}건", removed);
+        }
+    }
+
+    /**
+     * 버퍼를 보유한 세션 수
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    private SampleRing ringOf(String transactionId, MeasurandEnum measurand) {
+        SessionSamples samples = sessions.get(transactionId);
+        return samples == null ? null : samples.rings[measurand.ordinal()];
+    }
+
+    private static long toEpochMillis(LocalDateTime timestamp) {
+        return timestamp.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZONE);
+    }
+
+    /**
+     * 세션 하나의 측정값 종류별 링 (MeasurandEnum.ordinal 색인)
+     */
+    private static final class SessionSamples {
+
+        private final SampleRing[] rings = new SampleRing[MEASURANDS.length];
+
+        SampleRing ring(MeasurandEnum measurand, int capacity) {
+            SampleRing ring = rings[measurand.ordinal()];
+            if (ring == null) {
+                synchronized (this) {
+                    ring = rings[measurand.ordinal()];
+                    if (ring == null) {
+                        ring = new SampleRing(capacity);
+                        rings[measurand.ordinal()] = ring;
+                    }
+                }
+            }
+            return ring;
+        }
+    }
+
+    /**
+     * 고정 크기 원형 버퍼 (가득 차면 가장 오래된 샘플을 덮어씀)
+     * 쓰기는 대부분 한 충전소 스레드에서만 일어나므로 락 경합이 거의 없습니다.
+     */
+    private static final class SampleRing {
+
+        private final long[] times;
+        private final double[] values;
+        private String unit;
+        private int next;
+        private int size;
+        private int latestIndex = -1;
+
+        SampleRing(int capacity) {
+            this.times = new long[capacity];
+            this.values = new double[capacity];
+        }
+
+        synchronized void add(long time, double value, String unit) {
+            boolean overwritingLatest = latestIndex == next;
+            times[next] = time;
+            values[next] = value;
+            if (unit != null) {
+                this.unit = unit;
+            }
+            int written = next;
+            next = (next + 1) % times.length;
+            size = Math.min(size + 1, times.length);
+
+            if (latestIndex < 0) {
+                latestIndex = written;
+            } else if (overwritingLatest) {
+                // 늦게 도착한 샘플이 최신 샘플 자리를 덮어쓴 경우에만 다시 찾음
+                latestIndex = indexOfMax();
+            } else if (time >= times[latestIndex]) {
+                latestIndex = written;
+            }
+        }
+
+        synchronized LiveSample latest() {
+            return latestIndex < 0 ? null : new LiveSample(toLocalDateTime(times[latestIndex]), values[latestIndex], unit);
+        }
+
+        /**
+         * 늦게 도착한 샘플이 섞여 있을 수 있으므로 측정 시간으로 정렬하여 반환
+         * 링 순서(오래된 것부터)가 거의 정렬된 상태이므로 삽입 정렬로 충분합니다.
+         */
+        synchronized List<LiveSample> since(long windowMillis) {
+            if (latestIndex < 0) {
+                return List.of();
+            }
+            long from = times[latestIndex] - windowMillis;
+            int oldest = size == times.length ? next : 0;
+
+            int[] matched = new int[size];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                int index = (oldest + i) % times.length;
+                if (times[index] < from) {
+                    continue;
+                }
+                int position = count++;
+                while (position > 0 && times[matched[position - 1]] > times[index]) {
+                    matched[position] = matched[position - 1];
+                    position--;
+                }
+                matched[position] = index;
+            }
+
+            List<LiveSample> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(new LiveSample(toLocalDateTime(times[matched[i]]), values[matched[i]], unit));
+            }
+            return result;
+        }
+
+        private int indexOfMax() {
+            int max = 0;
+            for (int i = 1; i < size; i++) {
+                if (times[i] > times[max]) {
+                    max = i;
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.charging.service;
+
+import com.charging.config.MeterValueIngestionProperties;
+import com.charging.domain.model.MeterValueSample;
+import com.charging.domain.repository.MeterValueBatchRepository;
+import com.charging.exception.IngestionRejectedException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 미터 값 수집 서비스
+ * 샘플을 bounded 큐에 적재하고, 별도 flusher 스레드가 크기 또는 시간 기준으로 모아서
+ * JDBC 배치 INSERT로 METER_VALUE에 기록합니다.
+ *
+ * 요청의 샘플 수만큼 버퍼 자리를 한 번에 예약하고, offerTimeout 안에 예약하지 못하면 요청 전체를 거절합니다 (backpressure).
+ * 일부만 적재되는 경우가 없으므로 거절된 요청은 그대로 재전송해도 샘플이 중복되지 않습니다.
+ * 자리는 샘플이 DB에 기록되거나 버려질 때 반납됩니다 (기록 재시도 중인 배치도 버퍼 용량에 포함).
+ *
+ * 배치 기록이 실패하면 writeRetryBackoff부터 2배씩 늘려 가며 writeMaxAttempts까지 다시 시도하고,
+ * 모두 실패하면 배치를 버립니다 (dropped). 재시도하는 동안 버퍼가 차면 신규 요청은 거절됩니다.
+ * 적재된 샘플은 진행 중인 세션의 최근 측정값 버퍼(LiveMeterBuffer)와 누적 에너지(EnergyAccountant)에도 바로 반영됩니다.
+ *
+ * 메트릭
+ * - charging.meter.ingestion.queue.depth (대기 중인 샘플 수)
+ * - charging.meter.ingestion.samples (result=accepted/rejected/written/retried/dropped 누적 건수)
+ * - charging.meter.ingestion.lag (배치에서 가장 오래된 샘플의 측정 시간부터 DB 기록까지 - 충전소 시계 차이 포함)
+ */
+@Slf4j
+@Service
+public class MeterValueIngestionService implements SmartLifecycle {
+
+    private final MeterValueBatchRepository meterValueBatchRepository;
+    private final MeterValueIngestionProperties properties;
+    private final LiveMeterBuffer liveMeterBuffer;
+    private final EnergyAccountant energyAccountant;
+    private final BlockingQueue<MeterValueSample> queue;
+    /**
+     * 버퍼 자리 (적재 시 예약, 기록 / 버림 후 반납)
+     */
+    private final Semaphore capacity;
+    private final boolean virtualThreads;
+    private final Timer lagTimer;
+
+    private final AtomicLong acceptedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public MeterValueIngestionService(MeterValueBatchRepository meterValueBatchRepository,
+                                      MeterValueIngestionProperties properties,
+                                      LiveMeterBuffer liveMeterBuffer,
+                                      EnergyAccountant energyAccountant,
+                                      MeterRegistry meterRegistry,
+                                      Environment environment) {
+        this.meterValueBatchRepository = meterValueBatchRepository;
+        this.properties = properties;
+        this.liveMeterBuffer = liveMeterBuffer;
+        this.energyAccountant = energyAccountant;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.capacity = new Semaphore(properties.getQueueCapacity());
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+
+        Gauge.builder("charging.meter.ingestion.queue.depth", queue, BlockingQueue::size)
+                .description("미터 값 수집 버퍼에 대기 중인 샘플 수")
+                .register(meterRegistry);
+        registerCounter(meterRegistry, "accepted", acceptedCount);
+        registerCounter(meterRegistry, "rejected", rejectedCount);
+        registerCounter(meterRegistry, "written", writtenCount);
+        registerCounter(meterRegistry, "retried", retriedCount);
+        registerCounter(meterRegistry, "dropped", droppedCount);
+        this.lagTimer = Timer.builder("charging.meter.ingestion.lag")
+                .description("샘플 측정 시간부터 DB 기록까지 걸린 시간 (배치의 가장 오래된 샘플 기준)")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    private static void registerCounter(MeterRegistry meterRegistry, String result, AtomicLong count) {
+        FunctionCounter.builder("charging.meter.ingestion.samples", count, AtomicLong::get)
+                .description("미터 값 수집 샘플 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 샘플 적재 (전부 적재하거나 전부 거절)
+     * 샘플 수만큼의 버퍼 자리를 offerTimeout 안에 예약하지 못하면 IngestionRejectedException 발생 (아무것도 적재하지 않음)
+     *
+     * @return 적재된 샘플 수
+     */
+    public int enqueue(List<MeterValueSample> samples) {
+        if (!running) {
+            throw new IngestionRejectedException("미터 값 수집 파이프라인이 동작 중이 아닙니다.");
+        }
+        if (samples.isEmpty()) {
+            return 0;
+        }
+        if (samples.size() > properties.getQueueCapacity()) {
+            rejectedCount.addAndGet(samples.size());
+            throw new IngestionRejectedException(String.format(
+                    "한 요청의 샘플 수가 수집 버퍼 크기를 넘습니다. (samples: %d, capacity: %d)",
+                    samples.size(), properties.getQueueCapacity()));
+        }
+
+        try {
+            if (!capacity.tryAcquire(samples.size(), properties.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                rejectedCount.addAndGet(samples.size());
+                throw new IngestionRejectedException(String.format(
+                        "미터 값 수집 버퍼가 가득 찼습니다. (rejected: %d)", samples.size()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IngestionRejectedException("미터 값 적재가 중단되었습니다.");
+        }
+
+        // 예약한 자리만큼 큐에 빈 자리가 있으므로 add는 실패하지 않음
+        for (MeterValueSample sample : samples) {
+            queue.add(sample);
+            liveMeterBuffer.record(sample);
+            energyAccountant.record(sample);
+        }
+        acceptedCount.addAndGet(samples.size());
+        return samples.size();
+    }
+
+    /**
+     * 현재 큐에 대기 중인 샘플 수
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getAcceptedCount() {
+        return acceptedCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getRetriedCount() {
+        return retriedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        // 가상 스레드 모드에서는 flusher도 가상 스레드로 실행 (가상 스레드는 항상 daemon)
+        Thread.Builder builder = virtualThreads
+                ? Thread.ofVirtual()
+                : Thread.ofPlatform().daemon();
+        flusher = builder
+                .name("meter-value-flusher")
+                .start(this::flushLoop);
+        log.info("미터 값 수집 파이프라인 시작: queueCapacity={}, batchSize={}, flushInterval={}, virtualThreads={}",
+                properties.getQueueCapacity(), properties.getBatchSize(), properties.getFlushInterval(), virtualThreads);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("미터 값 수집 파이프라인 종료: written={}, dropped={}", writtenCount.get(), droppedCount.get());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버보다 먼저 시작하고 나중에 종료되어, 종료 중 들어온 요청의 샘플까지 기록
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * batchSize 만큼 모이거나 flushInterval이 지나면 flush
+     * 종료 시에는 큐에 남은 샘플을 모두 기록한 후 반환합니다.
+     */
+    private void flushLoop() {
+        int batchSize = properties.getBatchSize();
+        long intervalNanos = properties.getFlushInterval().toNanos();
+        List<MeterValueSample> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                long deadline = System.nanoTime() + intervalNanos;
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    MeterValueSample sample = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (sample == null) {
+                        break;
+                    }
+                    batch.add(sample);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            flush(batch);
+        }
+
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<MeterValueSample> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            int written = writeWithRetry(batch);
+            writtenCount.addAndGet(written);
+            recordLag(batch);
+            if (written < batch.size()) {
+                droppedCount.addAndGet(batch.size() - written);
+                log.warn("존재하지 않는 트랜잭션의 미터 값 무시: {}건", batch.size() - written);
+            }
+        } catch (RuntimeException e) {
+            droppedCount.addAndGet(batch.size());
+            log.error("미터 값 배치 기록 실패 - 버림: {}건", batch.size(), e);
+        } finally {
+            capacity.release(batch.size());
+            batch.clear();
+        }
+    }
+
+    /**
+     * 배치 기록 (실패 시 writeMaxAttempts까지 재시도)
+     * 배치 INSERT는 하나의 DB 트랜잭션이라 실패한 시도는 모두 롤백되므로, 다시 기록해도 중복되지 않습니다.
+     */
+    private int writeWithRetry(List<MeterValueSample> batch) {
+        int maxAttempts = Math.max(1, properties.getWriteMaxAttempts());
+        long backoffNanos = properties.getWriteRetryBackoff().toNanos();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return meterValueBatchRepository.batchInsert(batch);
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                retriedCount.addAndGet(batch.size());
+                log.warn("미터 값 배치 기록 실패 - 재시도: {}건, attempt={}, message={}",
+                        batch.size(), attempt, e.getMessage());
+                try {
+                    TimeUnit.NANOSECONDS.sleep(backoffNanos << (attempt - 1));
+                } catch (InterruptedException interrupted) {
+                    // 종료 중에는 대기 없이 남은 시도를 진행
+                    Thread.currentThread().interrupt();
+                    running = false;
+                }
+            }
+        }
+    }
+
+    private void recordLag(List<MeterValueSample> batch) {
+        LocalDateTime oldest = null;
+        for (MeterValueSample sample : batch) {
+            if (oldest == null || sample.timestamp().isBefore(oldest)) {
+                oldest = sample.timestamp();
+            }
+        }
+        Duration lag = Duration.between(oldest, LocalDateTime.now());
+        if (!lag.isNegative()) {
+            lagTimer.record(lag);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.charging.service;
+
+import com.charging.domain.enums.MeasurandEnum;
+import com.charging.domain.model.KeysetCursor;
+import com.charging.domain.model.MeterValuePageRow;
+import com.charging.domain.model.MeterValueSample;
+import com.charging.domain.repository.MeterValueRepository;
+import com.charging.dto.response.KeysetPage;
+import com.charging.exception.ChargingException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 저장된 미터 값 조회 서비스 (키셋 페이지, 측정 시간순)
+ * 진행 중인 세션의 최근 측정값은 LiveMeterBuffer에서 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MeterValueQueryService {
+
+    private final MeterValueRepository meterValueRepository;
+
+    /**
+     * 트랜잭션의 미터 값 페이지 (measurand가 null이면 모든 측정값 종류)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null - 다른 조건으로 발급된 토큰은 거절)
+     */
+    public KeysetPage<MeterValueSample> findByTransaction(String transactionId, MeasurandEnum measurand,
+                                                          String cursor, int size) {
+        KeysetPage.validateSize(size);
+        String filter = KeysetCursor.filterOf("meterValuesByTransaction", transactionId, measurand);
+        KeysetCursor position = cursor != null ? KeysetCursor.decode(cursor, filter) : KeysetCursor.EARLIEST;
+        Limit limit = Limit.of(size + 1);
+
+        List<MeterValuePageRow> rows = measurand != null
+                ? meterValueRepository.findPageByTransactionIdAndMeasurand(
+                        transactionId, measurand, position.time(), position.id(), limit)
+                : meterValueRepository.findPageByTransactionId(transactionId, position.time(), position.id(), limit);
+        return KeysetPage.of(rows, size, filter, MeterValuePageRow::cursor, MeterValuePageRow::toSample);
+    }
+
+    /**
+     * 기간 내 측정값 종류의 미터 값 페이지 [from, to)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null - 다른 조건으로 발급된 토큰은 거절)
+     */
+    public KeysetPage<MeterValueSample> findByMeasurand(MeasurandEnum measurand, LocalDateTime from, LocalDateTime to,
+                                                        String cursor, int size) {
+        KeysetPage.validateSize(size);
+        if (!from.isBefore(to)) {
+            throw new ChargingException("from은 to보다 이전이어야 합니다.");
+        }
+        String filter = KeysetCursor.filterOf("meterValuesByMeasurand", measurand, from, to);
+        KeysetCursor position = cursor != null ? KeysetCursor.decode(cursor, filter) : KeysetCursor.startingAt(from);
+
+        List<MeterValuePageRow> rows = meterValueRepository.findPageByMeasurandAndDateRange(
+                measurand, from, to, position.time(), position.id(), Limit.of(size + 1));
+        return KeysetPage.of(rows, size, filter, MeterValuePageRow::cursor, MeterValuePageRow::toSample);
+    }
+}
@@ -0,0 +1,220 @@
+package com.charging.service;
+
+import com.charging.config.MeterValueRetentionProperties;
+import com.charging.domain.enums.MeasurandEnum;
+import com.charging.domain.model.MeterValueRollupRow;
+import com.charging.domain.repository.MeterValueMaintenanceRepository;
+import com.charging.domain.repository.MeterValueMaintenanceRepository.Sample;
+import com.charging.domain.repository.MeterValueRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미터 값 집계 / 보존 기간 관리 서비스
+ *
+ * - 집계: 닫힌 15분 구간마다 원본 샘플을 1분 단위로 읽어
+ *   트랜잭션 / 측정값 종류 / 위상별 1분, 15분 요약을 METER_VALUE_ROLLUP에 기록
+ * - 삭제: 보존 기간이 지났고 이미 집계된 날짜의 원본 샘플을 일 단위로 삭제 (Oracle은 파티션 DROP)
+ *
+ * 한 구간의 1분 / 15분 요약은 하나의 DB 트랜잭션으로 기록되므로 중간에 실패해도 구간 단위로 재처리됩니다.
+ * 집계 시점 이후에 도착한 샘플(lateArrivalGrace 초과)은 요약에 반영되지 않습니다.
+ * 스케줄 작업이므로 인스턴스 하나에서만 실행되도록 배포해야 합니다.
+ */
+@Slf4j
+@Service
+public class MeterValueRollupService {
+
+    static final int MINUTE_BUCKET = 1;
+    static final int QUARTER_BUCKET = 15;
+
+    private static final int AVG_SCALE = 3;
+
+    private final MeterValueMaintenanceRepository maintenanceRepository;
+    private final MeterValueRollupRepository rollupRepository;
+    private final MeterValueRetentionProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 다음에 집계할 15분 구간의 시작 시간 (첫 실행 시 DB에서 초기화)
+     */
+    private LocalDateTime nextWindow;
+
+    public MeterValueRollupService(MeterValueMaintenanceRepository maintenanceRepository,
+                                   MeterValueRollupRepository rollupRepository,
+                                   MeterValueRetentionProperties properties,
+                                   PlatformTransactionManager transactionManager) {
+        this.maintenanceRepository = maintenanceRepository;
+        this.rollupRepository = rollupRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 닫힌 15분 구간 집계
+     */
+    @Scheduled(fixedDelayString = "${charging.meter-value.retention.rollup-interval:1m}",
+            initialDelayString = "${charging.meter-value.retention.rollup-interval:1m}")
+    public synchronized void rollup() {
+        LocalDateTime limit = LocalDateTime.now().minus(properties.getLateArrivalGrace());
+        LocalDateTime window = nextWindow();
+        if (window == null) {
+            return;
+        }
+
+        int processed = 0;
+        while (processed < properties.getMaxWindowsPerRun() && !window.plusMinutes(QUARTER_BUCKET).isAfter(limit)) {
+            int written = rollupWindow(window);
+            log.debug("미터 값 집계 완료: window={}, rollups={}", window, written);
+            window = window.plusMinutes(QUARTER_BUCKET);
+            nextWindow = window;
+            processed++;
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 원본 샘플 삭제 (아직 집계되지 않은 구간은 남겨둠)
+     */
+    @Scheduled(cron = "${charging.meter-value.retention.purge-cron:0 30 3 * * *}")
+    public void purge() {
+        LocalDateTime oldest = maintenanceRepository.findOldestTimestamp();
+        LocalDateTime rolledUpUntil = nextWindow();
+        if (oldest == null || rolledUpUntil == null) {
+            return;
+        }
+
+        LocalDateTime retentionCutoff = LocalDateTime.now().minus(properties.getRawRetention());
+        LocalDateTime cutoff = retentionCutoff.isBefore(rolledUpUntil) ? retentionCutoff : rolledUpUntil;
+        LocalDate cutoffDay = cutoff.toLocalDate();
+
+        int dropped = 0;
+        int deleted = 0;
+        for (LocalDate day = oldest.toLocalDate(); day.isBefore(cutoffDay); day = day.plusDays(1)) {
+            LocalDate target = day;
+            boolean partitionDropped = Boolean.TRUE.equals(
+                    transactionTemplate.execute(status -> maintenanceRepository.purgeDay(target)));
+            if (partitionDropped) {
+                dropped++;
+            } else {
+                deleted++;
+            }
+        }
+        if (dropped + deleted > 0) {
+            log.info("원본 미터 값 삭제: before={}, partitionsDropped={}, daysDeleted={}", cutoffDay, dropped, deleted);
+        }
+    }
+
+    private synchronized LocalDateTime nextWindow() {
+        if (nextWindow == null) {
+            LocalDateTime latest = rollupRepository.findLatestBucketStart(QUARTER_BUCKET);
+            if (latest != null) {
+                nextWindow = latest.plusMinutes(QUARTER_BUCKET);
+            } else {
+                LocalDateTime oldest = maintenanceRepository.findOldestTimestamp();
+                nextWindow = oldest == null ? null : bucketStart(oldest, QUARTER_BUCKET);
+            }
+        }
+        return nextWindow;
+    }
+
+    /**
+     * 15분 구간 하나를 1분씩 스트리밍으로 읽어 집계
+     * 메모리에는 1분 요약(1분치)과 15분 요약만 유지합니다.
+     *
+     * @return 기록한 요약 행 수
+     */
+    private int rollupWindow(LocalDateTime window) {
+        Integer written = transactionTemplate.execute(status -> {
+            Map<BucketKey, Accumulator> quarter = new HashMap<>();
+            int rows = 0;
+
+            for (int minute = 0; minute < QUARTER_BUCKET; minute++) {
+                LocalDateTime from = window.plusMinutes(minute);
+                Map<BucketKey, Accumulator> perMinute = new HashMap<>();
+
+                maintenanceRepository.streamSamples(from, from.plusMinutes(MINUTE_BUCKET), sample -> {
+                    perMinute.computeIfAbsent(BucketKey.of(sample, MINUTE_BUCKET, from), key -> new Accumulator())
+                            .add(sample);
+                    quarter.computeIfAbsent(BucketKey.of(sample, QUARTER_BUCKET, window), key -> new Accumulator())
+                            .add(sample);
+                });
+
+                List<MeterValueRollupRow> minuteRows = toRows(perMinute);
+                maintenanceRepository.batchInsertRollups(minuteRows);
+                rows += minuteRows.size();
+            }
+
+            List<MeterValueRollupRow> quarterRows = toRows(quarter);
+            maintenanceRepository.batchInsertRollups(quarterRows);
+            return rows + quarterRows.size();
+        });
+        return written == null ? 0 : written;
+    }
+
+    private static List<MeterValueRollupRow> toRows(Map<BucketKey, Accumulator> buckets) {
+        List<MeterValueRollupRow> rows = new ArrayList<>(buckets.size());
+        buckets.forEach((key, acc) -> rows.add(new MeterValueRollupRow(
+                key.transactionIdFk(), key.measurand(), key.phase(), key.bucketMinutes(), key.bucketStart(),
+                acc.count, acc.min, acc.max,
+                acc.sum.divide(BigDecimal.valueOf(acc.count), AVG_SCALE, RoundingMode.HALF_UP),
+                acc.firstValue, acc.lastValue)));
+        return rows;
+    }
+
+    static LocalDateTime bucketStart(LocalDateTime timestamp, int bucketMinutes) {
+        LocalDateTime minute = timestamp.truncatedTo(ChronoUnit.MINUTES);
+        return minute.minusMinutes(minute.getMinute() % bucketMinutes);
+    }
+
+    private record BucketKey(Long transactionIdFk, MeasurandEnum measurand, String phase,
+                             int bucketMinutes, LocalDateTime bucketStart) {
+
+        static BucketKey of(Sample sample, int bucketMinutes, LocalDateTime bucketStart) {
+            return new BucketKey(sample.transactionIdFk(), sample.measurand(), sample.phase(),
+                    bucketMinutes, bucketStart);
+        }
+    }
+
+    /**
+     * 구간 요약 누적기 (첫 / 마지막 값은 측정 시간 기준)
+     */
+    private static final class Accumulator {
+
+        private int count;
+        private BigDecimal sum = BigDecimal.ZERO;
+        private BigDecimal min;
+        private BigDecimal max;
+        private LocalDateTime firstTime;
+        private BigDecimal firstValue;
+        private LocalDateTime lastTime;
+        private BigDecimal lastValue;
+
+        void add(Sample sample) {
+            BigDecimal value = sample.value();
+            count++;
+            sum = sum.add(value);
+            min = min == null || value.compareTo(min) < 0 ? value : min;
+            max = max == null || value.compareTo(max) > 0 ? value : max;
+            if (firstTime == null || sample.timestamp().isBefore(firstTime)) {
+                firstTime = sample.timestamp();
+                firstValue = value;
+            }
+            if (lastTime == null || !sample.timestamp().isBefore(lastTime)) {
+                lastTime = sample.timestamp();
+                lastValue = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.charging.service;
+
+import com.charging.config.TransactionRetryProperties;
+import com.charging.exception.ConcurrentUpdateException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락 충돌 재시도
+ *
+ * 시도마다 새 DB 트랜잭션을 열어 작업을 실행하고, 커밋 시점에 버전 충돌
+ * (OptimisticLockingFailureException)이 나면 최신 상태를 다시 읽어 재실행합니다.
+ * 최대 시도 횟수를 넘기면 ConcurrentUpdateException을 던집니다.
+ *
+ * 롤백된 시도에서 등록한 afterCommit 콜백은 실행되지 않으므로,
+ * 레지스트리 반영 등 커밋 후 작업은 최종 성공한 시도에서만 한 번 실행됩니다.
+ *
+ * 메트릭
+ * - charging.transaction.conflict.retries (operation별 재시도 횟수)
+ * - charging.transaction.conflict.exhausted (재시도 후에도 실패한 횟수)
+ * - charging.transaction.mutation (재시도 포함 전체 실행 시간)
+ */
+@Slf4j
+@Component
+public class OptimisticLockRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public OptimisticLockRetry(PlatformTransactionManager transactionManager,
+                               TransactionRetryProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 새 트랜잭션에서 실행하고, 버전 충돌 시 재시도
+     *
+     * @param operation 메트릭/로그에 사용하는 작업 이름
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        long startedAt = System.nanoTime();
+        try {
+            return executeWithRetry(operation, action);
+        } finally {
+            Timer.builder("charging.transaction.mutation")
+                    .description("트랜잭션 상태 변경 실행 시간 (재시도 포함)")
+                    .tag("operation", operation)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private <T> T executeWithRetry(String operation, Supplier<T> action) {
+        int maxAttempts = Math.max(1, properties.getMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    counter("charging.transaction.conflict.exhausted", operation).increment();
+                    log.warn("동시 수정 충돌 재시도 실패: operation={}, attempts={}", operation, attempt);
+                    throw new ConcurrentUpdateException(String.format(
+                            "동시 수정 충돌로 처리하지 못했습니다: %s (시도 %d회)", operation, attempt), e);
+                }
+                counter("charging.transaction.conflict.retries", operation).increment();
+                log.debug("동시 수정 충돌 - 재시도: operation={}, attempt={}", operation, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * 지수 백오프 + jitter (0 ~ 기본 대기 시간)
+     */
+    private void backoff(int attempt) {
+        long baseNanos = properties.getBackoff().toNanos();
+        if (baseNanos <= 0) {
+            return;
+        }
+        long delay = (baseNanos << (attempt - 1)) + ThreadLocalRandom.current().nextLong(baseNanos);
+        try {
+            TimeUnit.NANOSECONDS.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,91 @@
+package com.charging.service;
+
+import com.charging.config.TransactionIdProperties;
+import com.charging.exception.ChargingException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake 방식 트랜잭션 ID 생성기
+ *
+ * 64bit = 타임스탬프(41bit, EPOCH 이후 ms) | 노드 ID(10bit) | 시퀀스(12bit)
+ *
+ * - 락 없이 CAS 한 번으로 (타임스탬프, 시퀀스)를 함께 갱신하므로 스레드 간 충돌이 없습니다.
+ * - 같은 ms에 4096개를 넘기거나 시계가 뒤로 가면 논리 시계를 앞당겨서 단조 증가를 유지합니다.
+ * - "TXN-" + 고정 13자리 Crockford Base32로 인코딩하여 문자열 정렬 순서가 생성 순서와 같습니다.
+ *   (transaction_id 유니크 인덱스에 항상 오른쪽 끝으로 삽입됨)
+ */
+@Component
+public class SnowflakeTransactionIdGenerator implements TransactionIdGenerator {
+
+    /**
+     * 2025-01-01T00:00:00Z
+     */
+    static final long EPOCH = 1735689600000L;
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final String PREFIX = "TXN-";
+    private static final int ENCODED_LENGTH = 13;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long nodeBits;
+
+    /**
+     * (EPOCH 이후 ms << SEQUENCE_BITS) | 시퀀스
+     */
+    private final AtomicLong lastState = new AtomicLong();
+
+    @Autowired
+    public SnowflakeTransactionIdGenerator(TransactionIdProperties properties) {
+        this(properties.getNodeId());
+    }
+
+    SnowflakeTransactionIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new ChargingException(String.format(
+                    "노드 ID는 0 ~ %d 범위여야 합니다. (nodeId: %d)", MAX_NODE_ID, nodeId));
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+    }
+
+    @Override
+    public String generate() {
+        return encode(nextId());
+    }
+
+    /**
+     * 다음 64bit ID
+     */
+    long nextId() {
+        long now = System.currentTimeMillis() - EPOCH;
+        long prev;
+        long next;
+        do {
+            prev = lastState.get();
+            // 새로운 ms면 시퀀스 0부터, 아니면 +1 (시퀀스가 넘치면 ms 자리로 올림)
+            next = now > (prev >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : prev + 1;
+        } while (!lastState.compareAndSet(prev, next));
+
+        long timestamp = next >>> SEQUENCE_BITS;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+    }
+
+    /**
+     * 고정 길이 Crockford Base32 인코딩 (부호 없는 64bit, 13자리)
+     */
+    static String encode(long id) {
+        char[] chars = new char[PREFIX.length() + ENCODED_LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), chars, 0);
+        for (int i = chars.length - 1; i >= PREFIX.length(); i--) {
+            chars[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+}
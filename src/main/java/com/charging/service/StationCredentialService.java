@@ -0,0 +1,75 @@
+package com.charging.service;
+
+import com.charging.domain.entity.Station;
+import com.charging.domain.repository.StationRepository;
+import com.charging.exception.ChargingException;
+import com.charging.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 충전소 인증 정보 서비스 (OCPP 2.0.1 Security Profile 1 - HTTP Basic)
+ *
+ * 사용자 이름은 충전소 ID, 비밀번호는 충전소별 BasicAuthPassword (16 ~ 40자) 입니다.
+ * 비밀번호는 충전소 ID를 salt로 한 SHA-256 해시로만 저장하고, 비교는 상수 시간으로 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StationCredentialService {
+
+    private static final int MIN_PASSWORD_LENGTH = 16;
+    private static final int MAX_PASSWORD_LENGTH = 40;
+
+    private final StationRepository stationRepository;
+
+    /**
+     * 충전소의 Basic 인증 비밀번호 설정 (기존 비밀번호는 바로 무효화)
+     *
+     * @throws ChargingException 비밀번호 길이가 16 ~ 40자를 벗어난 경우
+     */
+    @Transactional
+    public void changeBasicAuthPassword(String stationId, String password) {
+        if (password == null || password.length() < MIN_PASSWORD_LENGTH || password.length() > MAX_PASSWORD_LENGTH) {
+            throw new ChargingException(String.format(
+                    "비밀번호는 %d ~ %d자여야 합니다.", MIN_PASSWORD_LENGTH, MAX_PASSWORD_LENGTH));
+        }
+        Station station = stationRepository.findByStationId(stationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Station", "stationId", stationId));
+
+        station.changeBasicAuthPasswordHash(hash(stationId, password));
+        log.info("충전소 Basic 인증 비밀번호 변경: stationId={}", stationId);
+    }
+
+    /**
+     * Basic 인증 확인
+     *
+     * @return 등록된 충전소이고 비밀번호가 설정되어 있으며 일치하면 true
+     */
+    public boolean authenticate(String stationId, String password) {
+        return stationRepository.findBasicAuthPasswordHash(stationId)
+                .map(expected -> MessageDigest.isEqual(
+                        expected.getBytes(StandardCharsets.US_ASCII),
+                        hash(stationId, password).getBytes(StandardCharsets.US_ASCII)))
+                .orElse(false);
+    }
+
+    private static String hash(String stationId, String password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(stationId.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ':');
+            return HexFormat.of().formatHex(digest.digest(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
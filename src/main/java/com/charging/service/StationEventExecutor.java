@@ -0,0 +1,287 @@
+package com.charging.service;
+
+import com.charging.config.HibernateStatementCounter;
+import com.charging.config.StationEventExecutorProperties;
+import com.charging.exception.StationBusyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 충전소별 이벤트 실행기 (충전소별 직렬 큐)
+ *
+ * 충전소마다 대기 큐를 두고, 이벤트가 있는 충전소의 큐를 공유 실행기에서 한 번에 하나씩 비웁니다.
+ * - 같은 충전소의 이벤트는 제출 순서대로 하나씩 실행 (start → update → stop 순서 보장)
+ * - 서로 다른 충전소는 고정 워커에 묶이지 않으므로, 한 충전소의 DB 대기가 다른 충전소의 이벤트(Heartbeat 등)를 막지 않음
+ * - 한 번에 DRAIN_BATCH개까지 실행한 후 실행기에 다시 제출하여 이벤트가 많은 충전소가 워커를 독점하지 않음
+ *
+ * 가상 스레드 모드에서는 큐를 비우는 작업마다 가상 스레드를 사용하고 DB 동시성은 AdmissionControlledDataSource가 제한합니다.
+ * 플랫폼 스레드 모드에서는 workers 크기의 고정 풀을 사용합니다 (DB를 기다리는 동안 워커를 점유하므로 커넥션 풀보다 크게).
+ *
+ * 전역 락이나 DB 비관적 락 없이 충전소 단위 직렬화를 제공합니다.
+ *
+ * 메트릭
+ * - charging.station.events.queue.depth (전체 대기 이벤트 수)
+ * - charging.station.events.stations (대기 / 실행 중인 이벤트가 있는 충전소 수)
+ * - charging.station.events.lag (제출 → 실행 시작까지 대기 시간)
+ * - charging.station.events.execution (이벤트 실행 시간)
+ */
+@Slf4j
+@Component
+public class StationEventExecutor implements SmartLifecycle {
+
+    /**
+     * 큐를 비우는 작업 한 번에 실행하는 최대 이벤트 수
+     */
+    private static final int DRAIN_BATCH = 16;
+
+    /**
+     * 종료 시간 초과 로그에 남기는 최대 충전소 수
+     */
+    private static final int MAX_LOGGED_STATIONS = 50;
+
+    /**
+     * 현재 스레드가 실행 중인 이벤트의 충전소 (중첩 호출 감지)
+     */
+    private static final ThreadLocal<String> CURRENT_STATION = new ThreadLocal<>();
+
+    private final StationEventExecutorProperties properties;
+    private final Map<String, Queue<StationEvent>> mailboxes = new ConcurrentHashMap<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final Timer lagTimer;
+    private final Timer executionTimer;
+    private final boolean virtualThreads;
+
+    private volatile boolean running;
+    private ExecutorService workers;
+
+    public StationEventExecutor(StationEventExecutorProperties properties,
+                                MeterRegistry meterRegistry,
+                                Environment environment) {
+        this.properties = properties;
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+
+        Gauge.builder("charging.station.events.queue.depth", queueDepth, AtomicInteger::get)
+                .description("충전소 이벤트 대기 수")
+                .register(meterRegistry);
+        Gauge.builder("charging.station.events.stations", mailboxes, Map::size)
+                .description("대기 / 실행 중인 이벤트가 있는 충전소 수")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("charging.station.events.lag")
+                .description("충전소 이벤트 제출부터 실행 시작까지 대기 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("charging.station.events.execution")
+                .description("충전소 이벤트 실행 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 충전소 큐에서 실행하고 결과를 기다림
+     * 이미 같은 충전소의 이벤트를 실행 중인 스레드에서 호출된 경우(중첩 호출)는 그 자리에서 바로 실행합니다.
+     *
+     * @throws StationBusyException 충전소 큐가 가득 찬 경우
+     */
+    public <T> T execute(String stationId, Supplier<T> task) {
+        if (stationId.equals(CURRENT_STATION.get())) {
+            return task.get();
+        }
+
+        // 워커에서 실행된 SQL 수를 호출한 스레드(요청 스레드)의 카운터로 옮김 (요청당 SQL 문 수 메트릭)
+        int[] statements = new int[1];
+        CompletableFuture<T> future = submit(stationId, () -> {
+            try {
+                return task.get();
+            } finally {
+                statements[0] = HibernateStatementCounter.get();
+            }
+        });
+        try {
+            T result = future.get();
+            HibernateStatementCounter.add(statements[0]);
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StationBusyException("충전소 이벤트 대기가 중단되었습니다: stationId=" + stationId);
+        } catch (ExecutionException e) {
+            HibernateStatementCounter.add(statements[0]);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 충전소 큐에 제출 (결과를 기다리지 않음)
+     *
+     * @throws StationBusyException 충전소 큐가 가득 찬 경우
+     */
+    public <T> CompletableFuture<T> submit(String stationId, Supplier<T> task) {
+        if (!running) {
+            throw new StationBusyException("충전소 이벤트 실행기가 동작 중이 아닙니다.");
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        StationEvent event = new StationEvent(System.nanoTime(), () -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+
+        // 큐 생성 / 추가 / 제거는 모두 같은 키의 compute 안에서 처리 (큐가 새로 생길 때만 큐 비우기 작업을 시작)
+        boolean[] created = new boolean[1];
+        mailboxes.compute(stationId, (id, mailbox) -> {
+            if (mailbox == null) {
+                mailbox = new ArrayDeque<>();
+                created[0] = true;
+            } else if (mailbox.size() >= properties.getQueueCapacity()) {
+                throw new StationBusyException(String.format(
+                        "충전소 이벤트 큐가 가득 찼습니다: stationId=%s, capacity=%d",
+                        stationId, properties.getQueueCapacity()));
+            }
+            mailbox.add(event);
+            return mailbox;
+        });
+        queueDepth.incrementAndGet();
+        if (created[0]) {
+            workers.execute(() -> drain(stationId));
+        }
+        return future;
+    }
+
+    /**
+     * 전체 대기 이벤트 수
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    @Override
+    public void start() {
+        // 가상 스레드 모드에서는 큐를 비우는 작업마다 가상 스레드 사용
+        if (virtualThreads) {
+            workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("station-event-", 0).factory());
+        } else {
+            ThreadFactory factory = Thread.ofPlatform().daemon().name("station-event-", 0).factory();
+            workers = Executors.newFixedThreadPool(properties.getWorkers(), factory);
+        }
+        running = true;
+        log.info("충전소 이벤트 실행기 시작: workers={}, queueCapacity={}, virtualThreads={}",
+                virtualThreads ? "virtual" : properties.getWorkers(), properties.getQueueCapacity(), virtualThreads);
+    }
+
+    /**
+     * 새 이벤트는 거절하고, 이미 제출된 이벤트를 모두 실행한 후 종료
+     * shutdownTimeout 안에 끝나지 않으면 남은 충전소를 로그로 남기고 실행 중인 워커를 인터럽트합니다.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        long deadline = System.nanoTime() + properties.getShutdownTimeout().toNanos();
+        try {
+            while (!mailboxes.isEmpty() && System.nanoTime() - deadline < 0) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            // 큐가 남아 있으면 큐 비우기 작업이 다시 제출될 수 있으므로 모두 비었을 때만 정상 종료
+            if (mailboxes.isEmpty()) {
+                workers.shutdown();
+                if (workers.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    log.info("충전소 이벤트 실행기 종료");
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.warn("충전소 이벤트 실행기 종료 시간 초과 - 남은 이벤트를 버리고 강제 종료: timeout={}, events={}, stations={}",
+                properties.getShutdownTimeout(), queueDepth.get(),
+                mailboxes.keySet().stream().limit(MAX_LOGGED_STATIONS).toList());
+        workers.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버보다 나중에 종료되어 종료 중 들어온 이벤트까지 실행하고,
+     * 미터 값 수집 파이프라인보다 먼저 종료되어 이벤트가 적재한 샘플이 기록되도록 합니다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 3072;
+    }
+
+    /**
+     * 충전소 큐를 DRAIN_BATCH개까지 실행
+     * 큐가 비면 큐를 제거하고 끝내며 (다음 제출이 새 큐와 작업을 만듦), 남아 있으면 실행기에 다시 제출합니다.
+     */
+    private void drain(String stationId) {
+        CURRENT_STATION.set(stationId);
+        try {
+            for (int i = 0; i < DRAIN_BATCH; i++) {
+                StationEvent event = poll(stationId);
+                if (event == null) {
+                    return;
+                }
+                run(event);
+            }
+        } finally {
+            CURRENT_STATION.remove();
+        }
+        workers.execute(() -> drain(stationId));
+    }
+
+    /**
+     * 다음 이벤트 (큐가 비었으면 큐를 제거하고 null)
+     */
+    private StationEvent poll(String stationId) {
+        StationEvent[] next = new StationEvent[1];
+        mailboxes.computeIfPresent(stationId, (id, mailbox) -> {
+            next[0] = mailbox.poll();
+            return next[0] == null ? null : mailbox;
+        });
+        if (next[0] != null) {
+            queueDepth.decrementAndGet();
+        }
+        return next[0];
+    }
+
+    private void run(StationEvent event) {
+        long startedAt = System.nanoTime();
+        lagTimer.record(startedAt - event.submittedAt(), TimeUnit.NANOSECONDS);
+        // 이벤트마다 워커의 SQL 문 카운터를 새로 시작
+        HibernateStatementCounter.reset();
+        event.action().run();
+        executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private record StationEvent(long submittedAt, Runnable action) {
+    }
+}
@@ -0,0 +1,238 @@
+package com.charging.service;
+
+import com.charging.dto.request.ConnectorProvisionRequest;
+import com.charging.dto.request.EvseProvisionRequest;
+import com.charging.dto.request.StationProvisionRequest;
+import com.charging.exception.ProvisioningValidationException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 충전소 일괄 등록 CSV 파서
+ *
+ * 한 행이 커넥터 하나이며, 충전소 / EVSE 컬럼은 같은 충전소 / EVSE의 행마다 같은 값을 반복합니다.
+ * 첫 행은 헤더이고 컬럼 순서는 자유입니다 (RFC 4180 - 따옴표로 감싼 값 안의 쉼표 / 따옴표 / 줄바꿈 허용).
+ *
+ * stationId,powerGridCapacity,maxPriceLimit,algorithmMode,timeExtensionFactor,maxIterationCount,billingPowerId,
+ * evseId,evseMaxPower,connectorId,connectorMaxPower,connectorMinPower
+ */
+final class StationProvisionCsvParser {
+
+    private static final List<String> STATION_COLUMNS = List.of(
+            "stationId", "powerGridCapacity", "maxPriceLimit", "algorithmMode", "timeExtensionFactor",
+            "maxIterationCount", "billingPowerId");
+
+    private static final List<String> COLUMNS = List.of(
+            "stationId", "powerGridCapacity", "maxPriceLimit", "algorithmMode", "timeExtensionFactor",
+            "maxIterationCount", "billingPowerId", "evseId", "evseMaxPower", "connectorId",
+            "connectorMaxPower", "connectorMinPower");
+
+    private StationProvisionCsvParser() {
+    }
+
+    /**
+     * @throws ProvisioningValidationException 헤더 / 값 형식 오류가 있는 경우 (모든 행의 오류를 모아서)
+     */
+    static List<StationProvisionRequest> parse(String csv) {
+        List<List<String>> records = readRecords(csv);
+        if (records.isEmpty()) {
+            throw new ProvisioningValidationException(List.of("CSV가 비어 있습니다."));
+        }
+
+        Map<String, Integer> columnIndex = new HashMap<>();
+        List<String> header = records.getFirst();
+        for (int i = 0; i < header.size(); i++) {
+            columnIndex.put(header.get(i).strip(), i);
+        }
+        List<String> missing = COLUMNS.stream().filter(column -> !columnIndex.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new ProvisioningValidationException(List.of("CSV 헤더에 필요한 컬럼이 없습니다: " + missing));
+        }
+
+        List<String> errors = new ArrayList<>();
+        Map<String, StationRows> stations = new LinkedHashMap<>();
+        for (int line = 1; line < records.size(); line++) {
+            Row row = new Row(records.get(line), columnIndex, line + 1, errors);
+            String stationId = row.text("stationId");
+            Integer evseId = row.number("evseId", Integer::valueOf);
+            ConnectorProvisionRequest connector = new ConnectorProvisionRequest(
+                    row.number("connectorId", Integer::valueOf),
+                    row.number("connectorMaxPower", BigDecimal::new),
+                    row.number("connectorMinPower", BigDecimal::new));
+            if (!row.valid()) {
+                continue;
+            }
+
+            List<String> stationValues = STATION_COLUMNS.stream().map(row::text).toList();
+            StationRows station = stations.computeIfAbsent(stationId, key -> new StationRows(row, stationValues));
+            if (!station.values.equals(stationValues)) {
+                errors.add(String.format("%d행: 충전소 %s의 충전소 컬럼 값이 %d행과 다릅니다.",
+                        row.lineNumber, stationId, station.firstLine));
+                continue;
+            }
+
+            String evseMaxPower = row.text("evseMaxPower");
+            EvseRows evse = station.evses.computeIfAbsent(evseId, key -> new EvseRows(row, evseMaxPower));
+            if (!evse.maxPower.equals(evseMaxPower)) {
+                errors.add(String.format("%d행: 충전소 %s EVSE %d의 evseMaxPower 값이 %d행과 다릅니다.",
+                        row.lineNumber, stationId, evseId, evse.firstLine));
+                continue;
+            }
+            evse.connectors.add(connector);
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ProvisioningValidationException(errors);
+        }
+        return stations.values().stream().map(StationRows::toRequest).toList();
+    }
+
+    /**
+     * CSV 레코드 분리 (빈 줄은 건너뜀)
+     */
+    private static List<List<String>> readRecords(String csv) {
+        List<List<String>> records = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < csv.length(); i++) {
+            char c = csv.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < csv.length() && csv.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < csv.length() && csv.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                endRecord(records, fields, field);
+                fields = new ArrayList<>();
+            } else {
+                field.append(c);
+            }
+        }
+        endRecord(records, fields, field);
+        return records;
+    }
+
+    private static void endRecord(List<List<String>> records, List<String> fields, StringBuilder field) {
+        fields.add(field.toString());
+        field.setLength(0);
+        if (fields.size() > 1 || !fields.getFirst().isBlank()) {
+            records.add(fields);
+        }
+    }
+
+    /**
+     * CSV 한 행 (값 오류는 errors에 모음)
+     */
+    private static final class Row {
+
+        private final List<String> values;
+        private final Map<String, Integer> columnIndex;
+        private final int lineNumber;
+        private final List<String> errors;
+        private boolean valid = true;
+
+        Row(List<String> values, Map<String, Integer> columnIndex, int lineNumber, List<String> errors) {
+            this.values = values;
+            this.columnIndex = columnIndex;
+            this.lineNumber = lineNumber;
+            this.errors = errors;
+        }
+
+        String text(String column) {
+            int index = columnIndex.get(column);
+            return index < values.size() ? values.get(index).strip() : "";
+        }
+
+        <T> T number(String column, Function<String, T> parser) {
+            String text = text(column);
+            if (text.isEmpty()) {
+                return fail(column, "값이 없습니다.");
+            }
+            try {
+                return parser.apply(text);
+            } catch (NumberFormatException e) {
+                return fail(column, "숫자가 아닙니다: " + text);
+            }
+        }
+
+        boolean valid() {
+            if (text("stationId").isEmpty()) {
+                fail("stationId", "값이 없습니다.");
+            }
+            return valid;
+        }
+
+        private <T> T fail(String column, String message) {
+            errors.add(String.format("%d행 %s: %s", lineNumber, column, message));
+            valid = false;
+            return null;
+        }
+    }
+
+    private static final class StationRows {
+
+        private final int firstLine;
+        private final List<String> values;
+        private final Row firstRow;
+        private final Map<Integer, EvseRows> evses = new LinkedHashMap<>();
+
+        StationRows(Row firstRow, List<String> values) {
+            this.firstLine = firstRow.lineNumber;
+            this.values = values;
+            this.firstRow = firstRow;
+        }
+
+        StationProvisionRequest toRequest() {
+            return new StationProvisionRequest(
+                    firstRow.text("stationId"),
+                    firstRow.number("powerGridCapacity", BigDecimal::new),
+                    firstRow.number("maxPriceLimit", BigDecimal::new),
+                    firstRow.number("algorithmMode", Integer::valueOf),
+                    firstRow.number("timeExtensionFactor", BigDecimal::new),
+                    firstRow.number("maxIterationCount", Integer::valueOf),
+                    firstRow.number("billingPowerId", Long::valueOf),
+                    evses.values().stream().map(EvseRows::toRequest).toList());
+        }
+    }
+
+    private static final class EvseRows {
+
+        private final Row firstRow;
+        private final int firstLine;
+        private final String maxPower;
+        private final List<ConnectorProvisionRequest> connectors = new ArrayList<>();
+
+        EvseRows(Row firstRow, String maxPower) {
+            this.firstRow = firstRow;
+            this.firstLine = firstRow.lineNumber;
+            this.maxPower = maxPower;
+        }
+
+        EvseProvisionRequest toRequest() {
+            return new EvseProvisionRequest(
+                    firstRow.number("evseId", Integer::valueOf),
+                    firstRow.number("evseMaxPower", BigDecimal::new),
+                    connectors);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.charging.service;
+
+import com.charging.config.ProvisioningProperties;
+import com.charging.domain.listener.TopologyCacheInvalidator;
+import com.charging.domain.model.ConnectorTopology;
+import com.charging.domain.repository.StationRepository;
+import com.charging.domain.repository.TopologyBatchRepository;
+import com.charging.dto.request.ConnectorProvisionRequest;
+import com.charging.dto.request.EvseProvisionRequest;
+import com.charging.dto.request.StationProvisionRequest;
+import com.charging.dto.response.ProvisioningProgress;
+import com.charging.exception.ProvisioningValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 충전소 / EVSE / 커넥터 일괄 등록 서비스
+ *
+ * 1. 검증 (요청 스레드): 충전소별 검증을 병렬로 실행하고, 요청 내 / DB와의 충전소 ID 중복을 확인합니다.
+ *    오류가 하나라도 있으면 아무것도 기록하지 않고 400으로 응답합니다.
+ * 2. 기록 (응답 스트림 스레드): chunkSize 개의 충전소마다 DB 트랜잭션 하나로 테이블별 JDBC 배치 INSERT를 하고,
+ *    청크가 커밋될 때마다 진행 상황을 NDJSON 한 줄로 응답합니다.
+ *    청크 기록에 실패하면 그 청크만 롤백되고 이후 청크는 기록하지 않습니다 (앞서 커밋된 청크는 유지).
+ *
+ * JDBC 기록은 엔티티 리스너를 거치지 않으므로, 커밋된 청크는 여기서 직접
+ * 토폴로지 캐시(미존재 결과도 캐시됨)를 제거하고 커넥터 상태 인덱스에 등록합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StationProvisioningService {
+
+    /**
+     * Oracle IN 절 최대 항목 수
+     */
+    private static final int IN_CLAUSE_LIMIT = 1000;
+
+    private final TopologyBatchRepository topologyBatchRepository;
+    private final StationRepository stationRepository;
+    private final ConnectorAvailabilityIndex connectorAvailabilityIndex;
+    private final CacheManager cacheManager;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ProvisioningProperties properties;
+
+    /**
+     * CSV를 충전소 목록으로 변환 (한 행 = 커넥터 하나)
+     *
+     * @throws ProvisioningValidationException 헤더 / 값 형식 오류가 있는 경우
+     */
+    public List<StationProvisionRequest> parseCsv(String csv) {
+        return StationProvisionCsvParser.parse(csv);
+    }
+
+    /**
+     * 일괄 등록 요청 검증
+     *
+     * @throws ProvisioningValidationException 오류가 하나라도 있는 경우 (최대 maxReportedErrors 건을 담음)
+     */
+    public void validate(List<StationProvisionRequest> stations) {
+        if (stations.isEmpty()) {
+            throw new ProvisioningValidationException(List.of("등록할 충전소가 없습니다."));
+        }
+        if (stations.size() > properties.getMaxStations()) {
+            throw new ProvisioningValidationException(List.of(String.format(
+                    "요청 하나에 등록할 수 있는 충전소는 최대 %d개입니다. (요청: %d개)",
+                    properties.getMaxStations(), stations.size())));
+        }
+
+        // 충전소별 검증은 서로 독립적이므로 병렬 실행 (결과는 요청 순서대로 모음)
+        List<String> errors = new ArrayList<>(stations.parallelStream()
+                .flatMap(station -> validateStation(station).stream())
+                .toList());
+
+        Set<String> stationIds = new HashSet<>();
+        for (StationProvisionRequest station : stations) {
+            if (station != null && station.stationId() != null && !stationIds.add(station.stationId())) {
+                errors.add(station.stationId() + ": 요청 안에서 충전소 ID가 중복됩니다.");
+            }
+        }
+
+        List<String> requestedIds = List.copyOf(stationIds);
+        for (int from = 0; from < requestedIds.size(); from += IN_CLAUSE_LIMIT) {
+            List<String> chunk = requestedIds.subList(from, Math.min(from + IN_CLAUSE_LIMIT, requestedIds.size()));
+            stationRepository.findExistingStationIds(chunk)
+                    .forEach(stationId -> errors.add(stationId + ": 이미 등록된 충전소입니다."));
+        }
+
+        if (!errors.isEmpty()) {
+            int reported = Math.min(errors.size(), properties.getMaxReportedErrors());
+            throw new ProvisioningValidationException(errors.subList(0, reported), errors.size());
+        }
+    }
+
+    /**
+     * 검증된 충전소 목록을 청크 단위로 기록하고 진행 상황을 NDJSON으로 응답 스트림에 기록
+     * 클라이언트 연결이 끊겨도 기록은 끝까지 진행합니다.
+     */
+    public void provision(List<StationProvisionRequest> stations, OutputStream out) {
+        long startedAt = System.nanoTime();
+        ProgressWriter progress = new ProgressWriter(out, startedAt, stations.size(),
+                stations.stream().mapToInt(StationProvisionRequest::connectorCount).sum());
+
+        int chunkSize = properties.getChunkSize();
+        for (int from = 0; from < stations.size(); from += chunkSize) {
+            List<StationProvisionRequest> chunk = stations.subList(from, Math.min(from + chunkSize, stations.size()));
+            List<ConnectorTopology> connectors;
+            try {
+                connectors = topologyBatchRepository.batchInsert(chunk);
+            } catch (RuntimeException e) {
+                log.error("충전소 일괄 등록 중단: stations={}/{}, chunkStart={}",
+                        progress.stations, progress.totalStations, chunk.getFirst().stationId(), e);
+                progress.write("FAILED", String.format("%s 부터의 청크 기록 실패: %s",
+                        chunk.getFirst().stationId(), NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+                return;
+            }
+
+            onChunkCommitted(chunk, connectors);
+            progress.stations += chunk.size();
+            progress.connectors += connectors.size();
+            progress.write("PERSISTING", null);
+        }
+
+        progress.write("COMPLETED", null);
+        log.info("충전소 일괄 등록 완료: stations={}, connectors={}, elapsed={}ms",
+                progress.stations, progress.connectors, progress.elapsedMillis());
+    }
+
+    private List<String> validateStation(StationProvisionRequest station) {
+        if (station == null) {
+            return List.of("빈 충전소 항목이 있습니다.");
+        }
+        String label = station.stationId() != null ? station.stationId() : "(stationId 없음)";
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<StationProvisionRequest> violation : validator.validate(station)) {
+            errors.add(String.format("%s: %s %s", label, violation.getPropertyPath(), violation.getMessage()));
+        }
+        if (station.evses() == null) {
+            return errors;
+        }
+
+        Set<Integer> evseIds = new HashSet<>();
+        for (EvseProvisionRequest evse : station.evses()) {
+            if (evse == null) {
+                errors.add(label + ": 빈 EVSE 항목이 있습니다.");
+                continue;
+            }
+            if (evse.evseId() == null) {
+                continue;
+            }
+            if (!evseIds.add(evse.evseId())) {
+                errors.add(String.format("%s: EVSE ID %d가 중복됩니다.", label, evse.evseId()));
+            }
+            if (evse.connectors() == null) {
+                continue;
+            }
+
+            Set<Integer> connectorIds = new HashSet<>();
+            for (ConnectorProvisionRequest connector : evse.connectors()) {
+                if (connector == null) {
+                    errors.add(String.format("%s: EVSE %d에 빈 커넥터 항목이 있습니다.", label, evse.evseId()));
+                    continue;
+                }
+                if (connector.connectorId() == null) {
+                    continue;
+                }
+                if (!connectorIds.add(connector.connectorId())) {
+                    errors.add(String.format("%s: EVSE %d의 커넥터 ID %d가 중복됩니다.",
+                            label, evse.evseId(), connector.connectorId()));
+                }
+                if (connector.minPower() != null && connector.maxPower() != null
+                        && connector.minPower().compareTo(connector.maxPower()) > 0) {
+                    errors.add(String.format("%s: EVSE %d 커넥터 %d의 minPower가 maxPower보다 큽니다.",
+                            label, evse.evseId(), connector.connectorId()));
+                }
+                if (connector.maxPower() != null && evse.maxPower() != null
+                        && connector.maxPower().compareTo(evse.maxPower()) > 0) {
+                    errors.add(String.format("%s: EVSE %d 커넥터 %d의 maxPower가 EVSE maxPower보다 큽니다.",
+                            label, evse.evseId(), connector.connectorId()));
+                }
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * 커밋된 청크를 캐시 / 커넥터 상태 인덱스에 반영
+     */
+    private void onChunkCommitted(List<StationProvisionRequest> chunk, List<ConnectorTopology> connectors) {
+        Cache evseCache = cacheManager.getCache(TopologyCacheInvalidator.EVSE_CACHE);
+        Cache connectorCache = cacheManager.getCache(TopologyCacheInvalidator.CONNECTOR_CACHE);
+        for (StationProvisionRequest station : chunk) {
+            for (EvseProvisionRequest evse : station.evses()) {
+                if (evseCache != null) {
+                    evseCache.evict(TopologyCacheInvalidator.evseKey(station.stationId(), evse.evseId()));
+                }
+                if (connectorCache != null) {
+                    for (ConnectorProvisionRequest connector : evse.connectors()) {
+                        connectorCache.evict(TopologyCacheInvalidator.connectorKey(
+                                station.stationId(), evse.evseId(), connector.connectorId()));
+                    }
+                }
+            }
+        }
+        connectorAvailabilityIndex.registerStations(connectors);
+    }
+
+    /**
+     * 진행 상황 NDJSON 기록 (한 줄마다 flush)
+     * 응답 기록에 실패하면 (클라이언트 연결 끊김) 이후 진행 상황은 버립니다.
+     */
+    private final class ProgressWriter {
+
+        private final OutputStream out;
+        private final long startedAt;
+        private final int totalStations;
+        private final int totalConnectors;
+        private int stations;
+        private int connectors;
+        private boolean disconnected;
+
+        ProgressWriter(OutputStream out, long startedAt, int totalStations, int totalConnectors) {
+            this.out = out;
+            this.startedAt = startedAt;
+            this.totalStations = totalStations;
+            this.totalConnectors = totalConnectors;
+        }
+
+        void write(String phase, String message) {
+            if (disconnected) {
+                return;
+            }
+            ProvisioningProgress progress = new ProvisioningProgress(phase, stations, totalStations,
+                    connectors, totalConnectors, elapsedMillis(), message);
+            try {
+                out.write(objectMapper.writeValueAsBytes(progress));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                disconnected = true;
+                log.warn("일괄 등록 진행 상황 응답 실패 (기록은 계속 진행): {}", e.getMessage());
+            }
+        }
+
+        long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        }
+    }
+}
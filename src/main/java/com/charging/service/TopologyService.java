@@ -0,0 +1,58 @@
+package com.charging.service;
+
+import com.charging.domain.listener.TopologyCacheInvalidator;
+import com.charging.domain.model.ConnectorTopology;
+import com.charging.domain.model.EvseTopology;
+import com.charging.domain.repository.ConnectorRepository;
+import com.charging.domain.repository.EvseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * 충전소 토폴로지 (Station > EVSE > Connector) 조회 서비스
+ *
+ * Read-through 캐시로 EVSE/커넥터 스냅샷을 보관합니다.
+ * 캐시 크기/만료는 spring.cache.caffeine.spec 으로 설정하고,
+ * 엔티티가 변경되면 TopologyCacheInvalidator가 커밋 이후에 해당 항목을 제거합니다.
+ * 존재하지 않는 항목도 캐시되며(null), 엔티티가 추가되면 함께 제거됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TopologyService {
+
+    private final EvseRepository evseRepository;
+    private final ConnectorRepository connectorRepository;
+    private final CacheManager cacheManager;
+
+    /**
+     * EVSE 조회 (캐시)
+     */
+    public Optional<EvseTopology> findEvse(String stationId, Integer evseId) {
+        return Optional.ofNullable(cache(TopologyCacheInvalidator.EVSE_CACHE).get(
+                TopologyCacheInvalidator.evseKey(stationId, evseId),
+                () -> evseRepository.findByEvseIdAndStationId(evseId, stationId, EvseTopology.class)
+                        .orElse(null)));
+    }
+
+    /**
+     * 커넥터 조회 (캐시)
+     */
+    public Optional<ConnectorTopology> findConnector(String stationId, Integer evseId, Integer connectorId) {
+        return Optional.ofNullable(cache(TopologyCacheInvalidator.CONNECTOR_CACHE).get(
+                TopologyCacheInvalidator.connectorKey(stationId, evseId, connectorId),
+                () -> connectorRepository.findByEvseIdAndStationIdAndConnectorId(
+                        evseId, stationId, connectorId, ConnectorTopology.class).orElse(null)));
+    }
+
+    private Cache cache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalStateException("캐시가 설정되지 않았습니다: " + cacheName);
+        }
+        return cache;
+    }
+}
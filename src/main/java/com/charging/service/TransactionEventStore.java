@@ -0,0 +1,99 @@
+package com.charging.service;
+
+import com.charging.config.TransactionEventProperties;
+import com.charging.domain.model.ActiveSession;
+import com.charging.domain.model.TransactionEvent;
+import com.charging.domain.repository.TransactionEventLogRepository;
+import com.charging.domain.repository.TransactionRepository;
+import com.charging.domain.repository.TransactionSnapshotRepository;
+import com.charging.domain.repository.TransactionSnapshotRepository.Snapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 트랜잭션 이벤트 저장소
+ *
+ * - 시작 / 종료 이벤트는 TRANSACTION 행과 같은 DB 트랜잭션에서 INSERT 한 건으로 추가합니다 (롤백되면 함께 취소).
+ * - 충전 상태 변경 이벤트는 ChargingStateWriter가 모아서 배치 INSERT 합니다.
+ * - 진행 중인 세션은 주기적으로 스냅샷으로 저장하고, 재기동 시 가장 최근 스냅샷 + 그 이후 이벤트 재생으로 복원합니다.
+ *   (진행 중인 트랜잭션 전체를 TRANSACTION에서 다시 읽지 않음 - 스냅샷이 없을 때만 TRANSACTION 조회)
+ *
+ * 이벤트는 발생 시간 순으로 재생하며, 같은 이벤트를 여러 번 재생해도 결과가 같습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionEventStore {
+
+    private final TransactionEventLogRepository transactionEventLogRepository;
+    private final TransactionSnapshotRepository transactionSnapshotRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionEventProperties properties;
+
+    /**
+     * 이벤트 추가 (호출한 쪽의 DB 트랜잭션에 참여)
+     */
+    public void append(TransactionEvent event) {
+        transactionEventLogRepository.append(event);
+    }
+
+    /**
+     * 트랜잭션의 이벤트 이력 (발생 순)
+     */
+    public List<TransactionEvent> findByTransactionId(String transactionId) {
+        return transactionEventLogRepository.findByTransactionId(transactionId);
+    }
+
+    /**
+     * 진행 중인 세션 스냅샷 저장
+     *
+     * @param takenAt  세션 목록을 읽기 전에 잰 시간
+     * @param sessions 진행 중인 세션 목록
+     */
+    public void saveSnapshot(LocalDateTime takenAt, Collection<ActiveSession> sessions) {
+        transactionSnapshotRepository.replace(takenAt, sessions);
+        log.debug("진행 중인 세션 스냅샷 저장: takenAt={}, sessions={}", takenAt, sessions.size());
+    }
+
+    /**
+     * 진행 중인 세션 복원 (스냅샷 + 이후 이벤트 재생)
+     * 스냅샷이 없으면 (최초 기동) TRANSACTION에서 진행 중인 트랜잭션을 조회합니다.
+     */
+    public List<ActiveSession> recoverActiveSessions() {
+        Snapshot snapshot = transactionSnapshotRepository.findLatest().orElse(null);
+        if (snapshot == null) {
+            log.info("세션 스냅샷 없음 - TRANSACTION에서 진행 중인 세션 조회");
+            return transactionRepository.findAllActiveTransactions();
+        }
+
+        Map<String, ActiveSession> sessions = new LinkedHashMap<>();
+        snapshot.sessions().forEach(session -> sessions.put(session.transactionId(), session));
+
+        List<TransactionEvent> tail = transactionEventLogRepository.findSince(
+                snapshot.takenAt().minus(properties.getReplayMargin()));
+        for (TransactionEvent event : tail) {
+            apply(sessions, event);
+        }
+
+        log.info("진행 중인 세션 복원: snapshotAt={}, snapshotSessions={}, replayedEvents={}, sessions={}",
+                snapshot.takenAt(), snapshot.sessions().size(), tail.size(), sessions.size());
+        return new ArrayList<>(sessions.values());
+    }
+
+    private static void apply(Map<String, ActiveSession> sessions, TransactionEvent event) {
+        switch (event.eventType()) {
+            case STARTED -> sessions.put(event.transactionId(), event.toSession());
+            case UPDATED -> sessions.computeIfPresent(event.transactionId(),
+                    (transactionId, session) -> session.withChargingState(event.chargingState()));
+            case ENDED -> sessions.remove(event.transactionId());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.charging.service;
+
+/**
+ * 트랜잭션 ID (OCPP transactionId) 생성기
+ */
+public interface TransactionIdGenerator {
+
+    /**
+     * 새 트랜잭션 ID 생성
+     * 호출 시점 순서대로 정렬 가능한 고유 값을 반환해야 합니다.
+     */
+    String generate();
+}
@@ -0,0 +1,88 @@
+package com.charging.service;
+
+import com.charging.domain.entity.Transaction;
+import com.charging.exception.ConcurrentUpdateException;
+import com.charging.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 트랜잭션 처리 메트릭
+ *
+ * - charging.transaction.operations (operation / station / outcome별 실행 시간과 횟수)
+ *   outcome: success, not_found, conflict(재시도 후에도 버전 충돌), error
+ * - charging.sessions.active (충전소별 진행 중인 세션 수 - 주기적으로 레지스트리에서 갱신)
+ * - charging.sessions.active.total (전체 진행 중인 세션 수)
+ *
+ * 충전소 태그가 붙으므로 Timer는 percentile 없이 count / sum / max만 기록합니다.
+ * 지연 원인은 함께 기록되는 재시도(charging.transaction.conflict.*), 충전소 실행기 대기(charging.station.events.lag),
+ * DB 풀(charging.db.pool.*, hikaricp.*), 요청당 SQL 수(charging.http.db.statements)로 나누어 봅니다.
+ */
+@Component
+public class TransactionMetrics {
+
+    private static final String UNKNOWN_STATION = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final ActiveSessionRegistry activeSessionRegistry;
+    private final MultiGauge activeSessions;
+
+    public TransactionMetrics(MeterRegistry meterRegistry, ActiveSessionRegistry activeSessionRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.activeSessionRegistry = activeSessionRegistry;
+        this.activeSessions = MultiGauge.builder("charging.sessions.active")
+                .description("충전소별 진행 중인 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("charging.sessions.active.total", activeSessionRegistry, ActiveSessionRegistry::size)
+                .description("전체 진행 중인 세션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 실행 시간 / 결과 기록
+     *
+     * @param stationId 충전소 ID (모르면 null - 결과가 트랜잭션이면 그 충전소 ID 사용)
+     */
+    public <T> T record(String operation, String stationId, Supplier<T> action) {
+        long startedAt = System.nanoTime();
+        String outcome = "error";
+        T result = null;
+        try {
+            result = action.get();
+            outcome = "success";
+            return result;
+        } catch (ResourceNotFoundException e) {
+            outcome = "not_found";
+            throw e;
+        } catch (ConcurrentUpdateException e) {
+            outcome = "conflict";
+            throw e;
+        } finally {
+            String station = stationId != null ? stationId
+                    : result instanceof Transaction transaction ? transaction.getStationId() : UNKNOWN_STATION;
+            Timer.builder("charging.transaction.operations")
+                    .description("트랜잭션 시작 / 종료 / 상태 변경 실행 시간")
+                    .tags("operation", operation, "station", station, "outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 충전소별 진행 중인 세션 수 갱신 (세션이 없어진 충전소는 제거)
+     */
+    @Scheduled(fixedDelayString = "${charging.metrics.active-session-refresh:15s}")
+    public void refreshActiveSessions() {
+        activeSessions.register(activeSessionRegistry.countByStation().entrySet().stream()
+                .<MultiGauge.Row<?>>map(entry -> MultiGauge.Row.of(Tags.of("station", entry.getKey()), entry.getValue()))
+                .toList(), true);
+    }
+}
@@ -1,23 +1,43 @@
 package com.charging.service;
 
-import com.charging.domain.entity.Evse;
 import com.charging.domain.entity.Transaction;
 import com.charging.domain.enums.ChargingStateEnum;
 import com.charging.domain.enums.TransactionEventEnum;
-import com.charging.domain.repository.EvseRepository;
+import com.charging.domain.model.ActiveSession;
+import com.charging.domain.model.ChargingStateChange;
+import com.charging.domain.model.KeysetCursor;
+import com.charging.domain.model.TransactionEvent;
+import com.charging.domain.model.TransactionPageRow;
+import com.charging.domain.repository.MeterValueRepository;
 import com.charging.domain.repository.TransactionRepository;
+import com.charging.dto.response.KeysetPage;
+import com.charging.dto.response.TransactionResponse;
+import com.charging.exception.ChargingException;
+import com.charging.exception.InvalidStatusTransitionException;
 import com.charging.exception.ResourceNotFoundException;
+import com.charging.service.smartcharging.SmartChargingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 트랜잭션 관리 서비스
  * OCPP 2.0.1 트랜잭션 비즈니스 로직
+ *
+ * 상태 변경 메서드는 OptimisticLockRetry 안에서 시도마다 새 DB 트랜잭션으로 실행되며,
+ * 버전 충돌(동시 수정) 시 최신 상태를 다시 읽어 제한된 횟수만큼 재시도합니다.
+ * 진행 중인 세션의 충전 상태 변경은 예외로, 메모리에 바로 반영하고 DB 기록은 ChargingStateWriter가 모아서 처리합니다.
  */
 @Slf4j
 @Service
@@ -26,22 +46,46 @@ import java.util.List;
 public class TransactionService {
 
     private final TransactionRepository transactionRepository;
-    private final EvseRepository evseRepository;
+    private final TopologyService topologyService;
+    private final TransactionIdGenerator transactionIdGenerator;
+    private final ActiveSessionRegistry activeSessionRegistry;
+    private final SmartChargingService smartChargingService;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final LiveMeterBuffer liveMeterBuffer;
+    private final EnergyAccountant energyAccountant;
+    private final MeterValueRepository meterValueRepository;
+    private final TransactionMetrics transactionMetrics;
+    private final ChargingStateWriter chargingStateWriter;
+    private final TransactionEventStore transactionEventStore;
 
     /**
-     * 트랜잭션 시작
+     * 트랜잭션 시작 (CSMS가 트랜잭션 ID 발급)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Transaction startTransaction(Integer evseId, String stationId, Integer connectorId, String idToken) {
-        log.info("트랜잭션 시작 요청: evseId={}, stationId={}, connectorId={}, idToken={}",
-                evseId, stationId, connectorId, idToken);
+        return startTransaction(transactionIdGenerator.generate(), evseId, stationId, connectorId, idToken);
+    }
+
+    /**
+     * 트랜잭션 시작 (충전소가 발급한 트랜잭션 ID 사용 - OCPP TransactionEvent Started)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Transaction startTransaction(String transactionId, Integer evseId, String stationId,
+                                       Integer connectorId, String idToken) {
+        return transactionMetrics.record("startTransaction", stationId,
+                () -> optimisticLockRetry.execute("startTransaction",
+                        () -> doStartTransaction(transactionId, evseId, stationId, connectorId, idToken)));
+    }
+
+    private Transaction doStartTransaction(String transactionId, Integer evseId, String stationId,
+                                           Integer connectorId, String idToken) {
+        log.info("트랜잭션 시작 요청: transactionId={}, evseId={}, stationId={}, connectorId={}, idToken={}",
+                transactionId, evseId, stationId, connectorId, idToken);
 
-        Evse evse = evseRepository.findByEvseIdAndStationId(evseId, stationId)
+        topologyService.findEvse(stationId, evseId)
                 .orElseThrow(() -> new ResourceNotFoundException("EVSE", "evseId-stationId",
                         evseId + "-" + stationId));
 
-        String transactionId = generateTransactionId();
-
         Transaction transaction = Transaction.builder()
                 .transactionId(transactionId)
                 .evseId(evseId)
@@ -53,9 +97,14 @@ public class TransactionService {
                 .startTime(LocalDateTime.now())
                 .build();
 
-        evse.addTransaction(transaction);
-
         Transaction savedTransaction = transactionRepository.save(transaction);
+        ActiveSession session = ActiveSession.from(savedTransaction);
+        transactionEventStore.append(TransactionEvent.started(session));
+        afterCommit(() -> {
+            activeSessionRegistry.register(session);
+            energyAccountant.open(transactionId);
+            smartChargingService.onSessionStarted(session);
+        });
         log.info("트랜잭션 시작 완료: transactionId={}", transactionId);
 
         return savedTransaction;
@@ -64,49 +113,271 @@ public class TransactionService {
     /**
      * 트랜잭션 종료
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Transaction stopTransaction(String transactionId, String stopReason) {
+        return transactionMetrics.record("stopTransaction", activeStationId(transactionId),
+                () -> optimisticLockRetry.execute("stopTransaction",
+                        () -> doStopTransaction(transactionId, stopReason)));
+    }
+
+    private Transaction doStopTransaction(String transactionId, String stopReason) {
         log.info("트랜잭션 종료 요청: transactionId={}, stopReason={}", transactionId, stopReason);
 
         Transaction transaction = transactionRepository.findByTransactionId(transactionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction", "transactionId", transactionId));
 
+        // 재전송된 종료 요청은 저장된 종료 정보를 그대로 반환 (종료 시간 / 에너지 / 이벤트 로그를 다시 쓰지 않음)
+        if (transaction.getEventType() == TransactionEventEnum.ENDED) {
+            log.info("이미 종료된 트랜잭션: transactionId={}", transactionId);
+            return transaction;
+        }
+
+        // 아직 기록되지 않은 마지막 충전 상태를 종료 행에 함께 기록
+        chargingStateWriter.findPending(transactionId).ifPresent(transaction::updateChargingState);
         transaction.stop(LocalDateTime.now(), stopReason);
-        transaction.calculateTotalEnergy();
+        applyEnergy(transaction);
 
         Transaction savedTransaction = transactionRepository.save(transaction);
+        transactionEventStore.append(TransactionEvent.ended(transactionId, transaction.getChargingState(),
+                stopReason, transaction.getStopTime()));
+        afterCommit(() -> {
+            chargingStateWriter.discard(transactionId);
+            activeSessionRegistry.remove(transactionId);
+            liveMeterBuffer.remove(transactionId);
+            energyAccountant.remove(transactionId);
+            smartChargingService.onSessionStopped(savedTransaction.getStationId(), transactionId);
+        });
         log.info("트랜잭션 종료 완료: transactionId={}, totalEnergy={} kWh",
                 transactionId, transaction.getTotalEnergy());
 
         return savedTransaction;
     }
 
+    /**
+     * 누적 에너지 확정 (수집 시 갱신해 둔 EnergyAccountant 결과 사용 - METER_VALUE 재조회 없음)
+     * 재기동 전에 시작된 세션만 DB의 레지스터 샘플로 시작 구간을 보완합니다.
+     */
+    private void applyEnergy(Transaction transaction) {
+        String transactionId = transaction.getTransactionId();
+        if (!energyAccountant.isComplete(transactionId)) {
+            // 시작 / 종료 미터 값은 가장 이른 / 가장 늦은 레지스터 값만 쓰므로 양 끝 한 건씩만 조회
+            Stream.of(meterValueRepository.findFirstEnergyValueByTransactionId(transaction.getId()),
+                            meterValueRepository.findLastEnergyValueByTransactionId(transaction.getId()))
+                    .flatMap(Optional::stream)
+                    .forEach(meterValue -> energyAccountant.recordRegister(transactionId,
+                            meterValue.getTimestamp(), meterValue.getValue(), meterValue.getUnit()));
+            log.debug("누적 에너지 DB 보완: transactionId={}", transactionId);
+        }
+
+        energyAccountant.find(transactionId).ifPresent(reading -> {
+            if (reading.fromRegister()) {
+                transaction.recordMeterValues(reading.startMeterValue(), reading.stopMeterValue());
+            } else {
+                transaction.recordTotalEnergy(reading.energyKwh());
+            }
+        });
+    }
+
     /**
      * 충전 상태 업데이트
+     * 진행 중인 세션은 활성 세션 레지스트리에 바로 반영하고 DB 기록은 ChargingStateWriter에 맡깁니다 (DB 조회 / UPDATE 없음).
+     * 활성 세션이 아닌 트랜잭션은 DB에서 읽어 바로 수정하며, 이미 종료된 트랜잭션은 다시 열지 않습니다.
+     *
+     * @throws InvalidStatusTransitionException 종료된 트랜잭션인 경우 (이력도 남기지 않음)
      */
-    @Transactional
-    public Transaction updateChargingState(String transactionId, ChargingStateEnum newState) {
-        log.info("충전 상태 업데이트: transactionId={}, newState={}", transactionId, newState);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TransactionResponse updateChargingState(String transactionId, ChargingStateEnum newState) {
+        return transactionMetrics.record("updateChargingState", activeStationId(transactionId), () -> {
+            ChargingStateChange change = new ChargingStateChange(transactionId, newState, LocalDateTime.now());
+            Optional<ActiveSession> session = activeSessionRegistry.updateChargingState(transactionId, newState);
+            if (session.isPresent()) {
+                log.info("충전 상태 업데이트: transactionId={}, newState={}", transactionId, newState);
+                chargingStateWriter.enqueue(change);
+                return TransactionResponse.from(session.get(), TransactionEventEnum.UPDATED);
+            }
+
+            Transaction transaction = optimisticLockRetry.execute("updateChargingState",
+                    () -> doUpdateChargingState(transactionId, newState));
+            chargingStateWriter.appendHistory(change);
+            return TransactionResponse.from(transaction);
+        });
+    }
+
+    private Transaction doUpdateChargingState(String transactionId, ChargingStateEnum newState) {
+        log.info("충전 상태 업데이트 (DB): transactionId={}, newState={}", transactionId, newState);
 
         Transaction transaction = transactionRepository.findByTransactionId(transactionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction", "transactionId", transactionId));
 
+        // ChargingStateWriter의 UPDATE와 같은 조건 (event_type <> 'ENDED')
+        if (transaction.getEventType() == TransactionEventEnum.ENDED) {
+            throw new InvalidStatusTransitionException(String.format(
+                    "종료된 트랜잭션의 충전 상태는 변경할 수 없습니다. (transactionId: %s)", transactionId));
+        }
         transaction.updateChargingState(newState);
 
         return transactionRepository.save(transaction);
     }
 
     /**
-     * 활성 트랜잭션 조회
+     * 트랜잭션 조회 (필요한 컬럼만 프로젝션으로 조회)
+     * 아직 DB에 기록되지 않은 충전 상태가 있으면 반영해서 반환합니다.
+     */
+    public TransactionResponse getTransaction(String transactionId) {
+        TransactionResponse response = transactionRepository.findByTransactionId(transactionId, TransactionResponse.class)
+                .orElseThrow(() -> new ResourceNotFoundException("Transaction", "transactionId", transactionId));
+        return withPendingState(response);
+    }
+
+    /**
+     * 트랜잭션 목록 키셋 페이지 조회 (최신순)
+     * 조건은 stationId / idToken / eventType / chargingState 중 정확히 하나를 지정합니다.
+     * stationId에는 evseId 또는 기간 [from, to) 중 하나를 더 지정할 수 있습니다.
+     * 아직 기록되지 않은 충전 상태는 항목에 반영되지만, chargingState 조건은 DB에 기록된 상태로 거릅니다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null - 다른 조건으로 발급된 토큰은 거절)
+     */
+    public KeysetPage<TransactionResponse> findTransactions(String stationId, Integer evseId,
+                                                            LocalDateTime from, LocalDateTime to,
+                                                            String idToken,
+                                                            TransactionEventEnum eventType,
+                                                            ChargingStateEnum chargingState,
+                                                            String cursor, int size) {
+        KeysetPage.validateSize(size);
+        long conditions = Stream.of(stationId, idToken, eventType, chargingState).filter(Objects::nonNull).count();
+        if (conditions != 1) {
+            throw new ChargingException("stationId, idToken, eventType, chargingState 중 하나만 지정해야 합니다.");
+        }
+        boolean dateRange = from != null || to != null;
+        if ((evseId != null || dateRange) && stationId == null) {
+            throw new ChargingException("evseId, from, to는 stationId와 함께 지정해야 합니다.");
+        }
+        if (evseId != null && dateRange) {
+            throw new ChargingException("evseId와 기간(from, to)은 함께 지정할 수 없습니다.");
+        }
+        if (dateRange && (from == null || to == null || !from.isBefore(to))) {
+            throw new ChargingException("기간은 from과 to를 모두 지정해야 하며, from은 to보다 이전이어야 합니다.");
+        }
+
+        String filter = KeysetCursor.filterOf("transactions",
+                stationId, evseId, from, to, idToken, eventType, chargingState);
+        KeysetCursor first = dateRange ? KeysetCursor.endingAt(to) : KeysetCursor.LATEST;
+        KeysetCursor position = cursor != null ? KeysetCursor.decode(cursor, filter) : first;
+        Limit limit = Limit.of(size + 1);
+        List<TransactionPageRow> rows;
+        if (evseId != null) {
+            rows = transactionRepository.findPageByEvseIdAndStationId(
+                    evseId, stationId, position.time(), position.id(), limit);
+        } else if (dateRange) {
+            rows = transactionRepository.findPageByStationIdAndDateRange(
+                    stationId, from, position.time(), position.id(), limit);
+        } else if (stationId != null) {
+            rows = transactionRepository.findPageByStationId(stationId, position.time(), position.id(), limit);
+        } else if (idToken != null) {
+            rows = transactionRepository.findPageByIdToken(idToken, position.time(), position.id(), limit);
+        } else if (eventType != null) {
+            rows = transactionRepository.findPageByEventType(eventType, position.time(), position.id(), limit);
+        } else {
+            rows = transactionRepository.findPageByChargingState(chargingState, position.time(), position.id(), limit);
+        }
+
+        return KeysetPage.of(rows, size, filter, TransactionPageRow::cursor,
+                row -> withPendingState(row.toResponse()));
+    }
+
+    /**
+     * 종료된 트랜잭션인지 확인 (재전송된 OCPP 메시지 판별용)
+     */
+    public boolean isEnded(String transactionId) {
+        return transactionRepository.existsByTransactionIdAndEventType(transactionId, TransactionEventEnum.ENDED);
+    }
+
+    /**
+     * 저장된 트랜잭션인지 확인 (재전송된 Started 판별용 - 진행 중 / 종료 모두 포함)
+     */
+    public boolean exists(String transactionId) {
+        return transactionRepository.existsByTransactionId(transactionId);
+    }
+
+    /**
+     * 트랜잭션 이벤트 이력 조회 (시작 / 상태 변경 / 종료 - 발생 순)
+     * 아직 기록되지 않은 충전 상태 변경은 포함되지 않습니다 (charging.charging-state.flush-interval 이내).
+     */
+    public List<TransactionEvent> getTransactionEvents(String transactionId) {
+        List<TransactionEvent> events = transactionEventStore.findByTransactionId(transactionId);
+        if (events.isEmpty() && !transactionRepository.existsByTransactionId(transactionId)) {
+            throw new ResourceNotFoundException("Transaction", "transactionId", transactionId);
+        }
+        return events;
+    }
+
+    /**
+     * 트랜잭션의 충전소 ID 조회 (활성 세션 레지스트리 우선, 종료된 트랜잭션은 DB 조회)
+     */
+    public String getStationId(String transactionId) {
+        return activeSessionRegistry.findByTransactionId(transactionId)
+                .map(ActiveSession::stationId)
+                .or(() -> transactionRepository.findStationIdByTransactionId(transactionId))
+                .orElseThrow(() -> new ResourceNotFoundException("Transaction", "transactionId", transactionId));
+    }
+
+    /**
+     * 활성 트랜잭션 조회 (활성 세션 레지스트리 - DB 조회 없음)
+     */
+    public List<ActiveSession> getActiveTransactions(String stationId) {
+        return activeSessionRegistry.findByStationId(stationId);
+    }
+
+    /**
+     * EVSE의 활성 트랜잭션 조회 (활성 세션 레지스트리 - DB 조회 없음)
+     */
+    public ActiveSession getActiveTransaction(String stationId, Integer evseId) {
+        return activeSessionRegistry.findByEvse(stationId, evseId)
+                .orElseThrow(() -> new ResourceNotFoundException("활성 트랜잭션", "evseId-stationId",
+                        evseId + "-" + stationId));
+    }
+
+    /**
+     * ID Token의 활성 트랜잭션 조회 (활성 세션 레지스트리 - DB 조회 없음)
+     */
+    public List<ActiveSession> getActiveTransactionsByIdToken(String idToken) {
+        return activeSessionRegistry.findByIdToken(idToken);
+    }
+
+    /**
+     * 아직 DB에 기록되지 않은 충전 상태를 반영 (종료된 트랜잭션은 그대로)
+     */
+    private TransactionResponse withPendingState(TransactionResponse response) {
+        if (response.eventType() == TransactionEventEnum.ENDED) {
+            return response;
+        }
+        return chargingStateWriter.findPending(response.transactionId())
+                .map(response::withChargingState)
+                .orElse(response);
+    }
+
+    /**
+     * 메트릭 태그용 충전소 ID (활성 세션이 아니면 null - 결과 트랜잭션에서 채움)
      */
-    public List<Transaction> getActiveTransactions(String stationId) {
-        return transactionRepository.findActiveTransactions(stationId);
+    private String activeStationId(String transactionId) {
+        return activeSessionRegistry.findByTransactionId(transactionId)
+                .map(ActiveSession::stationId)
+                .orElse(null);
     }
 
     /**
-     * 트랜잭션 ID 생성 (간단한 구현)
+     * DB 커밋 이후에 실행 (롤백된 변경이 레지스트리에 반영되지 않도록)
      */
-    private String generateTransactionId() {
-        return "TXN-" + System.currentTimeMillis();
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
@@ -0,0 +1,47 @@
+package com.charging.service.smartcharging;
+
+/**
+ * 충전소 전력 분배 알고리즘
+ *
+ * 모든 배열은 세션 시작 순서대로 정렬되어 있으며 앞의 count 개만 유효합니다.
+ * 구현체는 힙 할당 없이 result 배열만 채워야 합니다 (세션 시작/종료마다 호출됨).
+ */
+public interface AllocationAlgorithm {
+
+    /**
+     * @param capacity      충전소 전력 수용량 (kW)
+     * @param minPower      세션별 최소 전력 (kW)
+     * @param maxPower      세션별 최대 전력 (kW)
+     * @param count         세션 수
+     * @param maxIterations 반복 계산 최대 횟수
+     * @param result        세션별 할당 전력 (kW) - 출력
+     */
+    void allocate(double capacity, double[] minPower, double[] maxPower, int count,
+                  int maxIterations, double[] result);
+
+    /**
+     * 최소 전력 합이 용량을 넘는 경우: 먼저 시작한 세션부터 최소 전력을 보장하고 나머지는 0 (일시 정지)
+     *
+     * @return 최소 전력 합이 용량 이내여서 아무것도 하지 않았으면 false
+     */
+    static boolean allocateMinimumsIfOverloaded(double capacity, double[] minPower, int count, double[] result) {
+        double minSum = 0;
+        for (int i = 0; i < count; i++) {
+            minSum += minPower[i];
+        }
+        if (minSum <= capacity) {
+            return false;
+        }
+
+        double remaining = capacity;
+        for (int i = 0; i < count; i++) {
+            if (remaining >= minPower[i]) {
+                result[i] = minPower[i];
+                remaining -= minPower[i];
+            } else {
+                result[i] = 0;
+            }
+        }
+        return true;
+    }
+}
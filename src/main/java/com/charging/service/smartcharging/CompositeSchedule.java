@@ -0,0 +1,111 @@
+package com.charging.service.smartcharging;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * 합성 충전 스케줄 (OCPP 2.0.1 GetCompositeSchedule 결과)
+ *
+ * 스케줄 시작 기준 구간 시작(초)과 제한값을 primitive 배열 쌍으로 보관합니다.
+ * startPeriods[0]은 항상 0이며, 제한값이 없는 구간은 NO_LIMIT(NaN) 입니다.
+ * 특정 시점의 제한값은 이진 탐색(O(log n))으로 찾습니다.
+ */
+public final class CompositeSchedule {
+
+    /**
+     * 적용되는 프로파일이 없는 구간
+     */
+    public static final double NO_LIMIT = Double.NaN;
+
+    private final LocalDateTime scheduleStart;
+    private final int duration;
+    private final String chargingRateUnit;
+    private final int[] startPeriods;
+    private final double[] limits;
+
+    CompositeSchedule(LocalDateTime scheduleStart, int duration, String chargingRateUnit,
+                      int[] startPeriods, double[] limits) {
+        this.scheduleStart = scheduleStart;
+        this.duration = duration;
+        this.chargingRateUnit = chargingRateUnit;
+        this.startPeriods = startPeriods;
+        this.limits = limits;
+    }
+
+    /**
+     * 시점의 제한값 (스케줄 범위 밖이거나 제한이 없으면 NO_LIMIT)
+     */
+    public double limitAt(LocalDateTime time) {
+        long offset = Duration.between(scheduleStart, time).getSeconds();
+        if (offset < 0 || offset >= duration) {
+            return NO_LIMIT;
+        }
+        return limits[periodIndex((int) offset)];
+    }
+
+    /**
+     * 시점이 스케줄 범위 안인지 여부
+     */
+    public boolean covers(LocalDateTime time) {
+        long offset = Duration.between(scheduleStart, time).getSeconds();
+        return offset >= 0 && offset < duration;
+    }
+
+    /**
+     * [from, from + length) 구간 전체가 스케줄 범위 안인지 여부
+     */
+    public boolean covers(LocalDateTime from, int length) {
+        long offset = Duration.between(scheduleStart, from).getSeconds();
+        return offset >= 0 && offset + length <= duration;
+    }
+
+    /**
+     * [from, from + length) 구간만 잘라낸 스케줄 (구간 시작은 from 기준으로 다시 계산)
+     * 범위는 covers(from, length)로 먼저 확인해야 합니다.
+     */
+    public CompositeSchedule slice(LocalDateTime from, int length) {
+        int offset = (int) Duration.between(scheduleStart, from).getSeconds();
+        int first = periodIndex(offset);
+        int last = periodIndex(offset + length - 1);
+
+        int[] slicedStarts = new int[last - first + 1];
+        double[] slicedLimits = Arrays.copyOfRange(limits, first, last + 1);
+        for (int i = 1; i < slicedStarts.length; i++) {
+            slicedStarts[i] = startPeriods[first + i] - offset;
+        }
+        return new CompositeSchedule(from, length, chargingRateUnit, slicedStarts, slicedLimits);
+    }
+
+    private int periodIndex(int offset) {
+        int index = Arrays.binarySearch(startPeriods, offset);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    public LocalDateTime getScheduleStart() {
+        return scheduleStart;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    public String getChargingRateUnit() {
+        return chargingRateUnit;
+    }
+
+    /**
+     * 구간 수
+     */
+    public int size() {
+        return startPeriods.length;
+    }
+
+    public int getStartPeriod(int index) {
+        return startPeriods[index];
+    }
+
+    public double getLimit(int index) {
+        return limits[index];
+    }
+}
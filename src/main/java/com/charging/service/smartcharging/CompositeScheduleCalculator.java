@@ -0,0 +1,257 @@
+package com.charging.service.smartcharging;
+
+import com.charging.domain.entity.ChargingProfile;
+import com.charging.domain.entity.ChargingSchedulePeriod;
+import com.charging.domain.enums.ChargingProfileKindEnum;
+import com.charging.domain.enums.ChargingProfilePurposeEnum;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 합성 충전 스케줄 계산기
+ *
+ * 프로파일 스택을 하나의 스케줄로 병합합니다 (OCPP 2.0.1 GetCompositeSchedule 규칙).
+ * - 같은 목적(purpose) 안에서는 stackLevel이 가장 높은 프로파일이 적용됩니다.
+ * - TxProfile이 있으면 TxDefaultProfile을 대체합니다.
+ * - ChargingStationMaxProfile은 항상 상한으로 적용됩니다 (min).
+ * - validFrom/validTo, startSchedule, duration 으로 프로파일의 적용 구간을 자릅니다.
+ *   RELATIVE는 트랜잭션 시작 시점, RECURRING은 startSchedule부터 매일 반복으로 계산합니다.
+ *
+ * 단위 변환(A ↔ W)은 하지 않으므로 같은 충전소의 프로파일은 같은 chargingRateUnit을 사용해야 합니다.
+ */
+public class CompositeScheduleCalculator {
+
+    private static final long DAY_SECONDS = 86_400;
+
+    /**
+     * @param profiles         대상 EVSE에 적용 가능한 활성 프로파일 (스케줄 구간 포함)
+     * @param scheduleStart    합성 스케줄 시작 시점
+     * @param duration         합성 스케줄 길이 (초)
+     * @param transactionId    EVSE의 진행 중인 트랜잭션 ID (없으면 null - TxProfile 제외)
+     * @param transactionStart 트랜잭션 시작 시점 (RELATIVE 프로파일 기준, 없으면 scheduleStart)
+     */
+    public CompositeSchedule calculate(List<ChargingProfile> profiles, LocalDateTime scheduleStart, int duration,
+                                       String transactionId, LocalDateTime transactionStart) {
+        List<ProfileTimeline> timelines = new ArrayList<>();
+        String chargingRateUnit = null;
+
+        for (ChargingProfile profile : profiles) {
+            if (!appliesTo(profile, transactionId) || profile.getSchedulePeriods().isEmpty()) {
+                continue;
+            }
+            ProfileTimeline timeline = buildTimeline(profile, scheduleStart, duration, transactionStart);
+            if (timeline.count > 0) {
+                timelines.add(timeline);
+                if (chargingRateUnit == null) {
+                    chargingRateUnit = profile.getChargingRateUnit();
+                }
+            }
+        }
+
+        long[] breakpoints = collectBreakpoints(timelines, duration);
+        int[] startPeriods = new int[breakpoints.length];
+        double[] limits = new double[breakpoints.length];
+        int size = 0;
+
+        for (int i = 0; i < breakpoints.length - 1; i++) {
+            double limit = compositeLimitAt(timelines, breakpoints[i]);
+            if (size == 0 || Double.compare(limits[size - 1], limit) != 0) {
+                startPeriods[size] = (int) breakpoints[i];
+                limits[size] = limit;
+                size++;
+            }
+        }
+
+        return new CompositeSchedule(scheduleStart, duration, chargingRateUnit != null ? chargingRateUnit : "W",
+                Arrays.copyOf(startPeriods, size), Arrays.copyOf(limits, size));
+    }
+
+    /**
+     * TxProfile은 진행 중인 트랜잭션이 있을 때만 (transactionId가 지정된 경우 일치할 때만) 적용
+     */
+    private boolean appliesTo(ChargingProfile profile, String transactionId) {
+        if (profile.getChargingProfilePurpose() != ChargingProfilePurposeEnum.TX_PROFILE) {
+            return true;
+        }
+        return transactionId != null
+                && (profile.getTransactionId() == null || profile.getTransactionId().equals(transactionId));
+    }
+
+    /**
+     * 시점(초)의 합성 제한값
+     */
+    private double compositeLimitAt(List<ProfileTimeline> timelines, long time) {
+        double stationMax = CompositeSchedule.NO_LIMIT;
+        double txDefault = CompositeSchedule.NO_LIMIT;
+        double tx = CompositeSchedule.NO_LIMIT;
+        int stationMaxLevel = Integer.MIN_VALUE;
+        int txDefaultLevel = Integer.MIN_VALUE;
+        int txLevel = Integer.MIN_VALUE;
+
+        for (ProfileTimeline timeline : timelines) {
+            double limit = timeline.limitAt(time);
+            if (Double.isNaN(limit)) {
+                continue;
+            }
+            switch (timeline.purpose) {
+                case CHARGE_POINT_MAX_PROFILE -> {
+                    if (timeline.stackLevel > stationMaxLevel) {
+                        stationMaxLevel = timeline.stackLevel;
+                        stationMax = limit;
+                    }
+                }
+                case TX_DEFAULT_PROFILE -> {
+                    if (timeline.stackLevel > txDefaultLevel) {
+                        txDefaultLevel = timeline.stackLevel;
+                        txDefault = limit;
+                    }
+                }
+                case TX_PROFILE -> {
+                    if (timeline.stackLevel > txLevel) {
+                        txLevel = timeline.stackLevel;
+                        tx = limit;
+                    }
+                }
+            }
+        }
+
+        double transactionLimit = Double.isNaN(tx) ? txDefault : tx;
+        if (Double.isNaN(stationMax)) {
+            return transactionLimit;
+        }
+        return Double.isNaN(transactionLimit) ? stationMax : Math.min(stationMax, transactionLimit);
+    }
+
+    private long[] collectBreakpoints(List<ProfileTimeline> timelines, int duration) {
+        int total = 2;
+        for (ProfileTimeline timeline : timelines) {
+            total += timeline.count * 2;
+        }
+
+        long[] points = new long[total];
+        int n = 0;
+        points[n++] = 0;
+        points[n++] = duration;
+        for (ProfileTimeline timeline : timelines) {
+            for (int i = 0; i < timeline.count; i++) {
+                points[n++] = timeline.starts[i];
+                points[n++] = timeline.ends[i];
+            }
+        }
+
+        Arrays.sort(points, 0, n);
+        int unique = 0;
+        for (int i = 0; i < n; i++) {
+            if (unique == 0 || points[unique - 1] != points[i]) {
+                points[unique++] = points[i];
+            }
+        }
+        return Arrays.copyOf(points, unique);
+    }
+
+    /**
+     * 프로파일의 적용 구간을 합성 스케줄 기준 초 단위로 펼침
+     */
+    private ProfileTimeline buildTimeline(ChargingProfile profile, LocalDateTime scheduleStart, int duration,
+                                          LocalDateTime transactionStart) {
+        ProfileTimeline timeline = new ProfileTimeline(profile.getChargingProfilePurpose(), profile.getStackLevel());
+
+        long lower = Math.max(0, profile.getValidFrom() != null
+                ? secondsBetween(scheduleStart, profile.getValidFrom()) : Long.MIN_VALUE);
+        long upper = Math.min(duration, profile.getValidTo() != null
+                ? secondsBetween(scheduleStart, profile.getValidTo()) : Long.MAX_VALUE);
+        if (lower >= upper) {
+            return timeline;
+        }
+
+        List<ChargingSchedulePeriod> periods = new ArrayList<>(profile.getSchedulePeriods());
+        periods.sort(Comparator.comparing(ChargingSchedulePeriod::getStartPeriod));
+
+        ChargingProfileKindEnum kind = profile.getChargingProfileKind();
+        if (kind == ChargingProfileKindEnum.RECURRING) {
+            long base = secondsBetween(scheduleStart,
+                    profile.getStartSchedule() != null ? profile.getStartSchedule() : scheduleStart);
+            long start = base + Math.floorDiv(lower - base, DAY_SECONDS) * DAY_SECONDS;
+            for (; start < upper; start += DAY_SECONDS) {
+                addOccurrence(timeline, profile, periods, start, start + DAY_SECONDS, lower, upper);
+            }
+        } else {
+            LocalDateTime start;
+            if (kind == ChargingProfileKindEnum.RELATIVE) {
+                start = transactionStart != null ? transactionStart : scheduleStart;
+            } else if (profile.getStartSchedule() != null) {
+                start = profile.getStartSchedule();
+            } else {
+                start = profile.getValidFrom() != null ? profile.getValidFrom() : scheduleStart;
+            }
+            addOccurrence(timeline, profile, periods, secondsBetween(scheduleStart, start), Long.MAX_VALUE,
+                    lower, upper);
+        }
+        return timeline;
+    }
+
+    private void addOccurrence(ProfileTimeline timeline, ChargingProfile profile,
+                               List<ChargingSchedulePeriod> periods, long start, long occurrenceEnd,
+                               long lower, long upper) {
+        long end = profile.getDuration() != null ? Math.min(occurrenceEnd, start + profile.getDuration())
+                : occurrenceEnd;
+
+        for (int i = 0; i < periods.size(); i++) {
+            long periodStart = start + periods.get(i).getStartPeriod();
+            long periodEnd = i + 1 < periods.size() ? start + periods.get(i + 1).getStartPeriod() : end;
+            timeline.add(Math.max(periodStart, lower), Math.min(Math.min(periodEnd, end), upper),
+                    periods.get(i).getLimit().doubleValue());
+        }
+    }
+
+    private static long secondsBetween(LocalDateTime from, LocalDateTime to) {
+        return Duration.between(from, to).getSeconds();
+    }
+
+    /**
+     * 한 프로파일의 적용 구간 목록 (시간순, 겹치지 않음)
+     */
+    private static final class ProfileTimeline {
+
+        private final ChargingProfilePurposeEnum purpose;
+        private final int stackLevel;
+        private long[] starts = new long[4];
+        private long[] ends = new long[4];
+        private double[] limits = new double[4];
+        private int count;
+
+        private ProfileTimeline(ChargingProfilePurposeEnum purpose, int stackLevel) {
+            this.purpose = purpose;
+            this.stackLevel = stackLevel;
+        }
+
+        private void add(long start, long end, double limit) {
+            if (start >= end) {
+                return;
+            }
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+                limits = Arrays.copyOf(limits, count * 2);
+            }
+            starts[count] = start;
+            ends[count] = end;
+            limits[count] = limit;
+            count++;
+        }
+
+        private double limitAt(long time) {
+            for (int i = 0; i < count; i++) {
+                if (time >= starts[i] && time < ends[i]) {
+                    return limits[i];
+                }
+            }
+            return CompositeSchedule.NO_LIMIT;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.charging.service.smartcharging;
+
+import com.charging.domain.entity.ChargingProfile;
+import com.charging.domain.listener.ChargingProfileChangeListener.ChargingProfileChangedEvent;
+import com.charging.domain.model.ActiveSession;
+import com.charging.domain.repository.ChargingProfileRepository;
+import com.charging.exception.ChargingException;
+import com.charging.service.ActiveSessionRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 합성 충전 스케줄 서비스
+ *
+ * EVSE별 합성 스케줄을 미리 계산해서 보관하고, 제한값 조회는 DB 조회 없이 이진 탐색으로 응답합니다.
+ * 보관된 스케줄은 조회 시점이 범위를 벗어나거나 EVSE의 진행 중인 트랜잭션이 바뀌면 다시 계산하며,
+ * 프로파일이 변경되면 ChargingProfileChangeListener가 커밋 이후 발행하는 이벤트로 충전소 단위로 비웁니다.
+ *
+ * 무효화와 겹쳐 계산된 스케줄이 보관되지 않도록 충전소별 세대 번호를 둡니다.
+ * 계산 전에 읽은 세대 번호를 함께 보관하고, 무효화로 세대가 바뀌었으면 보관된 스케줄을 쓰지 않고 다시 계산합니다.
+ *
+ * 보관된 스케줄로 응답하는 경로는 DB 트랜잭션(커넥션)을 쓰지 않고, 계산할 때만 읽기 전용 트랜잭션을 엽니다.
+ */
+@Slf4j
+@Service
+public class CompositeScheduleService {
+
+    /**
+     * 미리 계산하는 스케줄 길이 (초)
+     */
+    static final int PRECOMPUTE_HORIZON_SECONDS = 2 * 86_400;
+
+    /**
+     * 보관된 스케줄로 응답하는 최대 길이 (초)
+     * 보관된 스케줄이 조회 시점부터 이만큼을 포함하지 않으면 다시 계산하므로, EVSE당 재계산은 하루 한 번 정도입니다.
+     */
+    static final int LOOKUP_WINDOW_SECONDS = 86_400;
+
+    /**
+     * 조회할 수 있는 최대 스케줄 길이 (초)
+     */
+    static final int MAX_DURATION_SECONDS = 7 * 86_400;
+
+    private final ChargingProfileRepository chargingProfileRepository;
+    private final ActiveSessionRegistry activeSessionRegistry;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final CompositeScheduleCalculator calculator = new CompositeScheduleCalculator();
+    private final Map<EvseKey, CachedSchedule> schedules = new ConcurrentHashMap<>();
+
+    /**
+     * 충전소 ID -> 세대 번호 (무효화마다 증가)
+     */
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public CompositeScheduleService(ChargingProfileRepository chargingProfileRepository,
+                                    ActiveSessionRegistry activeSessionRegistry,
+                                    PlatformTransactionManager transactionManager) {
+        this.chargingProfileRepository = chargingProfileRepository;
+        this.activeSessionRegistry = activeSessionRegistry;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 합성 스케줄 조회 (GetCompositeSchedule)
+     * LOOKUP_WINDOW_SECONDS 이내는 미리 계산된 스케줄을 잘라서 응답하고 (DB 조회 없음), 더 긴 요청만 직접 계산합니다.
+     *
+     * @param duration 스케줄 길이 (초)
+     * @throws ChargingException duration이 1 ~ MAX_DURATION_SECONDS 범위를 벗어난 경우
+     */
+    public CompositeSchedule getCompositeSchedule(String stationId, Integer evseId, LocalDateTime from, int duration) {
+        if (duration <= 0 || duration > MAX_DURATION_SECONDS) {
+            throw new ChargingException(String.format(
+                    "duration은 1 ~ %d초 사이여야 합니다. (duration: %d)", MAX_DURATION_SECONDS, duration));
+        }
+        if (duration <= LOOKUP_WINDOW_SECONDS) {
+            CompositeSchedule schedule = precomputed(stationId, evseId, from);
+            if (schedule.covers(from, duration)) {
+                return schedule.slice(from, duration);
+            }
+        }
+        Optional<ActiveSession> session = activeSessionRegistry.findByEvse(stationId, evseId);
+        return calculate(stationId, evseId, from, duration, session.orElse(null));
+    }
+
+    /**
+     * 시점의 제한값 (미리 계산된 스케줄 사용, 제한이 없으면 CompositeSchedule.NO_LIMIT)
+     */
+    public double getLimit(String stationId, Integer evseId, LocalDateTime time) {
+        return precomputed(stationId, evseId, time).limitAt(time);
+    }
+
+    /**
+     * 충전소의 보관된 스케줄 제거 (프로파일 변경 시 호출)
+     */
+    public void invalidate(String stationId) {
+        // 세대를 먼저 올려, 이미 계산 중이던 스케줄이 나중에 보관되더라도 사용되지 않도록 함
+        generationOf(stationId).incrementAndGet();
+        schedules.keySet().removeIf(key -> key.stationId().equals(stationId));
+    }
+
+    /**
+     * 충전 프로파일 / 스케줄 구간이 변경되면 (커밋 이후) 충전소의 보관된 스케줄 제거
+     */
+    @EventListener
+    public void onChargingProfileChanged(ChargingProfileChangedEvent event) {
+        invalidate(event.stationId());
+        log.debug("합성 스케줄 무효화: stationId={}", event.stationId());
+    }
+
+    /**
+     * time부터 LOOKUP_WINDOW_SECONDS를 포함하는 보관된 스케줄
+     * 없거나 범위를 벗어났거나 EVSE의 진행 중인 트랜잭션 / 충전소 세대가 바뀌었으면 PRECOMPUTE_HORIZON_SECONDS 만큼 다시 계산합니다.
+     */
+    private CompositeSchedule precomputed(String stationId, Integer evseId, LocalDateTime time) {
+        EvseKey key = new EvseKey(stationId, evseId);
+        ActiveSession session = activeSessionRegistry.findByEvse(stationId, evseId).orElse(null);
+        String transactionId = session != null ? session.transactionId() : null;
+        // 프로파일을 읽기 전에 세대를 읽어 두어야 계산 중 무효화를 놓치지 않음
+        long generation = generationOf(stationId).get();
+
+        CachedSchedule cached = schedules.get(key);
+        if (cached == null || cached.generation() != generation
+                || !cached.schedule().covers(time, LOOKUP_WINDOW_SECONDS)
+                || !Objects.equals(cached.transactionId(), transactionId)) {
+            CompositeSchedule schedule = calculate(stationId, evseId, time.truncatedTo(ChronoUnit.MINUTES),
+                    PRECOMPUTE_HORIZON_SECONDS, session);
+            cached = new CachedSchedule(schedule, transactionId, generation);
+            schedules.put(key, cached);
+        }
+        return cached.schedule();
+    }
+
+    private AtomicLong generationOf(String stationId) {
+        return generations.computeIfAbsent(stationId, id -> new AtomicLong());
+    }
+
+    private CompositeSchedule calculate(String stationId, Integer evseId, LocalDateTime from, int duration,
+                                        ActiveSession session) {
+        List<ChargingProfile> profiles = readOnlyTransaction.execute(status ->
+                chargingProfileRepository.findActiveProfilesWithPeriods(
+                        stationId, evseId, from, from.plusSeconds(duration)));
+
+        CompositeSchedule schedule = calculator.calculate(profiles, from, duration,
+                session != null ? session.transactionId() : null,
+                session != null ? session.startTime() : null);
+
+        log.debug("합성 스케줄 계산: stationId={}, evseId={}, profiles={}, periods={}",
+                stationId, evseId, profiles.size(), schedule.size());
+        return schedule;
+    }
+
+    /**
+     * EVSE 복합 키 (stationId, evseId)
+     */
+    private record EvseKey(String stationId, Integer evseId) {
+    }
+
+    /**
+     * 보관된 스케줄과 계산 당시의 트랜잭션 ID / 충전소 세대 번호
+     */
+    private record CachedSchedule(CompositeSchedule schedule, String transactionId, long generation) {
+    }
+}
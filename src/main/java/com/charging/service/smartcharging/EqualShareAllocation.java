@@ -0,0 +1,62 @@
+package com.charging.service.smartcharging;
+
+/**
+ * 균등 분배 (water-filling)
+ *
+ * 최소 전력을 먼저 보장하고 남은 용량을 미포화 세션에 균등하게 나눕니다.
+ * 균등 몫이 최대 전력을 넘는 세션은 최대 전력으로 고정(포화)하고 남는 전력을 다시 나누는 과정을
+ * 포화되는 세션이 없을 때까지 반복하며, 반복 횟수는 maxIterations로 제한됩니다.
+ */
+public class EqualShareAllocation implements AllocationAlgorithm {
+
+    @Override
+    public void allocate(double capacity, double[] minPower, double[] maxPower, int count,
+                         int maxIterations, double[] result) {
+        if (AllocationAlgorithm.allocateMinimumsIfOverloaded(capacity, minPower, count, result)) {
+            return;
+        }
+
+        double remaining = capacity;
+        for (int i = 0; i < count; i++) {
+            result[i] = minPower[i];
+            remaining -= minPower[i];
+        }
+
+        // 포화된 세션은 result[i] == maxPower[i]
+        int unsaturated = 0;
+        for (int i = 0; i < count; i++) {
+            if (result[i] < maxPower[i]) {
+                unsaturated++;
+            }
+        }
+
+        for (int iteration = 0; iteration < maxIterations && unsaturated > 0 && remaining > 0; iteration++) {
+            double share = remaining / unsaturated;
+            boolean saturatedAny = false;
+
+            for (int i = 0; i < count; i++) {
+                double headroom = maxPower[i] - result[i];
+                if (headroom > 0 && headroom <= share) {
+                    result[i] = maxPower[i];
+                    remaining -= headroom;
+                    unsaturated--;
+                    saturatedAny = true;
+                }
+            }
+
+            if (!saturatedAny) {
+                break;
+            }
+        }
+
+        // 남은 전력을 미포화 세션에 균등 분배 (반복 제한에 걸린 경우에도 최대 전력은 넘지 않음)
+        if (unsaturated > 0 && remaining > 0) {
+            double share = remaining / unsaturated;
+            for (int i = 0; i < count; i++) {
+                if (result[i] < maxPower[i]) {
+                    result[i] = Math.min(maxPower[i], result[i] + share);
+                }
+            }
+        }
+    }
+}
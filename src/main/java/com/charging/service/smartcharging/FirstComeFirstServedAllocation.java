@@ -0,0 +1,24 @@
+package com.charging.service.smartcharging;
+
+/**
+ * 선착순 분배
+ *
+ * 먼저 시작한 세션부터 최대 전력까지 할당합니다.
+ * 남은 용량이 최소 전력보다 적으면 해당 세션은 0 (일시 정지) 입니다.
+ */
+public class FirstComeFirstServedAllocation implements AllocationAlgorithm {
+
+    @Override
+    public void allocate(double capacity, double[] minPower, double[] maxPower, int count,
+                         int maxIterations, double[] result) {
+        double remaining = capacity;
+        for (int i = 0; i < count; i++) {
+            if (remaining >= minPower[i]) {
+                result[i] = Math.min(maxPower[i], remaining);
+                remaining -= result[i];
+            } else {
+                result[i] = 0;
+            }
+        }
+    }
+}
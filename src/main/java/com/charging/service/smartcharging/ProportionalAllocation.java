@@ -0,0 +1,30 @@
+package com.charging.service.smartcharging;
+
+/**
+ * 비례 분배
+ *
+ * 최소 전력을 먼저 보장하고, 남은 용량을 세션별 여유 전력(최대 - 최소)에 비례하여 나눕니다.
+ * 비례 몫이 여유 전력을 넘지 않으므로 한 번에 계산이 끝납니다.
+ */
+public class ProportionalAllocation implements AllocationAlgorithm {
+
+    @Override
+    public void allocate(double capacity, double[] minPower, double[] maxPower, int count,
+                         int maxIterations, double[] result) {
+        if (AllocationAlgorithm.allocateMinimumsIfOverloaded(capacity, minPower, count, result)) {
+            return;
+        }
+
+        double remaining = capacity;
+        double headroomSum = 0;
+        for (int i = 0; i < count; i++) {
+            remaining -= minPower[i];
+            headroomSum += maxPower[i] - minPower[i];
+        }
+
+        double ratio = headroomSum > 0 ? Math.min(1.0, remaining / headroomSum) : 0;
+        for (int i = 0; i < count; i++) {
+            result[i] = minPower[i] + (maxPower[i] - minPower[i]) * ratio;
+        }
+    }
+}
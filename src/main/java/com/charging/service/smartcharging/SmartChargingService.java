@@ -0,0 +1,167 @@
+package com.charging.service.smartcharging;
+
+import com.charging.domain.entity.Station;
+import com.charging.domain.enums.AlgorithmModeEnum;
+import com.charging.domain.listener.TopologyCacheInvalidator.StationChangedEvent;
+import com.charging.domain.model.ActiveSession;
+import com.charging.domain.model.ConnectorTopology;
+import com.charging.domain.repository.StationRepository;
+import com.charging.exception.ResourceNotFoundException;
+import com.charging.service.ActiveSessionRegistry;
+import com.charging.service.TopologyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 스마트충전 전력 분배 서비스
+ * 충전소의 전력 수용량(powerGridCapacity)을 활성 세션에 나누어 할당합니다.
+ *
+ * - 알고리즘은 Station.algorithmMode, 반복 계산 상한은 Station.maxIterationCount를 따릅니다.
+ * - 세션별 할당 범위는 Connector.minPower ~ maxPower 입니다.
+ * - 세션 시작/종료 시 해당 충전소만 증분 재계산하며, 조회는 마지막 계산 결과를 그대로 반환합니다.
+ * - 분배 상태는 충전소별 세대로 등록을 검증합니다. 구성하는 동안 설정 변경(evict)이나 세션 종료가 있었으면
+ *   등록하지 않고 다시 구성하므로, 종료된 세션이나 이전 설정이 남은 분배 상태가 등록되지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SmartChargingService {
+
+    private final StationRepository stationRepository;
+    private final TopologyService topologyService;
+    private final ActiveSessionRegistry activeSessionRegistry;
+
+    /**
+     * 세대 변경으로 분배 상태 등록이 거절될 때 다시 구성하는 최대 횟수
+     */
+    private static final int MAX_BUILD_ATTEMPTS = 3;
+
+    private final Map<String, StationPowerAllocator> allocators = new ConcurrentHashMap<>();
+
+    /**
+     * 충전소별 분배 상태 세대 (설정 변경 / 세션 종료마다 증가)
+     */
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /**
+     * 세션 시작 반영
+     * 트랜잭션 커밋 이후에 호출되므로 실패해도 트랜잭션에는 영향을 주지 않고 로그만 남깁니다.
+     */
+    public void onSessionStarted(ActiveSession session) {
+        try {
+            StationPowerAllocator allocator = allocatorFor(session.stationId());
+            addSession(allocator, session);
+            log.debug("전력 분배 재계산: stationId={}, sessions={}",
+                    session.stationId(), allocator.getSessionCount());
+        } catch (RuntimeException e) {
+            log.error("전력 분배 반영 실패: transactionId={}", session.transactionId(), e);
+        }
+    }
+
+    /**
+     * 세션 종료 반영
+     */
+    public void onSessionStopped(String stationId, String transactionId) {
+        // 구성 중인 분배 상태가 종료 전 활성 세션 목록을 읽었을 수 있으므로 세대를 올려 등록을 막음
+        generationOf(stationId).incrementAndGet();
+        allocators.computeIfPresent(stationId, (id, allocator) -> {
+            allocator.removeSession(transactionId);
+            return allocator;
+        });
+    }
+
+    /**
+     * 충전소 전력 분배 결과 조회
+     */
+    public StationAllocation getAllocation(String stationId) {
+        return allocatorFor(stationId).getSnapshot();
+    }
+
+    /**
+     * 충전소 설정 변경 시 분배 상태 초기화 (다음 조회 시 다시 구성)
+     */
+    public void evict(String stationId) {
+        generationOf(stationId).incrementAndGet();
+        allocators.remove(stationId);
+    }
+
+    @EventListener
+    public void onStationChanged(StationChangedEvent event) {
+        evict(event.stationId());
+    }
+
+    /**
+     * 등록된 분배 상태 (없으면 구성하여 등록)
+     * 구성은 맵 밖에서 하고, 등록은 compute 안에서 구성 시작 시점의 세대와 같을 때만 합니다.
+     * 계속 세대가 바뀌면 등록하지 않은 분배 상태를 반환합니다 (다음 호출에서 다시 구성).
+     */
+    private StationPowerAllocator allocatorFor(String stationId) {
+        for (int attempt = 1; ; attempt++) {
+            StationPowerAllocator allocator = allocators.get(stationId);
+            if (allocator != null) {
+                return allocator;
+            }
+
+            AtomicLong generation = generationOf(stationId);
+            long expected = generation.get();
+            StationPowerAllocator created = createAllocator(stationId);
+            StationPowerAllocator registered = allocators.compute(stationId, (id, existing) -> {
+                if (existing != null) {
+                    return existing;
+                }
+                return generation.get() == expected ? created : null;
+            });
+            if (registered != null) {
+                return registered;
+            }
+            if (attempt >= MAX_BUILD_ATTEMPTS) {
+                log.debug("전력 분배 상태 등록 보류 - 구성 중 변경 반복: stationId={}", stationId);
+                return created;
+            }
+        }
+    }
+
+    private AtomicLong generationOf(String stationId) {
+        return generations.computeIfAbsent(stationId, id -> new AtomicLong());
+    }
+
+    /**
+     * 충전소 설정으로 분배 상태를 만들고 현재 활성 세션으로 채움
+     */
+    private StationPowerAllocator createAllocator(String stationId) {
+        Station station = stationRepository.findByStationId(stationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Station", "stationId", stationId));
+
+        StationPowerAllocator allocator = new StationPowerAllocator(
+                stationId,
+                station.getPowerGridCapacity().doubleValue(),
+                AlgorithmModeEnum.fromCode(station.getAlgorithmMode()),
+                station.getMaxIterationCount());
+
+        activeSessionRegistry.findByStationId(stationId)
+                .forEach(session -> addSession(allocator, session));
+        return allocator;
+    }
+
+    private void addSession(StationPowerAllocator allocator, ActiveSession session) {
+        Optional<ConnectorTopology> connector = topologyService.findConnector(
+                session.stationId(), session.evseId(), session.connectorId());
+
+        double minPower = connector.map(c -> c.minPower().doubleValue()).orElse(0.0);
+        double maxPower = connector.map(c -> c.maxPower().doubleValue()).orElse(allocator.getCapacityKw());
+        if (connector.isEmpty()) {
+            log.warn("커넥터 정보 없음 - 전력 범위 제한 없이 분배: stationId={}, evseId={}, connectorId={}",
+                    session.stationId(), session.evseId(), session.connectorId());
+        }
+
+        allocator.addSession(session.transactionId(), session.evseId(), session.connectorId(),
+                minPower, maxPower);
+    }
+}
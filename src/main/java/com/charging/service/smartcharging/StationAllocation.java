@@ -0,0 +1,39 @@
+package com.charging.service.smartcharging;
+
+import com.charging.domain.enums.AlgorithmModeEnum;
+
+import java.util.List;
+
+/**
+ * 충전소 전력 분배 결과 스냅샷
+ *
+ * @param stationId     충전소 ID
+ * @param algorithmMode 적용된 알고리즘
+ * @param capacityKw    전력 수용량 (kW)
+ * @param allocatedKw   할당된 전력 합계 (kW)
+ * @param sessions      세션별 할당 결과 (시작 순서)
+ */
+public record StationAllocation(
+        String stationId,
+        AlgorithmModeEnum algorithmMode,
+        double capacityKw,
+        double allocatedKw,
+        List<SessionAllocation> sessions
+) {
+
+    /**
+     * 세션별 할당 결과
+     *
+     * @param transactionId 트랜잭션 ID
+     * @param evseId        EVSE ID
+     * @param connectorId   커넥터 ID
+     * @param limitKw       할당 전력 (kW)
+     */
+    public record SessionAllocation(
+            String transactionId,
+            int evseId,
+            int connectorId,
+            double limitKw
+    ) {
+    }
+}
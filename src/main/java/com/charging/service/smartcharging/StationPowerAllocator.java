@@ -0,0 +1,141 @@
+package com.charging.service.smartcharging;
+
+import com.charging.domain.enums.AlgorithmModeEnum;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 충전소 단위 전력 분배 상태
+ *
+ * 활성 세션의 최소/최대 전력을 시작 순서대로 primitive 배열에 보관하고,
+ * 세션이 추가/제거될 때마다 해당 충전소만 다시 계산합니다 (다른 충전소에는 영향 없음).
+ * 계산 결과는 불변 스냅샷으로 교체되므로 조회는 락 없이 수행됩니다.
+ */
+public class StationPowerAllocator {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final String stationId;
+    private final double capacityKw;
+    private final AlgorithmModeEnum algorithmMode;
+    private final AllocationAlgorithm algorithm;
+    private final int maxIterations;
+
+    private final Map<String, Integer> slotByTransactionId = new HashMap<>();
+    private String[] transactionIds = new String[INITIAL_CAPACITY];
+    private int[] evseIds = new int[INITIAL_CAPACITY];
+    private int[] connectorIds = new int[INITIAL_CAPACITY];
+    private double[] minPower = new double[INITIAL_CAPACITY];
+    private double[] maxPower = new double[INITIAL_CAPACITY];
+    private double[] allocated = new double[INITIAL_CAPACITY];
+    private int count;
+
+    private volatile StationAllocation snapshot;
+
+    public StationPowerAllocator(String stationId, double capacityKw, AlgorithmModeEnum algorithmMode,
+                                 int maxIterations) {
+        this.stationId = stationId;
+        this.capacityKw = capacityKw;
+        this.algorithmMode = algorithmMode;
+        this.algorithm = algorithmFor(algorithmMode);
+        this.maxIterations = Math.max(1, maxIterations);
+        this.snapshot = buildSnapshot();
+    }
+
+    /**
+     * 세션 추가 후 재계산 (이미 있는 세션이면 무시)
+     */
+    public synchronized void addSession(String transactionId, int evseId, int connectorId,
+                                        double minPowerKw, double maxPowerKw) {
+        if (slotByTransactionId.containsKey(transactionId)) {
+            return;
+        }
+        ensureCapacity(count + 1);
+        transactionIds[count] = transactionId;
+        evseIds[count] = evseId;
+        connectorIds[count] = connectorId;
+        minPower[count] = minPowerKw;
+        maxPower[count] = maxPowerKw;
+        slotByTransactionId.put(transactionId, count);
+        count++;
+        recompute();
+    }
+
+    /**
+     * 세션 제거 후 재계산 (시작 순서를 유지하기 위해 뒤쪽 세션을 한 칸씩 당김)
+     */
+    public synchronized void removeSession(String transactionId) {
+        Integer slot = slotByTransactionId.remove(transactionId);
+        if (slot == null) {
+            return;
+        }
+        int tail = count - slot - 1;
+        System.arraycopy(transactionIds, slot + 1, transactionIds, slot, tail);
+        System.arraycopy(evseIds, slot + 1, evseIds, slot, tail);
+        System.arraycopy(connectorIds, slot + 1, connectorIds, slot, tail);
+        System.arraycopy(minPower, slot + 1, minPower, slot, tail);
+        System.arraycopy(maxPower, slot + 1, maxPower, slot, tail);
+        count--;
+        transactionIds[count] = null;
+        for (int i = slot; i < count; i++) {
+            slotByTransactionId.put(transactionIds[i], i);
+        }
+        recompute();
+    }
+
+    /**
+     * 최근 계산 결과
+     */
+    public StationAllocation getSnapshot() {
+        return snapshot;
+    }
+
+    public double getCapacityKw() {
+        return capacityKw;
+    }
+
+    public synchronized int getSessionCount() {
+        return count;
+    }
+
+    private void recompute() {
+        algorithm.allocate(capacityKw, minPower, maxPower, count, maxIterations, allocated);
+        snapshot = buildSnapshot();
+    }
+
+    private StationAllocation buildSnapshot() {
+        StationAllocation.SessionAllocation[] sessions = new StationAllocation.SessionAllocation[count];
+        double total = 0;
+        for (int i = 0; i < count; i++) {
+            // W 단위로 내림 - 합계가 수용량을 넘지 않도록
+            double limitKw = Math.floor(allocated[i] * 1000) / 1000;
+            sessions[i] = new StationAllocation.SessionAllocation(
+                    transactionIds[i], evseIds[i], connectorIds[i], limitKw);
+            total += limitKw;
+        }
+        return new StationAllocation(stationId, algorithmMode, capacityKw, total, Arrays.asList(sessions));
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= transactionIds.length) {
+            return;
+        }
+        int newLength = Math.max(required, transactionIds.length * 2);
+        transactionIds = Arrays.copyOf(transactionIds, newLength);
+        evseIds = Arrays.copyOf(evseIds, newLength);
+        connectorIds = Arrays.copyOf(connectorIds, newLength);
+        minPower = Arrays.copyOf(minPower, newLength);
+        maxPower = Arrays.copyOf(maxPower, newLength);
+        allocated = Arrays.copyOf(allocated, newLength);
+    }
+
+    static AllocationAlgorithm algorithmFor(AlgorithmModeEnum mode) {
+        return switch (mode) {
+            case EQUAL_SHARE -> new EqualShareAllocation();
+            case PROPORTIONAL -> new ProportionalAllocation();
+            case FIRST_COME_FIRST_SERVED -> new FirstComeFirstServedAllocation();
+        };
+    }
+}
@@ -1,9 +1,24 @@
 -- OCPP 2.0 충전기 도메인 스키마
 -- Oracle Database 기반
 
+-- ID 시퀀스 생성
+-- INCREMENT BY는 엔티티의 @SequenceGenerator(allocationSize = 50)와 반드시 일치해야 함
+-- (Hibernate pooled-lo 옵티마이저가 시퀀스 값 하나로 50개의 ID를 메모리에서 할당)
+CREATE SEQUENCE STATION_SEQ START WITH 1 INCREMENT BY 50 CACHE 20;
+CREATE SEQUENCE EVSE_SEQ START WITH 1 INCREMENT BY 50 CACHE 20;
+CREATE SEQUENCE CONNECTOR_SEQ START WITH 1 INCREMENT BY 50 CACHE 20;
+CREATE SEQUENCE TRANSACTION_SEQ START WITH 1 INCREMENT BY 50 CACHE 20;
+CREATE SEQUENCE METER_VALUE_SEQ START WITH 1 INCREMENT BY 50 CACHE 20;
+CREATE SEQUENCE CHARGING_PROFILE_SEQ START WITH 1 INCREMENT BY 50 CACHE 20;
+CREATE SEQUENCE CHARGING_SCHEDULE_PERIOD_SEQ START WITH 1 INCREMENT BY 50 CACHE 20;
+CREATE SEQUENCE METER_VALUE_ROLLUP_SEQ START WITH 1 INCREMENT BY 50 CACHE 20;
+CREATE SEQUENCE TRANSACTION_EVENT_LOG_SEQ START WITH 1 INCREMENT BY 50 CACHE 20;
+CREATE SEQUENCE TRANSACTION_SNAPSHOT_SEQ START WITH 1 INCREMENT BY 50 CACHE 20;
+CREATE SEQUENCE TRANSACTION_SNAPSHOT_SESSION_SEQ START WITH 1 INCREMENT BY 50 CACHE 20;
+
 -- 충전소 테이블 생성
 CREATE TABLE STATION (
-    id NUMBER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    id NUMBER PRIMARY KEY,
     station_id VARCHAR2(50) UNIQUE NOT NULL,
     power_grid_capacity NUMBER(10,2) NOT NULL,
     max_price_limit NUMBER(10,2) NOT NULL,
@@ -11,13 +26,14 @@ CREATE TABLE STATION (
     time_extension_factor NUMBER(5,2) NOT NULL,
     max_iteration_count NUMBER(5) NOT NULL,
     billing_power_id NUMBER NOT NULL,
+    basic_auth_password_hash VARCHAR2(64),
     created_at DATE DEFAULT SYSDATE NOT NULL,
     updated_at DATE DEFAULT SYSDATE NOT NULL
 );
 
 -- 충전기 테이블 생성
 CREATE TABLE CHARGE_POINT (
-    id NUMBER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    id NUMBER PRIMARY KEY,
     charge_point_id VARCHAR2(50) NOT NULL,
     station_id VARCHAR2(50) NOT NULL,
     max_power NUMBER(10,2) NOT NULL,
@@ -31,12 +47,13 @@ ON CHARGE_POINT(charge_point_id, station_id);
 
 -- 커넥터 테이블 생성
 CREATE TABLE CONNECTOR (
-    id NUMBER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    id NUMBER PRIMARY KEY,
     charge_point_id VARCHAR2(50) NOT NULL,
     station_id VARCHAR2(50) NOT NULL,
     connector_id NUMBER(2) NOT NULL,
     max_power NUMBER(10,2) NOT NULL,
     min_power NUMBER(10,2) NOT NULL,
+    version NUMBER(19) DEFAULT 0 NOT NULL,
     created_at DATE DEFAULT SYSDATE NOT NULL,
     updated_at DATE DEFAULT SYSDATE NOT NULL
 );
@@ -45,6 +62,109 @@ CREATE TABLE CONNECTOR (
 CREATE UNIQUE INDEX idx_connector_unique
 ON CONNECTOR(charge_point_id, station_id, connector_id);
 
+-- 미터 값 테이블 생성
+-- timestamp 기준 일 단위 interval 파티션: 기간 조건 조회는 해당 파티션만 읽고,
+-- 보존 기간이 지난 날짜는 파티션 DROP으로 삭제 (MeterValueMaintenanceRepository)
+CREATE TABLE METER_VALUE (
+    id NUMBER PRIMARY KEY,
+    transaction_id NUMBER NOT NULL,
+    timestamp TIMESTAMP NOT NULL,
+    measurand VARCHAR2(50) NOT NULL,
+    value NUMBER(15,3) NOT NULL,
+    unit VARCHAR2(20),
+    phase VARCHAR2(10),
+    location VARCHAR2(20),
+    created_at DATE DEFAULT SYSDATE NOT NULL,
+    updated_at DATE DEFAULT SYSDATE NOT NULL
+)
+PARTITION BY RANGE (timestamp)
+INTERVAL (NUMTODSINTERVAL(1, 'DAY'))
+(PARTITION p_meter_value_initial VALUES LESS THAN (TIMESTAMP '2024-01-01 00:00:00'));
+
+-- 트랜잭션별 조회 / 키셋 페이지 조회용 로컬 인덱스 (파티션 DROP 시 인덱스 재구성 불필요)
+CREATE INDEX idx_meter_value_transaction
+ON METER_VALUE(transaction_id, timestamp, id) LOCAL;
+
+-- 기간 내 측정값 종류별 키셋 페이지 조회용 로컬 인덱스
+CREATE INDEX idx_meter_value_measurand
+ON METER_VALUE(measurand, timestamp, id) LOCAL;
+
+-- 미터 값 집계 테이블 생성 (1분 / 15분 구간 요약, 원본 삭제 후에도 유지)
+CREATE TABLE METER_VALUE_ROLLUP (
+    id NUMBER PRIMARY KEY,
+    transaction_id NUMBER NOT NULL,
+    measurand VARCHAR2(50) NOT NULL,
+    phase VARCHAR2(10),
+    bucket_minutes NUMBER(2) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    sample_count NUMBER(10) NOT NULL,
+    min_value NUMBER(15,3) NOT NULL,
+    max_value NUMBER(15,3) NOT NULL,
+    avg_value NUMBER(15,3) NOT NULL,
+    first_value NUMBER(15,3) NOT NULL,
+    last_value NUMBER(15,3) NOT NULL,
+    created_at DATE DEFAULT SYSDATE NOT NULL,
+    updated_at DATE DEFAULT SYSDATE NOT NULL
+);
+
+-- METER_VALUE_ROLLUP 복합 유니크 인덱스 생성 (같은 구간 중복 집계 방지)
+CREATE UNIQUE INDEX uk_meter_value_rollup
+ON METER_VALUE_ROLLUP(transaction_id, measurand, phase, bucket_minutes, bucket_start);
+
+-- 집계 진행 위치 조회용 인덱스
+CREATE INDEX idx_meter_value_rollup_bucket
+ON METER_VALUE_ROLLUP(bucket_minutes, bucket_start);
+
+-- 트랜잭션 이벤트 로그 테이블 생성 (append-only - 시작 / 상태 변경 / 종료 이력)
+CREATE TABLE TRANSACTION_EVENT_LOG (
+    id NUMBER PRIMARY KEY,
+    transaction_id VARCHAR2(50) NOT NULL,
+    event_type VARCHAR2(20) NOT NULL,
+    charging_state VARCHAR2(20),
+    station_id VARCHAR2(50),
+    evse_id NUMBER(10),
+    connector_id NUMBER(10),
+    id_token VARCHAR2(36),
+    stop_reason VARCHAR2(100),
+    occurred_at TIMESTAMP NOT NULL,
+    created_at DATE DEFAULT SYSDATE NOT NULL,
+    updated_at DATE DEFAULT SYSDATE NOT NULL
+);
+
+-- 트랜잭션별 이력 조회용 인덱스
+CREATE INDEX idx_transaction_event_log_tx
+ON TRANSACTION_EVENT_LOG(transaction_id, occurred_at);
+
+-- 스냅샷 이후 이벤트 재생용 인덱스
+CREATE INDEX idx_transaction_event_log_time
+ON TRANSACTION_EVENT_LOG(occurred_at);
+
+-- 진행 중인 세션 스냅샷 테이블 생성 (최근 스냅샷 하나만 유지)
+CREATE TABLE TRANSACTION_SNAPSHOT (
+    id NUMBER PRIMARY KEY,
+    taken_at TIMESTAMP NOT NULL,
+    session_count NUMBER(10) NOT NULL,
+    created_at DATE DEFAULT SYSDATE NOT NULL,
+    updated_at DATE DEFAULT SYSDATE NOT NULL
+);
+
+CREATE TABLE TRANSACTION_SNAPSHOT_SESSION (
+    id NUMBER PRIMARY KEY,
+    snapshot_id NUMBER NOT NULL,
+    transaction_id VARCHAR2(50) NOT NULL,
+    station_id VARCHAR2(50) NOT NULL,
+    evse_id NUMBER(10) NOT NULL,
+    connector_id NUMBER(10) NOT NULL,
+    id_token VARCHAR2(36) NOT NULL,
+    charging_state VARCHAR2(20),
+    start_time TIMESTAMP NOT NULL,
+    created_at DATE DEFAULT SYSDATE NOT NULL,
+    updated_at DATE DEFAULT SYSDATE NOT NULL
+);
+
+CREATE INDEX idx_transaction_snapshot_session
+ON TRANSACTION_SNAPSHOT_SESSION(snapshot_id);
+
 -- STATION 테이블 업데이트 트리거
 CREATE OR REPLACE TRIGGER trg_station_update
 BEFORE UPDATE ON STATION
@@ -76,6 +196,11 @@ END;
 COMMENT ON TABLE STATION IS '충전소 정보 테이블';
 COMMENT ON TABLE CHARGE_POINT IS '충전기 정보 테이블';
 COMMENT ON TABLE CONNECTOR IS '커넥터 정보 테이블';
+COMMENT ON TABLE METER_VALUE IS '미터 값 테이블 (일 단위 파티션)';
+COMMENT ON TABLE METER_VALUE_ROLLUP IS '미터 값 1분/15분 집계 테이블';
+COMMENT ON TABLE TRANSACTION_EVENT_LOG IS '트랜잭션 이벤트 로그 테이블 (append-only)';
+COMMENT ON TABLE TRANSACTION_SNAPSHOT IS '진행 중인 세션 스냅샷 테이블';
+COMMENT ON TABLE TRANSACTION_SNAPSHOT_SESSION IS '스냅샷 시점의 진행 중인 세션 테이블';
 
 -- STATION 컬럼 주석
 COMMENT ON COLUMN STATION.id IS 'ID';
@@ -0,0 +1,56 @@
+package com.charging.domain.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static com.charging.domain.enums.ConnectorStatusEnum.AVAILABLE;
+import static com.charging.domain.enums.ConnectorStatusEnum.FAULTED;
+import static com.charging.domain.enums.ConnectorStatusEnum.OCCUPIED;
+import static com.charging.domain.enums.ConnectorStatusEnum.RESERVED;
+import static com.charging.domain.enums.ConnectorStatusEnum.UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectorStatusEnumTest {
+
+    @ParameterizedTest
+    @EnumSource(ConnectorStatusEnum.class)
+    @DisplayName("같은 상태로의 전이는 항상 허용된다 (StatusNotification 재전송)")
+    void sameStatusIsAlwaysAllowed(ConnectorStatusEnum status) {
+        assertThat(status.canTransitionTo(status)).isTrue();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "AVAILABLE, OCCUPIED", "AVAILABLE, RESERVED", "AVAILABLE, UNAVAILABLE", "AVAILABLE, FAULTED",
+            "OCCUPIED, AVAILABLE", "OCCUPIED, UNAVAILABLE", "OCCUPIED, FAULTED",
+            "RESERVED, AVAILABLE", "RESERVED, OCCUPIED", "RESERVED, UNAVAILABLE", "RESERVED, FAULTED",
+            "UNAVAILABLE, AVAILABLE", "UNAVAILABLE, OCCUPIED", "UNAVAILABLE, FAULTED",
+            "FAULTED, AVAILABLE", "FAULTED, OCCUPIED", "FAULTED, UNAVAILABLE"
+    })
+    @DisplayName("전이 규칙에 있는 전이는 허용된다")
+    void allowedTransitions(ConnectorStatusEnum from, ConnectorStatusEnum to) {
+        assertThat(from.canTransitionTo(to)).isTrue();
+    }
+
+    @Test
+    @DisplayName("점유 / 사용 불가 / 고장 상태에서는 바로 예약 상태가 될 수 없다")
+    void cannotReserveFromBusyStates() {
+        assertThat(OCCUPIED.canTransitionTo(RESERVED)).isFalse();
+        assertThat(UNAVAILABLE.canTransitionTo(RESERVED)).isFalse();
+        assertThat(FAULTED.canTransitionTo(RESERVED)).isFalse();
+    }
+
+    @Test
+    @DisplayName("예약 상태를 제외하면 모든 상태 사이의 전이가 허용된다")
+    void onlyReservationIsRestricted() {
+        for (ConnectorStatusEnum from : ConnectorStatusEnum.values()) {
+            for (ConnectorStatusEnum to : ConnectorStatusEnum.values()) {
+                boolean expected = to != RESERVED || from == AVAILABLE || from == RESERVED;
+                assertThat(from.canTransitionTo(to)).as("%s -> %s", from, to).isEqualTo(expected);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.charging.domain.repository;
+
+import com.charging.domain.entity.Evse;
+import com.charging.domain.entity.Station;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시퀀스(pooled-lo) ID + JDBC 배치 INSERT 회귀 테스트
+ * IDENTITY 전략으로 돌아가면 INSERT마다 문장을 바로 실행하므로 준비한 SQL 문 수가 엔티티 수만큼 늘어납니다.
+ *
+ * dev 프로파일(H2, ddl-auto)의 스키마를 그대로 사용합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.orm.jdbc.bind=INFO"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("dev")
+class StationRepositoryBatchInsertTest {
+
+    private static final int EVSE_COUNT = 100;
+    // application.yml hibernate.jdbc.batch_size / 엔티티 @SequenceGenerator allocationSize
+    private static final int BATCH_SIZE = 20;
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private StationRepository stationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("EVSE N개를 저장하면 INSERT가 batch_size 단위로 묶이고 시퀀스는 allocationSize마다 한 번만 조회한다")
+    void insertsAreBatched() {
+        Station station = Station.builder()
+                .stationId("BATCH-STATION")
+                .powerGridCapacity(new BigDecimal("1000.00"))
+                .maxPriceLimit(new BigDecimal("500.00"))
+                .algorithmMode(0)
+                .timeExtensionFactor(new BigDecimal("1.00"))
+                .maxIterationCount(100)
+                .billingPowerId(1L)
+                .build();
+        for (int evseId = 1; evseId <= EVSE_COUNT; evseId++) {
+            station.addEvse(Evse.builder()
+                    .evseId(evseId)
+                    .maxPower(new BigDecimal("50.00"))
+                    .build());
+        }
+
+        stationRepository.save(station);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(EVSE_COUNT + 1);
+
+        // STATION INSERT 1 + EVSE INSERT 배치 + 시퀀스 조회 (STATION 1 + EVSE 블록 수)
+        long maxStatements = 1 + Math.ceilDiv(EVSE_COUNT, BATCH_SIZE) + 1 + Math.ceilDiv(EVSE_COUNT, ALLOCATION_SIZE);
+        assertThat(statistics.getPrepareStatementCount())
+                .as("준비한 SQL 문 수 (배치가 꺼지면 EVSE 수 이상)")
+                .isLessThanOrEqualTo(maxStatements)
+                .isLessThan(EVSE_COUNT);
+    }
+}
@@ -0,0 +1,119 @@
+package com.charging.service;
+
+import com.charging.domain.enums.ConnectorStatusEnum;
+import com.charging.domain.model.ConnectorTopology;
+import com.charging.domain.repository.ConnectorRepository;
+import com.charging.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConnectorAvailabilityIndexTest {
+
+    private static final String STATION_ID = "INDEX-STATION";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectorAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // 등록 순서와 관계없이 최대 전력 오름차순 슬롯에 배치됨 (같은 전력 22kW 두 개 포함)
+        ConnectorRepository connectorRepository = mock(ConnectorRepository.class);
+        when(connectorRepository.findAllTopology()).thenReturn(List.of(
+                connector(1, "50.00", ConnectorStatusEnum.AVAILABLE),
+                connector(2, "7.00", ConnectorStatusEnum.AVAILABLE),
+                connector(3, "22.00", ConnectorStatusEnum.OCCUPIED),
+                connector(4, "22.00", ConnectorStatusEnum.AVAILABLE),
+                connector(5, "100.00", ConnectorStatusEnum.FAULTED)));
+
+        meterRegistry = new SimpleMeterRegistry();
+        index = new ConnectorAvailabilityIndex(connectorRepository, meterRegistry);
+        index.afterSingletonsInstantiated();
+    }
+
+    @Test
+    @DisplayName("최소 전력 이상인 사용 가능 커넥터 중 최대 전력이 가장 작은 커넥터를 찾는다")
+    void findAvailableReturnsBestFit() {
+        assertThat(availableEvse(null)).isEqualTo(2);
+        assertThat(availableEvse("0")).isEqualTo(2);
+        assertThat(availableEvse("7.01")).isEqualTo(4);
+        assertThat(availableEvse("23")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최소 전력과 최대 전력이 같은 커넥터도 포함한다 (lowerBound 경계)")
+    void findAvailableIncludesExactMatch() {
+        assertThat(availableEvse("7.00")).isEqualTo(2);
+        assertThat(availableEvse("22.00")).isEqualTo(4);
+        assertThat(availableEvse("50.00")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조건을 만족하는 사용 가능 커넥터가 없으면 비어 있다")
+    void findAvailableEmptyBeyondLargest() {
+        // 100kW 커넥터는 고장, 그보다 큰 커넥터는 없음
+        assertThat(index.findAvailable(STATION_ID, new BigDecimal("51"))).isEmpty();
+        assertThat(index.findAvailable(STATION_ID, new BigDecimal("1000"))).isEmpty();
+        assertThat(index.findAvailable("UNKNOWN", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상태 전이가 반영되면 사용 가능 커넥터 조회 결과가 바뀐다")
+    void transitionUpdatesAvailability() {
+        assertThat(index.transition(STATION_ID, 2, 1, ConnectorStatusEnum.OCCUPIED))
+                .isEqualTo(ConnectorStatusEnum.AVAILABLE);
+        assertThat(availableEvse(null)).isEqualTo(4);
+
+        index.transition(STATION_ID, 3, 1, ConnectorStatusEnum.AVAILABLE);
+        assertThat(availableEvse("10")).isEqualTo(3);
+        assertThat(index.findByStatus(STATION_ID, ConnectorStatusEnum.OCCUPIED))
+                .extracting(ConnectorTopology::evseId)
+                .containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("전이 규칙에 없는 전이도 충전소가 보고한 상태로 반영하고 메트릭으로 집계한다")
+    void unexpectedTransitionIsAppliedAndCounted() {
+        ConnectorStatusEnum previous = index.transition(STATION_ID, 5, 1, ConnectorStatusEnum.RESERVED);
+
+        assertThat(previous).isEqualTo(ConnectorStatusEnum.FAULTED);
+        assertThat(index.findStatus(STATION_ID, 5, 1)).contains(ConnectorStatusEnum.RESERVED);
+        assertThat(meterRegistry.counter("charging.connector.status.unexpected.transitions",
+                "from", "FAULTED", "to", "RESERVED").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("허용된 전이는 메트릭으로 집계하지 않는다")
+    void allowedTransitionIsNotCounted() {
+        index.transition(STATION_ID, 1, 1, ConnectorStatusEnum.RESERVED);
+
+        assertThat(meterRegistry.find("charging.connector.status.unexpected.transitions").counters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("없는 커넥터의 상태 전이는 ResourceNotFoundException")
+    void transitionOfUnknownConnector() {
+        assertThatThrownBy(() -> index.transition(STATION_ID, 9, 1, ConnectorStatusEnum.AVAILABLE))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private Integer availableEvse(String minPower) {
+        return index.findAvailable(STATION_ID, minPower != null ? new BigDecimal(minPower) : null)
+                .map(ConnectorTopology::evseId)
+                .orElse(null);
+    }
+
+    private static ConnectorTopology connector(int evseId, String maxPower, ConnectorStatusEnum status) {
+        return new ConnectorTopology((long) evseId, STATION_ID, evseId, 1,
+                new BigDecimal(maxPower), BigDecimal.ZERO, status);
+    }
+}
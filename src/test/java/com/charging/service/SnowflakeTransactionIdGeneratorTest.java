@@ -0,0 +1,76 @@
+package com.charging.service;
+
+import com.charging.exception.ChargingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeTransactionIdGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 125_000;
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 100만 개를 생성해도 중복이 없고 스레드별로 단조 증가한다")
+    void uniqueAndMonotonicAcrossThreads() throws Exception {
+        SnowflakeTransactionIdGenerator generator = new SnowflakeTransactionIdGenerator(1);
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        List<Future<List<String>>> results = new ArrayList<>(THREADS);
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int thread = 0; thread < THREADS; thread++) {
+                results.add(executor.submit(() -> {
+                    startGate.await();
+                    List<String> ids = new ArrayList<>(IDS_PER_THREAD);
+                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                        ids.add(generator.generate());
+                    }
+                    return ids;
+                }));
+            }
+            startGate.countDown();
+        }
+
+        Set<String> all = new HashSet<>(THREADS * IDS_PER_THREAD);
+        for (Future<List<String>> result : results) {
+            List<String> ids = result.get();
+            for (int i = 1; i < ids.size(); i++) {
+                assertThat(ids.get(i)).isGreaterThan(ids.get(i - 1));
+            }
+            all.addAll(ids);
+        }
+        assertThat(all).hasSize(THREADS * IDS_PER_THREAD);
+    }
+
+    @Test
+    @DisplayName("인코딩한 문자열의 정렬 순서가 ID 순서와 같다")
+    void encodingPreservesOrder() {
+        assertThat(SnowflakeTransactionIdGenerator.encode(1L))
+                .isGreaterThan(SnowflakeTransactionIdGenerator.encode(0L));
+        assertThat(SnowflakeTransactionIdGenerator.encode(Long.MAX_VALUE))
+                .isGreaterThan(SnowflakeTransactionIdGenerator.encode(Long.MAX_VALUE - 1));
+        assertThat(SnowflakeTransactionIdGenerator.encode(Long.MIN_VALUE))
+                .isGreaterThan(SnowflakeTransactionIdGenerator.encode(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위를 벗어나면 생성할 수 없다")
+    void rejectsNodeIdOutOfRange() {
+        assertThatThrownBy(() -> new SnowflakeTransactionIdGenerator(
+                (int) SnowflakeTransactionIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(ChargingException.class);
+        assertThatThrownBy(() -> new SnowflakeTransactionIdGenerator(-1))
+                .isInstanceOf(ChargingException.class);
+    }
+}
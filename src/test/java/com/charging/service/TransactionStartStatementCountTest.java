@@ -0,0 +1,95 @@
+package com.charging.service;
+
+import com.charging.config.HibernateStatementCounter;
+import com.charging.domain.entity.Evse;
+import com.charging.domain.entity.Station;
+import com.charging.domain.repository.StationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 트랜잭션 시작 SQL 수 회귀 테스트
+ * 시작 경로가 EVSE의 트랜잭션 컬렉션을 초기화하면 이력이 쌓인 EVSE에서 SQL 수(또는 로드 행 수)가 늘어납니다.
+ *
+ * 시퀀스 블록(allocationSize 50) 경계에서는 시퀀스 조회가 한 번 더 실행되므로 연속 3회 시작 중 최솟값을 비교합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.orm.jdbc.bind=INFO",
+        "charging.sql.slow-query.enabled=false"
+})
+@ActiveProfiles("dev")
+class TransactionStartStatementCountTest {
+
+    private static final String STATION_ID = "COUNT-STATION";
+    private static final int EMPTY_EVSE = 1;
+    private static final int BUSY_EVSE = 2;
+    private static final int HISTORY_SIZE = 1_000;
+    private static final int SAMPLES = 3;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private StationRepository stationRepository;
+
+    @BeforeEach
+    void setUp() {
+        Station station = Station.builder()
+                .stationId(STATION_ID)
+                .powerGridCapacity(new BigDecimal("1000.00"))
+                .maxPriceLimit(new BigDecimal("500.00"))
+                .algorithmMode(0)
+                .timeExtensionFactor(new BigDecimal("1.00"))
+                .maxIterationCount(100)
+                .billingPowerId(1L)
+                .build();
+        station.addEvse(Evse.builder().evseId(EMPTY_EVSE).maxPower(new BigDecimal("50.00")).build());
+        station.addEvse(Evse.builder().evseId(BUSY_EVSE).maxPower(new BigDecimal("50.00")).build());
+        stationRepository.save(station);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 이력이 없는 EVSE와 1,000건 있는 EVSE에서 시작 SQL 수가 같다")
+    void startStatementCountDoesNotDependOnHistory() {
+        // 두 EVSE 모두 토폴로지 캐시 / 스마트 충전 상태를 한 번씩 채워 둠
+        startAndStop(EMPTY_EVSE);
+        startAndStop(BUSY_EVSE);
+
+        int withoutHistory = minStartStatements(EMPTY_EVSE);
+
+        for (int i = 0; i < HISTORY_SIZE; i++) {
+            startAndStop(BUSY_EVSE);
+        }
+        int withHistory = minStartStatements(BUSY_EVSE);
+
+        assertThat(withHistory).isEqualTo(withoutHistory);
+    }
+
+    private int minStartStatements(int evseId) {
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            HibernateStatementCounter.reset();
+            String transactionId = transactionService.startTransaction(
+                    evseId, STATION_ID, 1, "COUNT-TOKEN").getTransactionId();
+            min = Math.min(min, HibernateStatementCounter.get());
+            transactionService.stopTransaction(transactionId, "Local");
+        }
+        return min;
+    }
+
+    private void startAndStop(int evseId) {
+        String transactionId = transactionService.startTransaction(
+                evseId, STATION_ID, 1, "COUNT-TOKEN").getTransactionId();
+        transactionService.stopTransaction(transactionId, "Local");
+    }
+}
@@ -0,0 +1,237 @@
+package com.charging.service.smartcharging;
+
+import com.charging.domain.entity.ChargingProfile;
+import com.charging.domain.entity.ChargingSchedulePeriod;
+import com.charging.domain.enums.ChargingProfileKindEnum;
+import com.charging.domain.enums.ChargingProfilePurposeEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.charging.domain.enums.ChargingProfileKindEnum.ABSOLUTE;
+import static com.charging.domain.enums.ChargingProfileKindEnum.RECURRING;
+import static com.charging.domain.enums.ChargingProfileKindEnum.RELATIVE;
+import static com.charging.domain.enums.ChargingProfilePurposeEnum.CHARGE_POINT_MAX_PROFILE;
+import static com.charging.domain.enums.ChargingProfilePurposeEnum.TX_DEFAULT_PROFILE;
+import static com.charging.domain.enums.ChargingProfilePurposeEnum.TX_PROFILE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompositeScheduleCalculatorTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final int HOUR = 3_600;
+    private static final String TRANSACTION_ID = "TX-1";
+
+    private final CompositeScheduleCalculator calculator = new CompositeScheduleCalculator();
+
+    @Test
+    @DisplayName("TxProfile은 TxDefaultProfile을 대체하고, ChargingStationMaxProfile은 항상 상한으로 적용된다")
+    void purposePrecedence() {
+        List<ChargingProfile> profiles = List.of(
+                profile(TX_DEFAULT_PROFILE, 0, ABSOLUTE).period(0, "32").build(),
+                profile(TX_PROFILE, 0, ABSOLUTE).period(0, "16").build(),
+                profile(CHARGE_POINT_MAX_PROFILE, 0, ABSOLUTE).period(0, "20").build());
+
+        CompositeSchedule withTransaction = calculator.calculate(profiles, START, HOUR, TRANSACTION_ID, START);
+        assertPeriods(withTransaction, new int[]{0}, new double[]{16});
+
+        // 진행 중인 트랜잭션이 없으면 TxProfile은 제외 → min(20, 32)
+        CompositeSchedule withoutTransaction = calculator.calculate(profiles, START, HOUR, null, null);
+        assertPeriods(withoutTransaction, new int[]{0}, new double[]{20});
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션에 지정된 TxProfile은 적용되지 않는다")
+    void txProfileOfOtherTransactionIsIgnored() {
+        ChargingProfile other = profile(TX_PROFILE, 0, ABSOLUTE).transactionId("TX-OTHER").period(0, "8").build();
+
+        CompositeSchedule schedule = calculator.calculate(List.of(other), START, HOUR, TRANSACTION_ID, START);
+
+        assertThat(schedule.size()).isEqualTo(1);
+        assertThat(schedule.getLimit(0)).isNaN();
+    }
+
+    @Test
+    @DisplayName("같은 목적에서는 stackLevel이 높은 프로파일이 적용되고, 유효 구간 밖에서는 낮은 프로파일로 돌아간다")
+    void stackLevelFallback() {
+        List<ChargingProfile> profiles = List.of(
+                profile(TX_DEFAULT_PROFILE, 0, ABSOLUTE).period(0, "30").build(),
+                profile(TX_DEFAULT_PROFILE, 1, ABSOLUTE)
+                        .validFrom(START.plusSeconds(600))
+                        .validTo(START.plusSeconds(1_200))
+                        .period(0, "10").build());
+
+        CompositeSchedule schedule = calculator.calculate(profiles, START, HOUR, null, null);
+
+        assertPeriods(schedule, new int[]{0, 600, 1_200}, new double[]{30, 10, 30});
+    }
+
+    @Test
+    @DisplayName("validFrom / validTo는 스케줄 범위로 잘리고, 범위 밖 프로파일은 적용되지 않는다")
+    void validityClipping() {
+        ChargingProfile spanning = profile(TX_DEFAULT_PROFILE, 0, ABSOLUTE)
+                .validFrom(START.minusDays(1))
+                .validTo(START.plusDays(1))
+                .period(0, "11").build();
+        assertPeriods(calculator.calculate(List.of(spanning), START, HOUR, null, null),
+                new int[]{0}, new double[]{11});
+
+        ChargingProfile expired = profile(TX_DEFAULT_PROFILE, 0, ABSOLUTE)
+                .validFrom(START.minusDays(2))
+                .validTo(START.minusDays(1))
+                .period(0, "11").build();
+        CompositeSchedule schedule = calculator.calculate(List.of(expired), START, HOUR, null, null);
+        assertThat(schedule.size()).isEqualTo(1);
+        assertThat(schedule.getLimit(0)).isNaN();
+    }
+
+    @Test
+    @DisplayName("ABSOLUTE 프로파일은 startSchedule 기준 구간과 duration으로 적용된다")
+    void absoluteWithDuration() {
+        ChargingProfile profile = profile(TX_DEFAULT_PROFILE, 0, ABSOLUTE)
+                .startSchedule(START.plusSeconds(300))
+                .duration(1_800)
+                .period(0, "10")
+                .period(900, "20").build();
+
+        CompositeSchedule schedule = calculator.calculate(List.of(profile), START, HOUR, null, null);
+
+        assertPeriods(schedule, new int[]{0, 300, 1_200, 2_100},
+                new double[]{CompositeSchedule.NO_LIMIT, 10, 20, CompositeSchedule.NO_LIMIT});
+    }
+
+    @Test
+    @DisplayName("RELATIVE 프로파일은 트랜잭션 시작 시점 기준으로 적용된다")
+    void relativeToTransactionStart() {
+        ChargingProfile profile = profile(TX_PROFILE, 0, RELATIVE)
+                .period(0, "10")
+                .period(900, "20").build();
+
+        // 트랜잭션이 스케줄 시작 10분 전에 시작 → 스케줄 기준 300초부터 두 번째 구간
+        CompositeSchedule schedule = calculator.calculate(List.of(profile), START, HOUR,
+                TRANSACTION_ID, START.minusSeconds(600));
+
+        assertPeriods(schedule, new int[]{0, 300}, new double[]{10, 20});
+    }
+
+    @Test
+    @DisplayName("RECURRING 프로파일은 startSchedule부터 매일 반복된다")
+    void recurringDaily() {
+        // 매일 22:00부터 2시간
+        ChargingProfile profile = profile(TX_DEFAULT_PROFILE, 0, RECURRING)
+                .startSchedule(START.minusDays(3).withHour(22))
+                .duration(2 * HOUR)
+                .period(0, "5").build();
+
+        CompositeSchedule schedule = calculator.calculate(List.of(profile), START, 2 * 86_400, null, null);
+
+        assertPeriods(schedule, new int[]{0, 22 * HOUR, 24 * HOUR, 46 * HOUR},
+                new double[]{CompositeSchedule.NO_LIMIT, 5, CompositeSchedule.NO_LIMIT, 5});
+        assertThat(schedule.limitAt(START.plusHours(23))).isEqualTo(5);
+        assertThat(schedule.limitAt(START.plusHours(12))).isNaN();
+    }
+
+    @Test
+    @DisplayName("slice는 구간 시작을 잘라낸 시점 기준으로 다시 계산한다")
+    void slice() {
+        List<ChargingProfile> profiles = List.of(
+                profile(TX_DEFAULT_PROFILE, 0, ABSOLUTE).period(0, "30").build(),
+                profile(TX_DEFAULT_PROFILE, 1, ABSOLUTE)
+                        .validFrom(START.plusSeconds(600))
+                        .validTo(START.plusSeconds(1_200))
+                        .period(0, "10").build());
+        CompositeSchedule schedule = calculator.calculate(profiles, START, HOUR, null, null);
+
+        CompositeSchedule sliced = schedule.slice(START.plusSeconds(900), 600);
+        assertThat(sliced.getScheduleStart()).isEqualTo(START.plusSeconds(900));
+        assertThat(sliced.getDuration()).isEqualTo(600);
+        assertPeriods(sliced, new int[]{0, 300}, new double[]{10, 30});
+
+        // 한 구간 안쪽만 자르면 구간 하나
+        assertPeriods(schedule.slice(START.plusSeconds(700), 100), new int[]{0}, new double[]{10});
+
+        assertThat(schedule.covers(START.plusSeconds(3_000), 600)).isTrue();
+        assertThat(schedule.covers(START.plusSeconds(3_001), 600)).isFalse();
+        assertThat(schedule.covers(START.minusSeconds(1), 60)).isFalse();
+    }
+
+    private static void assertPeriods(CompositeSchedule schedule, int[] startPeriods, double[] limits) {
+        assertThat(schedule.size()).isEqualTo(startPeriods.length);
+        for (int i = 0; i < startPeriods.length; i++) {
+            assertThat(schedule.getStartPeriod(i)).as("startPeriod[%d]", i).isEqualTo(startPeriods[i]);
+            if (Double.isNaN(limits[i])) {
+                assertThat(schedule.getLimit(i)).as("limit[%d]", i).isNaN();
+            } else {
+                assertThat(schedule.getLimit(i)).as("limit[%d]", i).isEqualTo(limits[i]);
+            }
+        }
+    }
+
+    private static ProfileBuilder profile(ChargingProfilePurposeEnum purpose, int stackLevel,
+                                          ChargingProfileKindEnum kind) {
+        return new ProfileBuilder(ChargingProfile.builder()
+                .chargingProfileId(stackLevel)
+                .stationId("SCHEDULE-STATION")
+                .evseId(1)
+                .stackLevel(stackLevel)
+                .chargingProfilePurpose(purpose)
+                .chargingProfileKind(kind)
+                .chargingRateUnit("W"));
+    }
+
+    /**
+     * 테스트용 프로파일 빌더 (스케줄 구간 추가)
+     */
+    private static final class ProfileBuilder {
+
+        private final ChargingProfile.ChargingProfileBuilder builder;
+        private final List<ChargingSchedulePeriod> periods = new ArrayList<>();
+
+        private ProfileBuilder(ChargingProfile.ChargingProfileBuilder builder) {
+            this.builder = builder;
+        }
+
+        ProfileBuilder validFrom(LocalDateTime validFrom) {
+            builder.validFrom(validFrom);
+            return this;
+        }
+
+        ProfileBuilder validTo(LocalDateTime validTo) {
+            builder.validTo(validTo);
+            return this;
+        }
+
+        ProfileBuilder startSchedule(LocalDateTime startSchedule) {
+            builder.startSchedule(startSchedule);
+            return this;
+        }
+
+        ProfileBuilder duration(int duration) {
+            builder.duration(duration);
+            return this;
+        }
+
+        ProfileBuilder transactionId(String transactionId) {
+            builder.transactionId(transactionId);
+            return this;
+        }
+
+        ProfileBuilder period(int startPeriod, String limit) {
+            periods.add(ChargingSchedulePeriod.builder()
+                    .startPeriod(startPeriod)
+                    .limit(new BigDecimal(limit))
+                    .build());
+            return this;
+        }
+
+        ChargingProfile build() {
+            ChargingProfile profile = builder.build();
+            periods.forEach(profile::addSchedulePeriod);
+            return profile;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.charging.service.smartcharging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class EqualShareAllocationTest {
+
+    private final AllocationAlgorithm algorithm = new EqualShareAllocation();
+
+    @Test
+    @DisplayName("최소 전력 합이 용량을 넘으면 먼저 시작한 세션부터 최소 전력만 보장하고 나머지는 0")
+    void overloadedKeepsMinimumsInStartOrder() {
+        double[] result = allocate(10, new double[]{6, 6, 6}, new double[]{20, 20, 20}, 10);
+
+        assertThat(result).containsExactly(6, 0, 0);
+    }
+
+    @Test
+    @DisplayName("균등 몫이 최대 전력을 넘는 세션은 포화시키고 남는 전력을 다른 세션에 다시 나눈다")
+    void saturatedSessionsReleaseHeadroom() {
+        double[] result = allocate(30, new double[]{0, 0, 0}, new double[]{5, 20, 20}, 10);
+
+        assertThat(result).containsExactly(5, 12.5, 12.5);
+    }
+
+    @Test
+    @DisplayName("최소 전력을 보장한 뒤 남은 용량을 균등하게 나눈다")
+    void minimumsFirst() {
+        double[] result = allocate(20, new double[]{8, 2}, new double[]{20, 20}, 10);
+
+        assertThat(result).containsExactly(13, 7);
+    }
+
+    @Test
+    @DisplayName("maxIterations에 걸리면 재분배를 멈추되 최대 전력과 용량은 넘지 않는다")
+    void maxIterationsCutoff() {
+        double[] min = {0, 0, 0};
+        double[] max = {4, 11, 100};
+
+        // 1회: 몫 10 → 세션 0 포화, 남은 26을 둘로 나눠 세션 1은 최대 11로 잘리고 2만큼 남음
+        double[] cutoff = allocate(30, min, max, 1);
+        assertThat(cutoff).containsExactly(4, 11, 13);
+        assertThat(Arrays.stream(cutoff).sum()).isLessThan(30);
+
+        // 충분히 반복하면 세션 1도 포화되어 남는 전력이 세션 2로 감
+        double[] converged = allocate(30, min, max, 10);
+        assertThat(converged).containsExactly(4, 11, 15);
+        assertThat(Arrays.stream(converged).sum()).isCloseTo(30, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("모든 세션이 포화되면 남는 용량은 할당하지 않는다")
+    void allSaturated() {
+        double[] result = allocate(100, new double[]{1, 1}, new double[]{7, 11}, 10);
+
+        assertThat(result).containsExactly(7, 11);
+    }
+
+    private double[] allocate(double capacity, double[] min, double[] max, int maxIterations) {
+        double[] result = new double[min.length];
+        algorithm.allocate(capacity, min, max, min.length, maxIterations, result);
+        return result;
+    }
+}
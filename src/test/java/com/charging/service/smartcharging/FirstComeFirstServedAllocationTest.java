@@ -0,0 +1,49 @@
+package com.charging.service.smartcharging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FirstComeFirstServedAllocationTest {
+
+    private final AllocationAlgorithm algorithm = new FirstComeFirstServedAllocation();
+
+    @Test
+    @DisplayName("먼저 시작한 세션부터 최대 전력까지 할당하고 마지막 세션은 남은 용량만 받는다")
+    void fillsInStartOrder() {
+        double[] result = allocate(25, new double[]{0, 0, 0}, new double[]{10, 10, 10});
+
+        assertThat(result).containsExactly(10, 10, 5);
+    }
+
+    @Test
+    @DisplayName("남은 용량이 최소 전력보다 적은 세션은 0이고, 뒤의 세션은 계속 할당받을 수 있다")
+    void skipsSessionBelowMinimum() {
+        double[] result = allocate(15, new double[]{5, 8, 3}, new double[]{10, 10, 10});
+
+        assertThat(result).containsExactly(10, 0, 5);
+    }
+
+    @Test
+    @DisplayName("용량이 남아도 세션별 최대 전력은 넘지 않는다")
+    void saturatesAtMaximum() {
+        double[] result = allocate(100, new double[]{1, 1}, new double[]{7, 11});
+
+        assertThat(result).containsExactly(7, 11);
+    }
+
+    @Test
+    @DisplayName("첫 세션의 최소 전력도 보장할 수 없으면 모든 세션이 0")
+    void overloaded() {
+        double[] result = allocate(4, new double[]{6, 6}, new double[]{10, 10});
+
+        assertThat(result).containsExactly(0, 0);
+    }
+
+    private double[] allocate(double capacity, double[] min, double[] max) {
+        double[] result = new double[min.length];
+        algorithm.allocate(capacity, min, max, min.length, 1, result);
+        return result;
+    }
+}
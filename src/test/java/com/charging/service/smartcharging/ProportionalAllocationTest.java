@@ -0,0 +1,64 @@
+package com.charging.service.smartcharging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ProportionalAllocationTest {
+
+    private final AllocationAlgorithm algorithm = new ProportionalAllocation();
+
+    @Test
+    @DisplayName("최소 전력 합이 용량을 넘으면 먼저 시작한 세션부터 최소 전력만 보장하고 나머지는 0")
+    void overloadedKeepsMinimumsInStartOrder() {
+        double[] result = allocate(10, new double[]{6, 6, 6}, new double[]{20, 20, 20}, 10);
+
+        assertThat(result).containsExactly(6, 0, 0);
+    }
+
+    @Test
+    @DisplayName("최소 전력을 보장한 뒤 남은 용량을 여유 전력(최대 - 최소)에 비례하여 나눈다")
+    void proportionalToHeadroom() {
+        double[] result = allocate(20, new double[]{2, 2}, new double[]{10, 20}, 10);
+
+        double ratio = 16.0 / 26.0;
+        assertThat(result[0]).isCloseTo(2 + 8 * ratio, within(1e-9));
+        assertThat(result[1]).isCloseTo(2 + 18 * ratio, within(1e-9));
+        assertThat(Arrays.stream(result).sum()).isCloseTo(20, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("용량이 여유 전력 합보다 크면 모든 세션이 최대 전력으로 포화된다")
+    void saturatesAtMaximum() {
+        double[] result = allocate(100, new double[]{1, 1}, new double[]{7, 11}, 10);
+
+        assertThat(result).containsExactly(7, 11);
+    }
+
+    @Test
+    @DisplayName("maxIterations와 관계없이 한 번에 같은 결과를 계산한다")
+    void ignoresMaxIterations() {
+        double[] min = {1, 3, 0};
+        double[] max = {4, 11, 100};
+
+        assertThat(allocate(30, min, max, 1)).containsExactly(allocate(30, min, max, 50));
+    }
+
+    @Test
+    @DisplayName("여유 전력이 없는 세션은 최소 전력만 할당한다")
+    void noHeadroom() {
+        double[] result = allocate(20, new double[]{5, 5}, new double[]{5, 5}, 10);
+
+        assertThat(result).containsExactly(5, 5);
+    }
+
+    private double[] allocate(double capacity, double[] min, double[] max, int maxIterations) {
+        double[] result = new double[min.length];
+        algorithm.allocate(capacity, min, max, min.length, maxIterations, result);
+        return result;
+    }
+}